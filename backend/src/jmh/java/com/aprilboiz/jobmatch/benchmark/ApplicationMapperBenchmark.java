@@ -0,0 +1,58 @@
+package com.aprilboiz.jobmatch.benchmark;
+
+import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
+import com.aprilboiz.jobmatch.dto.response.JobResponse;
+import com.aprilboiz.jobmatch.enumerate.SalaryType;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapper;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapperImpl;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Entity to response mapping for the job listing and application detail endpoints,
+ * plus the salary text shown with every job.
+ */
+@State(Scope.Benchmark)
+public class ApplicationMapperBenchmark {
+
+    @Param({"RANGE", "FIXED", "NEGOTIABLE"})
+    public SalaryType salaryType;
+
+    private ApplicationMapper mapper;
+    private Job job;
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        mapper = new ApplicationMapperImpl();
+        job = Fixtures.job();
+        job.setSalaryType(salaryType);
+        if (salaryType == SalaryType.FIXED) {
+            job.setMaxSalary(null);
+        } else if (salaryType == SalaryType.NEGOTIABLE) {
+            job.setMinSalary(null);
+            job.setMaxSalary(null);
+        }
+        application = Fixtures.application(job);
+    }
+
+    @Benchmark
+    public JobResponse jobToJobResponse() {
+        return mapper.jobToJobResponse(job);
+    }
+
+    @Benchmark
+    public ApplicationDetailResponse applicationToApplicationDetailResponse() {
+        return mapper.applicationToApplicationDetailResponse(application);
+    }
+
+    @Benchmark
+    public String formattedSalary() {
+        return job.getFormattedSalary();
+    }
+}
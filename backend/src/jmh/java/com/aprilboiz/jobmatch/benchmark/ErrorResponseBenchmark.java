@@ -0,0 +1,60 @@
+package com.aprilboiz.jobmatch.benchmark;
+
+import com.aprilboiz.jobmatch.exception.ApiResponse;
+import com.aprilboiz.jobmatch.exception.GlobalExceptionHandler;
+import com.aprilboiz.jobmatch.exception.NotFoundException;
+import com.aprilboiz.jobmatch.service.MessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+
+/**
+ * Message lookup in the request's language and the error responses built from it. The
+ * exception is constructed inside the benchmark, since filling in its stack trace is
+ * part of what a failing request pays.
+ */
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    @Param({"en", "vi"})
+    public String acceptLanguage;
+
+    private MessageService messageService;
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Setup
+    public void setUp() {
+        messageService = Fixtures.messageService(acceptLanguage);
+        exceptionHandler = new GlobalExceptionHandler(messageService);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return messageService.getMessage("error.not.found.cv");
+    }
+
+    @Benchmark
+    public String getMessageWithArguments() {
+        return messageService.getMessage("error.not.found.job", 42L);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> notFound() {
+        return exceptionHandler.handleNotFoundException(
+                new NotFoundException(messageService.getMessage("error.not.found.job", 42L)));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> accessDenied() {
+        return exceptionHandler.handleAccessDeniedException(new AccessDeniedException(null));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> unexpectedError() {
+        return exceptionHandler.handleGeneralException(new IllegalStateException("Connection reset"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.aprilboiz.jobmatch.benchmark;
+
+import com.aprilboiz.jobmatch.config.InternationalizationConfig;
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.enumerate.SalaryType;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.impl.MessageServiceImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Objects shaped like the ones a request handles, built without a Spring context so a
+ * benchmark measures the code under test rather than the container.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * The message service as wired in the application, with the request context an
+     * incoming call would have bound on the benchmark thread.
+     */
+    static MessageService messageService(String acceptLanguage) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (acceptLanguage != null) {
+            request.addHeader("Accept-Language", acceptLanguage);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        InternationalizationConfig config = new InternationalizationConfig();
+        return new MessageServiceImpl(config.messageSource(), config.localeResolver());
+    }
+
+    static Job job() {
+        Company company = Company.builder()
+                .id(7L)
+                .name("Acme Software")
+                .address("12 Nguyen Hue, District 1, Ho Chi Minh City")
+                .industry("Software")
+                .build();
+
+        Recruiter recruiter = new Recruiter();
+        recruiter.setId(11L);
+        recruiter.setEmail("recruiter@acme.example");
+        recruiter.setFullName("Tran Minh");
+        recruiter.setCompany(company);
+        recruiter.setRole(role(RoleName.RECRUITER));
+
+        Job job = Job.builder()
+                .id(42L)
+                .title("Senior Backend Engineer")
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(JobCategory.builder().id(3).name("Software Development").isActive(true).build())
+                .salaryType(SalaryType.RANGE)
+                .minSalary(new BigDecimal("60000"))
+                .maxSalary(new BigDecimal("90000"))
+                .currency(CurrencyType.USD)
+                .salaryPeriod(PeriodType.ANNUAL)
+                .numberOfOpenings(2)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .description("Build and run the services behind our hiring platform. ".repeat(20))
+                .location("Ho Chi Minh City")
+                .latitude(10.7769)
+                .longitude(106.7009)
+                .skills(new LinkedHashSet<>(List.of("Java", "Spring Boot", "PostgreSQL", "Redis", "Docker", "Kubernetes")))
+                .company(company)
+                .recruiter(recruiter)
+                .build();
+        job.setCreatedAt(LocalDateTime.now().minusDays(3));
+        job.setUpdatedAt(LocalDateTime.now().minusDays(1));
+        return job;
+    }
+
+    static Application application(Job job) {
+        Candidate candidate = new Candidate();
+        candidate.setId(21L);
+        candidate.setEmail("candidate@example.com");
+        candidate.setFullName("Nguyen An");
+        candidate.setPhoneNumber("+84901234567");
+        candidate.setRole(role(RoleName.CANDIDATE));
+
+        CV cv = new CV();
+        cv.setId(31L);
+        cv.setFileName("nguyen-an.pdf");
+        cv.setFilePath("cv/nguyen-an.pdf");
+        cv.setFileType("application/pdf");
+        cv.setFileSize("183422");
+        cv.setCandidate(candidate);
+
+        Analysis analysis = Analysis.builder()
+                .id(51L)
+                .score(0.82)
+                .matchSkills("Java, Spring Boot, PostgreSQL")
+                .missingSkills("Kubernetes")
+                .createdAt(LocalDateTime.now().minusHours(5))
+                .build();
+
+        Application application = Application.builder()
+                .id(61L)
+                .job(job)
+                .cv(cv)
+                .candidate(candidate)
+                .analysis(analysis)
+                .status(ApplicationStatus.IN_REVIEW)
+                .coverLetter("I have built Spring services for five years and would like to join the team. ".repeat(5))
+                .build();
+        application.setCreatedAt(LocalDateTime.now().minusDays(1));
+        return application;
+    }
+
+    private static Role role(RoleName name) {
+        Role role = new Role();
+        role.setId((long) name.ordinal() + 1);
+        role.setName(name);
+        return role;
+    }
+}
@@ -0,0 +1,53 @@
+package com.aprilboiz.jobmatch.benchmark;
+
+import com.aprilboiz.jobmatch.service.impl.JwtServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Token work done on every authenticated request (validate and read the subject in
+ * the filter) and on every login or refresh (generate).
+ */
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    // The development default from application.yml
+    private static final String SECRET_KEY = "7e28991c10c1f5294a74dbcab40b23d77a291c612692b97eb8f8c3d67c6d0e0507059122d8cb52b9ca009b214b83977cf4d4d7472d924c745102f1e18497df05";
+
+    private JwtServiceImpl jwtService;
+    private UserDetails user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl(Fixtures.messageService(null));
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 7200L);
+        user = User.withUsername("candidate@example.com")
+                .password("unused")
+                .authorities("ROLE_CANDIDATE")
+                .build();
+        accessToken = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(accessToken);
+    }
+}
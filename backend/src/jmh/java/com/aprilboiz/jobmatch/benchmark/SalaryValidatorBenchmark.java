@@ -0,0 +1,74 @@
+package com.aprilboiz.jobmatch.benchmark;
+
+import com.aprilboiz.jobmatch.annotation.validator.SalaryValidator;
+import com.aprilboiz.jobmatch.dto.SalaryDto;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.enumerate.SalaryType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * The salary check that runs on every job create and update: the validator on its own
+ * for an accepted salary, and through Bean Validation for a rejected one, where the
+ * custom violation message is built.
+ */
+@State(Scope.Benchmark)
+public class SalaryValidatorBenchmark {
+
+    private SalaryValidator salaryValidator;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private SalaryDto validRange;
+    private SalaryDto invertedRange;
+
+    @Setup
+    public void setUp() {
+        salaryValidator = new SalaryValidator();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRange = salary(new BigDecimal("60000"), new BigDecimal("90000"));
+        invertedRange = salary(new BigDecimal("90000"), new BigDecimal("60000"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        // An accepted salary never touches the context
+        return salaryValidator.isValid(validRange, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SalaryDto>> validateAccepted() {
+        return validator.validate(validRange);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SalaryDto>> validateRejected() {
+        return validator.validate(invertedRange);
+    }
+
+    private static SalaryDto salary(BigDecimal min, BigDecimal max) {
+        return SalaryDto.builder()
+                .salaryType(SalaryType.RANGE)
+                .minSalary(min)
+                .maxSalary(max)
+                .currency(CurrencyType.USD)
+                .salaryPeriod(PeriodType.ANNUAL)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stands in for the Python cv_match_API on a local port: {@code /match-files},
+ * {@code /match} and {@code /health}. Each analysis waits for a log-normal latency fitted
+ * to the configured median and 99th percentile, and a configured share of calls fail
+ * with a 503, so the backend's timeout and error paths see realistic traffic.
+ * <p>
+ * Latencies come from a seeded generator, so two runs with the same seed and request
+ * order draw the same sequence.
+ */
+public class AiServiceStub implements AutoCloseable {
+
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private static final String MATCH_RESPONSE = """
+            {"similarity_score":%.1f,"match_score":%.1f,"doc2vec_similarity":%.3f,"sbert_similarity":%.3f,\
+            "recommendation":"Good match","method_used":"stub","confidence_level":"medium",\
+            "method_reliability":"stub","match_skills":"Java, Spring Boot","missing_skills":"Kubernetes"}""";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SplittableRandom random;
+    private final double mu;
+    private final double sigma;
+    private final double failureRate;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public AiServiceStub(Duration medianLatency, Duration p99Latency, double failureRate, long seed) throws IOException {
+        this.mu = Math.log(Math.max(1, medianLatency.toMillis()));
+        this.sigma = Math.max(0, Math.log((double) Math.max(p99Latency.toMillis(), medianLatency.toMillis())
+                / Math.max(1, medianLatency.toMillis())) / Z_99);
+        this.failureRate = failureRate;
+        this.random = new SplittableRandom(seed);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 200);
+        server.setExecutor(executor);
+        server.createContext("/health", exchange -> respond(exchange, 200, "{\"status\":\"healthy\"}"));
+        server.createContext("/match-files", this::match);
+        server.createContext("/match", this::match);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    private void match(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        long latency;
+        boolean fail;
+        double score;
+        synchronized (random) {
+            latency = Math.round(Math.exp(mu + sigma * gaussian()));
+            fail = random.nextDouble() < failureRate;
+            score = 40 + random.nextDouble() * 55;
+        }
+        calls.incrementAndGet();
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (fail) {
+            failures.incrementAndGet();
+            respond(exchange, 503, "{\"detail\":\"model overloaded\"}");
+            return;
+        }
+        respond(exchange, 200, String.format(Locale.ROOT, MATCH_RESPONSE, score, score, score / 100, score / 100));
+    }
+
+    // Box-Muller; the caller holds the lock on random
+    private double gaussian() {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
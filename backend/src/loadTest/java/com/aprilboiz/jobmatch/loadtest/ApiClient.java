@@ -0,0 +1,127 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP calls against the running backend, each timed and recorded in the
+ * {@link LoadReport} under its step name. A transport failure is recorded with
+ * status 0 instead of failing the caller.
+ */
+public class ApiClient {
+
+    public record Response(int status, String body) {
+        public boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final LoadReport report;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public ApiClient(String baseUrl, LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.report = report;
+    }
+
+    public Response get(String step, String path, String token) {
+        return send(step, request(path, token).GET());
+    }
+
+    /**
+     * A GET whose body is read and thrown away, for file downloads.
+     */
+    public Response download(String step, String path, String token) {
+        return send(step, request(path, token).GET(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    public Response post(String step, String path, String token, Object body) {
+        return send(step, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body))));
+    }
+
+    public Response put(String step, String path, String token) {
+        return send(step, request(path, token).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    public Response upload(String step, String path, String token, String fileName, String contentType, byte[] content) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[head.length + content.length + tail.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(content, 0, body, head.length, content.length);
+        System.arraycopy(tail, 0, body, head.length + content.length, tail.length);
+        return send(step, request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body)));
+    }
+
+    /**
+     * The {@code data} node of the backend's ApiResponse envelope.
+     */
+    public JsonNode data(Response response) {
+        try {
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            throw new IllegalStateException("Response is not JSON: " + response.body(), e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(String step, HttpRequest.Builder builder) {
+        return send(step, builder, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Response send(String step, HttpRequest.Builder builder, HttpResponse.BodyHandler<?> bodyHandler) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<?> response = httpClient.send(builder.build(), bodyHandler);
+            report.record(step, System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), response.body() instanceof String body ? body : null);
+        } catch (IOException e) {
+            report.record(step, System.nanoTime() - start, 0);
+            return new Response(0, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, e.toString());
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
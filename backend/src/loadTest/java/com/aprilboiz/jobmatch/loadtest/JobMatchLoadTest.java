@@ -0,0 +1,326 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.repository.CompanyRepository;
+import com.aprilboiz.jobmatch.repository.RoleRepository;
+import com.aprilboiz.jobmatch.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application on a random port against an embedded Postgres (or
+ * LOADTEST_POSTGRES_URL), a {@link RedisStandIn} and an {@link AiServiceStub}, creates
+ * recruiters, jobs, candidates and CVs through the API, then runs the scenario mix with
+ * closed-loop virtual users. Latency percentiles and throughput per scenario and per
+ * request are printed and written to summary.json.
+ * <p>
+ * Not part of {@code test}: run it with {@code ./gradlew loadTest}.
+ */
+// Logging is set up before dynamic properties apply, so its overrides go here
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.file.path=build/reports/loadtest/logs",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "logging.level.com.aprilboiz.jobmatch=WARN"
+})
+class JobMatchLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(JobMatchLoadTest.class);
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final String PASSWORD = "loadtest123";
+
+    private static EmbeddedPostgres postgres;
+    private static RedisStandIn redis;
+    private static AiServiceStub aiService;
+    private static Path workDir;
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) throws IOException {
+        workDir = Files.createTempDirectory("jobmatch-loadtest");
+        redis = new RedisStandIn();
+        aiService = new AiServiceStub(SETTINGS.aiMedianLatency(), SETTINGS.aiP99Latency(),
+                SETTINGS.aiFailureRate(), SETTINGS.seed());
+        if (SETTINGS.postgresUrl() != null && !SETTINGS.postgresUrl().isBlank()) {
+            registry.add("spring.datasource.url", SETTINGS::postgresUrl);
+        } else {
+            postgres = EmbeddedPostgres.builder().start();
+            registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+            registry.add("spring.datasource.username", () -> "postgres");
+            registry.add("spring.datasource.password", () -> "");
+        }
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", redis::port);
+        registry.add("spring.data.redis.password", () -> "");
+        registry.add("redis.pubsub.enabled", () -> "false");
+        registry.add("ai-service.base-url", aiService::baseUrl);
+        registry.add("storage.location", () -> workDir.resolve("files").toString());
+    }
+
+    @AfterAll
+    static void stopInfrastructure() throws IOException {
+        aiService.close();
+        redis.close();
+        if (postgres != null) {
+            postgres.close();
+        }
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void scenarioMix() throws Exception {
+        LoadReport report = new LoadReport();
+        ApiClient api = new ApiClient("http://localhost:" + port, report);
+        // Emails stay unique when LOADTEST_POSTGRES_URL points at a database used before
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        SplittableRandom random = new SplittableRandom(SETTINGS.seed());
+
+        long setupStart = System.nanoTime();
+        List<Workload.RecruiterUser> recruiters = createRecruiters(api, run);
+        List<Workload.PostedJob> jobs = postJobs(api, recruiters, random);
+        List<Workload.CandidateUser> candidates = createCandidates(api, run);
+        log.info("Created {} recruiters, {} jobs and {} candidates in {} s", recruiters.size(),
+                jobs.size(), candidates.size(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - setupStart));
+
+        Workload workload = new Workload(api, report, candidates, recruiters, jobs);
+        runUsers(workload, report);
+
+        log.info("Load test results:{}{}", System.lineSeparator(), report.table());
+        log.info("AI stub: {} calls, {} failed", aiService.calls(), aiService.failures());
+        long streamed = redis.streamLength("jobmatch:events");
+        log.info("Outbox stream: {} events", streamed);
+        writeSummary(report);
+
+        for (Scenario scenario : Scenario.values()) {
+            if (SETTINGS.mix().get(scenario) > 0) {
+                assertThat(report.completed(scenario.key())).as(scenario.key() + " runs").isPositive();
+                assertThat(report.errorRate(scenario.key())).as(scenario.key() + " error rate")
+                        .isLessThanOrEqualTo(SETTINGS.maxErrorRate());
+            }
+        }
+        // Every posted job has been relayed long before the run ends
+        assertThat(streamed).as("outbox events on the stream").isGreaterThanOrEqualTo(jobs.size());
+    }
+
+    private void runUsers(Workload workload, LoadReport report) throws InterruptedException {
+        List<Scenario> weighted = new ArrayList<>();
+        SETTINGS.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        });
+        long end = System.nanoTime() + SETTINGS.warmup().toNanos() + SETTINGS.duration().toNanos();
+        ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < SETTINGS.users(); i++) {
+            SplittableRandom random = new SplittableRandom(SETTINGS.seed() + i + 1);
+            users.submit(() -> {
+                while (System.nanoTime() < end) {
+                    workload.run(Workload.pick(weighted, random), random);
+                    if (!SETTINGS.thinkTime().isZero()) {
+                        Thread.sleep(SETTINGS.thinkTime());
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(SETTINGS.warmup());
+        report.startMeasuring();
+        Thread.sleep(SETTINGS.duration());
+        report.stopMeasuring();
+        users.shutdown();
+        users.awaitTermination(2, TimeUnit.MINUTES);
+    }
+
+    private List<Workload.RecruiterUser> createRecruiters(ApiClient api, String run) throws Exception {
+        Role role = roleRepository.findByName(RoleName.RECRUITER).orElseThrow();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < SETTINGS.recruiters(); i++) {
+            Company company = companyRepository.save(Company.builder()
+                    .name("Loadtest Company " + run + "-" + i)
+                    .address(Workload.LOCATIONS.get(i % Workload.LOCATIONS.size()))
+                    .companySize("50-200")
+                    .industry("Software")
+                    .build());
+            String email = "recruiter-" + run + "-" + i + "@loadtest.example";
+            userRepository.save(Recruiter.builder()
+                    .email(email)
+                    .password(passwordHash)
+                    .fullName("Recruiter " + i)
+                    .phoneNumber("0900000000")
+                    .isActive(true)
+                    .role(role)
+                    .company(company)
+                    .build());
+            emails.add(email);
+        }
+        return inParallel(emails, email -> new Workload.RecruiterUser(login(api, email)));
+    }
+
+    private List<Workload.PostedJob> postJobs(ApiClient api, List<Workload.RecruiterUser> recruiters,
+                                              SplittableRandom random) throws Exception {
+        List<Callable<Workload.PostedJob>> posts = new ArrayList<>();
+        for (Workload.RecruiterUser recruiter : recruiters) {
+            for (int i = 0; i < SETTINGS.jobsPerRecruiter(); i++) {
+                String keyword = Workload.pick(Workload.KEYWORDS, random);
+                String location = Workload.pick(Workload.LOCATIONS, random);
+                int minSalary = 20_000 + random.nextInt(60) * 1_000;
+                Map<String, Object> job = new LinkedHashMap<>();
+                job.put("title", keyword + " Engineer " + (i + 1));
+                job.put("jobType", "FULL_TIME");
+                job.put("jobCategory", 1 + random.nextInt(12));
+                job.put("salary", Map.of("salaryType", "RANGE", "minSalary", minSalary,
+                        "maxSalary", minSalary + 20_000, "currency", "USD", "salaryPeriod", "ANNUAL"));
+                // Applications are capped at the openings; room for every candidate keeps the cap out of the error rate
+                job.put("openings", SETTINGS.candidates());
+                job.put("applicationDeadline", LocalDate.now().plusMonths(2).toString());
+                job.put("description", ("We are hiring a " + keyword + " engineer in " + location + ". ").repeat(10));
+                job.put("location", location);
+                job.put("skills", List.of(keyword, "Git", "SQL"));
+                posts.add(() -> {
+                    ApiClient.Response response = api.post("setup:job", "/api/jobs", recruiter.token(), job);
+                    assertThat(response.ok()).as("post job: " + response.body()).isTrue();
+                    return new Workload.PostedJob(api.data(response).path("id").asLong(), recruiter);
+                });
+            }
+        }
+        return inParallel(posts);
+    }
+
+    private List<Workload.CandidateUser> createCandidates(ApiClient api, String run) throws Exception {
+        Role role = roleRepository.findByName(RoleName.CANDIDATE).orElseThrow();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < SETTINGS.candidates(); i++) {
+            String email = "candidate-" + run + "-" + i + "@loadtest.example";
+            userRepository.save(Candidate.builder()
+                    .email(email)
+                    .password(passwordHash)
+                    .fullName("Candidate " + i)
+                    .phoneNumber("0910000000")
+                    .isActive(true)
+                    .role(role)
+                    .build());
+            emails.add(email);
+        }
+        return inParallel(emails, email -> {
+            String token = login(api, email);
+            byte[] cv = ("%PDF-1.4\n% CV of " + email + "\n" + "Experienced engineer. ".repeat(2000))
+                    .getBytes(StandardCharsets.UTF_8);
+            ApiClient.Response response = api.upload("setup:cv", "/api/cvs", token,
+                    email.replace('@', '_') + ".pdf", "application/pdf", cv);
+            assertThat(response.ok()).as("upload CV: " + response.body()).isTrue();
+            return new Workload.CandidateUser(token, api.data(response).path("id").asLong());
+        });
+    }
+
+    private String login(ApiClient api, String email) {
+        ApiClient.Response response = api.post("setup:login", "/api/auth/login", null,
+                Map.of("email", email, "password", PASSWORD));
+        assertThat(response.ok()).as("login " + email + ": " + response.body()).isTrue();
+        return api.data(response).path("token").asText();
+    }
+
+    private interface Step<T, R> {
+        R apply(T input) throws Exception;
+    }
+
+    private static <T, R> List<R> inParallel(List<T> inputs, Step<T, R> step) throws Exception {
+        List<Callable<R>> calls = new ArrayList<>();
+        for (T input : inputs) {
+            calls.add(() -> step.apply(input));
+        }
+        return inParallel(calls);
+    }
+
+    // Logins go through the bounded password hashing pool, so setup stays a little under its queue
+    private static <R> List<R> inParallel(List<Callable<R>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : executor.invokeAll(calls)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeSummary(LoadReport report) throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", SETTINGS.users());
+        settings.put("warmup", SETTINGS.warmup().toString());
+        settings.put("duration", SETTINGS.duration().toString());
+        settings.put("thinkTime", SETTINGS.thinkTime().toString());
+        settings.put("seed", SETTINGS.seed());
+        settings.put("candidates", SETTINGS.candidates());
+        settings.put("recruiters", SETTINGS.recruiters());
+        settings.put("jobsPerRecruiter", SETTINGS.jobsPerRecruiter());
+        settings.put("mix", SETTINGS.mix());
+        settings.put("aiMedianLatency", SETTINGS.aiMedianLatency().toString());
+        settings.put("aiP99Latency", SETTINGS.aiP99Latency().toString());
+        settings.put("aiFailureRate", SETTINGS.aiFailureRate());
+        settings.put("database", postgres != null ? "embedded" : "external");
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("settings", settings);
+        summary.put("aiService", Map.of("calls", aiService.calls(), "failures", aiService.failures()));
+        summary.put("results", report.summary());
+
+        Files.createDirectories(SETTINGS.reportDir());
+        Path file = SETTINGS.reportDir().resolve("summary.json");
+        objectMapper.writeValue(file.toFile(), summary);
+        log.info("Load test summary written to {}", file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,126 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histograms and outcome counts for each scenario and each HTTP step within one.
+ * Nothing is recorded until {@link #startMeasuring()}, so warm-up traffic only primes
+ * the JIT, the pools and the caches.
+ */
+public class LoadReport {
+
+    // Up to a minute, in microseconds, at three significant digits
+    private static final long HIGHEST_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private volatile long measuredFrom;
+    private volatile long measuredTo;
+
+    public void startMeasuring() {
+        measuredFrom = System.nanoTime();
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuredTo = System.nanoTime();
+        measuring = false;
+    }
+
+    public void record(String name, long elapsedNanos, int status) {
+        if (!measuring) {
+            return;
+        }
+        series.computeIfAbsent(name, key -> new Series()).record(elapsedNanos, status);
+    }
+
+    public long completed(String name) {
+        Series s = series.get(name);
+        return s == null ? 0 : s.histogram.getTotalCount();
+    }
+
+    public double errorRate(String name) {
+        Series s = series.get(name);
+        return s == null || s.histogram.getTotalCount() == 0 ? 0
+                : (double) s.errors() / s.histogram.getTotalCount();
+    }
+
+    /**
+     * Per series: count, throughput over the measured window, error share, status codes
+     * and latency percentiles in milliseconds.
+     */
+    public Map<String, Object> summary() {
+        double seconds = (measuredTo - measuredFrom) / 1e9;
+        Map<String, Object> result = new LinkedHashMap<>();
+        new TreeMap<>(series).forEach((name, s) -> {
+            Histogram h = s.histogram.copy();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", h.getTotalCount());
+            row.put("throughputPerSecond", round(h.getTotalCount() / seconds));
+            row.put("errorRate", round(errorRate(name)));
+            row.put("statuses", s.statuses());
+            row.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            row.put("p90Ms", millis(h.getValueAtPercentile(90)));
+            row.put("p95Ms", millis(h.getValueAtPercentile(95)));
+            row.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(h.getMaxValue()));
+            result.put(name, row);
+        });
+        return result;
+    }
+
+    public String table() {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-28s %8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "", "count", "req/s", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        summary().forEach((name, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> row = (Map<String, Object>) value;
+            out.append(String.format(Locale.ROOT, "%-28s %8d %9.1f %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, row.get("count"), row.get("throughputPerSecond"), (double) row.get("errorRate") * 100,
+                    row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs")));
+        });
+        return out.toString();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Series {
+        private final Histogram histogram = new ConcurrentHistogram(1, HIGHEST_MICROS, 3);
+        // Index is status / 100: transport failures count as 0, then 1xx..5xx
+        private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+        private final Map<Integer, AtomicLong> statusCodes = new ConcurrentHashMap<>();
+
+        void record(long elapsedNanos, int status) {
+            histogram.recordValue(Math.min(Math.max(1, elapsedNanos / 1000), HIGHEST_MICROS));
+            statusClasses.incrementAndGet(Math.min(status / 100, 5));
+            statusCodes.computeIfAbsent(status, code -> new AtomicLong()).incrementAndGet();
+        }
+
+        long errors() {
+            return statusClasses.get(0) + statusClasses.get(4) + statusClasses.get(5);
+        }
+
+        Map<String, Long> statuses() {
+            Map<String, Long> codes = new TreeMap<>();
+            statusCodes.forEach((code, count) -> codes.put(code == 0 ? "failed" : String.valueOf(code), count.get()));
+            return codes;
+        }
+    }
+}
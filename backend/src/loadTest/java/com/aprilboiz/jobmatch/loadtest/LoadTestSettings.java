@@ -0,0 +1,83 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Knobs for a load run, read from {@code loadtest.*} system properties. The Gradle task
+ * forwards {@code -Ploadtest.<name>=<value>}, so a run can be repeated exactly by passing
+ * the same values and seed.
+ *
+ * @param users             concurrent virtual users, each a closed loop of scenarios
+ * @param warmup            time the users run before latencies are recorded
+ * @param duration          measured time after the warm-up
+ * @param thinkTime         pause between two scenarios of one user
+ * @param seed              seeds the scenario mix, each user's choices and the AI stub
+ * @param candidates        candidates created before the run, one CV each
+ * @param recruiters        recruiters created before the run, one company each
+ * @param jobsPerRecruiter  open jobs each recruiter posts
+ * @param mix               relative weight of each scenario
+ * @param aiMedianLatency   median latency of the AI stub
+ * @param aiP99Latency      99th percentile latency of the AI stub; latencies are log-normal
+ * @param aiFailureRate     share of AI stub calls answered with a 503
+ * @param maxErrorRate      highest error share per scenario before the run fails
+ * @param postgresUrl       existing database to run against instead of the embedded one
+ * @param reportDir         where summary.json is written
+ */
+public record LoadTestSettings(int users,
+                               Duration warmup,
+                               Duration duration,
+                               Duration thinkTime,
+                               long seed,
+                               int candidates,
+                               int recruiters,
+                               int jobsPerRecruiter,
+                               Map<Scenario, Integer> mix,
+                               Duration aiMedianLatency,
+                               Duration aiP99Latency,
+                               double aiFailureRate,
+                               double maxErrorRate,
+                               String postgresUrl,
+                               Path reportDir) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestSettings fromSystemProperties() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, intValue("mix." + scenario.key(), scenario.defaultWeight()));
+        }
+        return new LoadTestSettings(
+                intValue("users", 32),
+                duration("warmup", "15s"),
+                duration("duration", "60s"),
+                duration("think-time", "0ms"),
+                Long.parseLong(value("seed", "42")),
+                intValue("candidates", 400),
+                intValue("recruiters", 20),
+                intValue("jobs-per-recruiter", 10),
+                mix,
+                duration("ai.median-latency", "400ms"),
+                duration("ai.p99-latency", "2500ms"),
+                Double.parseDouble(value("ai.failure-rate", "0.02")),
+                Double.parseDouble(value("max-error-rate", "0.05")),
+                value("postgres-url", System.getenv("LOADTEST_POSTGRES_URL")),
+                Path.of(value("report-dir", "build/reports/loadtest")));
+    }
+
+    private static String value(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+    }
+
+    private static Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(value(name, defaultValue));
+    }
+}
@@ -0,0 +1,258 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A Redis stand-in speaking just enough RESP2 for the token blacklist: strings with an
+ * expiry, EXISTS, DEL and KEYS, XADD for the outbox relay (entries are counted, not
+ * kept), plus the connection handshake Lettuce performs. The
+ * backend still makes a real network round trip per authenticated request, which is the
+ * cost worth measuring; Redis' own service time is negligible next to it.
+ * <p>
+ * Pub/sub is not implemented, so the load run sets {@code redis.pubsub.enabled=false}
+ * as a single node would.
+ */
+public class RedisStandIn implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStandIn.class);
+
+    private record Entry(byte[] value, long expiresAt) {
+        boolean expired(long now) {
+            return expiresAt != 0 && expiresAt <= now;
+        }
+    }
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> data = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> streams = new ConcurrentHashMap<>();
+
+    public RedisStandIn() throws IOException {
+        serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress());
+        executor.submit(this::accept);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Entries added to the stream so far.
+     */
+    public long streamLength(String key) {
+        AtomicLong length = streams.get(key);
+        return length != null ? length.get() : 0;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.submit(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Redis stand-in failed to accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                execute(command, out);
+                // Lettuce pipelines; flush once the client has nothing more buffered
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (EOFException e) {
+            // Client closed the connection
+        } catch (IOException e) {
+            if (!serverSocket.isClosed()) {
+                log.debug("Redis stand-in connection closed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "AUTH", "SELECT", "CLIENT", "READONLY" -> simple(out, "OK");
+            case "HELLO" -> error(out, "NOPROTO this server does not support RESP3");
+            case "QUIT" -> {
+                simple(out, "OK");
+                out.flush();
+                throw new EOFException();
+            }
+            case "SET" -> {
+                long expiresAt = 0;
+                for (int i = 3; i + 1 < command.size(); i += 2) {
+                    String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+                    long amount = Long.parseLong(text(command.get(i + 1)));
+                    expiresAt = switch (option) {
+                        case "EX" -> now + amount * 1000;
+                        case "PX" -> now + amount;
+                        default -> expiresAt;
+                    };
+                }
+                data.put(text(command.get(1)), new Entry(command.get(2), expiresAt));
+                simple(out, "OK");
+            }
+            case "SETEX", "PSETEX" -> {
+                long amount = Long.parseLong(text(command.get(2)));
+                long expiresAt = now + (name.equals("SETEX") ? amount * 1000 : amount);
+                data.put(text(command.get(1)), new Entry(command.get(3), expiresAt));
+                simple(out, "OK");
+            }
+            case "GET" -> {
+                Entry entry = live(text(command.get(1)), now);
+                bulk(out, entry == null ? null : entry.value());
+            }
+            case "EXISTS" -> {
+                long count = command.stream().skip(1).filter(key -> live(text(key), now) != null).count();
+                integer(out, count);
+            }
+            case "DEL", "UNLINK" -> {
+                long count = command.stream().skip(1).filter(key -> data.remove(text(key)) != null).count();
+                integer(out, count);
+            }
+            case "KEYS" -> {
+                Pattern pattern = glob(text(command.get(1)));
+                List<byte[]> keys = data.entrySet().stream()
+                        .filter(e -> !e.getValue().expired(now) && pattern.matcher(e.getKey()).matches())
+                        .map(e -> e.getKey().getBytes(StandardCharsets.UTF_8))
+                        .toList();
+                array(out, keys);
+            }
+            case "PUBLISH" -> integer(out, 0);
+            case "XADD" -> {
+                long sequence = streams.computeIfAbsent(text(command.get(1)), key -> new AtomicLong()).incrementAndGet();
+                bulk(out, (now + "-" + sequence).getBytes(StandardCharsets.UTF_8));
+            }
+            default -> error(out, "ERR unknown command '" + name + "'");
+        }
+    }
+
+    private Entry live(String key, long now) {
+        Entry entry = data.get(key);
+        if (entry != null && entry.expired(now)) {
+            data.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            throw new EOFException();
+        }
+        if (type != '*') {
+            throw new IOException("Expected a RESP array, got '" + (char) type + "'");
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected a RESP bulk string");
+            }
+            int length = Integer.parseInt(readLine(in));
+            parts.add(in.readNBytes(length));
+            readLine(in);
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(16);
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            line.write(b);
+        }
+        in.read();
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(("+" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write(("-" + message + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void array(OutputStream out, List<byte[]> values) throws IOException {
+        out.write(("*" + values.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        for (byte[] value : values) {
+            bulk(out, value);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+/**
+ * The user journeys a load run mixes. Default weights roughly follow production, where
+ * browsing dominates and a small share of visits ends in an application.
+ */
+public enum Scenario {
+    /** Anonymous search with a keyword, a filter or two and a page of results, then one job. */
+    SEARCH("search", 60),
+    /** A candidate opens a job and applies with their CV; runs the AI analysis synchronously. */
+    APPLY("apply", 15),
+    /** A recruiter pages an own job's applications and moves one forward. */
+    RECRUITER_REVIEW("review", 15),
+    /** A recruiter downloads the CV attached to an application. */
+    CV_DOWNLOAD("cv-download", 10);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Scenario(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
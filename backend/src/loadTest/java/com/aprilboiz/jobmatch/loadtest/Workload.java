@@ -0,0 +1,153 @@
+package com.aprilboiz.jobmatch.loadtest;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The scenarios themselves, over the users and jobs created before the run. Applications
+ * made during the run feed the recruiter scenarios: each one waits in a queue for review
+ * and stays available for CV downloads.
+ */
+public class Workload {
+
+    public record CandidateUser(String token, long cvId) {
+    }
+
+    public record RecruiterUser(String token) {
+    }
+
+    public record PostedJob(long id, RecruiterUser owner) {
+    }
+
+    record Submitted(long applicationId, long cvId, PostedJob job) {
+    }
+
+    static final List<String> KEYWORDS = List.of(
+            "Java", "Backend", "Frontend", "Data", "Cloud", "Mobile", "Security", "Product", "QA", "DevOps");
+
+    static final List<String> LOCATIONS = List.of(
+            "Ho Chi Minh City", "Hanoi", "Da Nang", "Can Tho", "Hai Phong");
+
+    private final ApiClient api;
+    private final LoadReport report;
+    private final List<CandidateUser> candidates;
+    private final List<RecruiterUser> recruiters;
+    private final List<PostedJob> jobs;
+    private final Set<Long> applied = ConcurrentHashMap.newKeySet();
+    private final Queue<Submitted> awaitingReview = new ConcurrentLinkedQueue<>();
+    private final List<Submitted> submitted = new ArrayList<>();
+
+    public Workload(ApiClient api, LoadReport report, List<CandidateUser> candidates,
+                    List<RecruiterUser> recruiters, List<PostedJob> jobs) {
+        this.api = api;
+        this.report = report;
+        this.candidates = candidates;
+        this.recruiters = recruiters;
+        this.jobs = jobs;
+    }
+
+    /**
+     * Runs one scenario and records its end-to-end time under the scenario's key, with
+     * the status of the first step that failed, or of the last step.
+     */
+    public void run(Scenario scenario, SplittableRandom random) {
+        long start = System.nanoTime();
+        int status = switch (scenario) {
+            case SEARCH -> search(random);
+            case APPLY -> apply(random);
+            case RECRUITER_REVIEW -> review(random);
+            case CV_DOWNLOAD -> downloadCv(random);
+        };
+        report.record(scenario.key(), System.nanoTime() - start, status);
+    }
+
+    private int search(SplittableRandom random) {
+        StringBuilder query = new StringBuilder("/api/jobs/search?size=20&page=").append(random.nextInt(3));
+        if (random.nextInt(4) != 0) {
+            query.append("&keyword=").append(encode(pick(KEYWORDS, random)));
+        }
+        if (random.nextBoolean()) {
+            query.append("&location=").append(encode(pick(LOCATIONS, random)));
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&jobType=").append(JobType.values()[random.nextInt(JobType.values().length)]);
+        }
+        ApiClient.Response page = api.get("search:page", query.toString(), null);
+        if (!page.ok()) {
+            return page.status();
+        }
+        return api.get("search:job", "/api/jobs/" + pick(jobs, random).id(), null).status();
+    }
+
+    private int apply(SplittableRandom random) {
+        CandidateUser candidate;
+        PostedJob job;
+        // One live application per candidate and job, so draw until a free pair comes up
+        do {
+            candidate = pick(candidates, random);
+            job = pick(jobs, random);
+        } while (!applied.add(candidate.cvId() * 1_000_003L + job.id()));
+        ApiClient.Response view = api.get("apply:job", "/api/jobs/" + job.id(), candidate.token());
+        if (!view.ok()) {
+            return view.status();
+        }
+        ApiClient.Response response = api.post("apply:submit", "/api/applications", candidate.token(), Map.of(
+                "jobId", job.id(),
+                "cvId", candidate.cvId(),
+                "coverLetter", "I would like to apply for this position."));
+        if (response.ok()) {
+            Submitted application = new Submitted(api.data(response).path("id").asLong(), candidate.cvId(), job);
+            awaitingReview.add(application);
+            synchronized (submitted) {
+                submitted.add(application);
+            }
+        }
+        return response.status();
+    }
+
+    private int review(SplittableRandom random) {
+        Submitted application = awaitingReview.poll();
+        PostedJob job = application != null ? application.job() : pick(jobs, random);
+        RecruiterUser recruiter = job.owner();
+        ApiClient.Response list = api.get("review:list", "/api/jobs/" + job.id() + "/applications?size=20",
+                recruiter.token());
+        if (!list.ok() || application == null) {
+            return list.status();
+        }
+        return api.put("review:status", "/api/applications/" + application.applicationId()
+                + "/status?status=" + ApplicationStatus.IN_REVIEW, recruiter.token()).status();
+    }
+
+    private int downloadCv(SplittableRandom random) {
+        Submitted application;
+        synchronized (submitted) {
+            application = submitted.isEmpty() ? null : submitted.get(random.nextInt(submitted.size()));
+        }
+        if (application == null) {
+            // Nothing applied yet: the recruiter's own job list is the closest read
+            RecruiterUser recruiter = pick(recruiters, random);
+            return api.get("cv-download:jobs", "/api/me/jobs?size=20", recruiter.token()).status();
+        }
+        return api.download("cv-download:file", "/api/cvs/" + application.cvId() + "/download",
+                application.job().owner().token()).status();
+    }
+
+    static <T> T pick(List<T> items, SplittableRandom random) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
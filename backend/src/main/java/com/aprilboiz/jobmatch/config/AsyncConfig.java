@@ -1,28 +1,102 @@
 package com.aprilboiz.jobmatch.config;
 
+import com.aprilboiz.jobmatch.security.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
-@EnableAsync
+// Class proxies like the rest of the context, so @Async beans keep their @Scheduled/listener methods reachable
+@EnableAsync(proxyTargetClass = true)
 public class AsyncConfig {
 
+    /**
+     * With {@code spring.threads.virtual.enabled=true} uploads run on virtual threads:
+     * each upload is mostly waiting on Cloudinary, so a thread per task is cheap and
+     * the concurrency limit is what protects the remote API. Otherwise a bounded
+     * platform pool is used. Either way a full executor rejects instead of blocking,
+     * and ImageController turns that into 429.
+     */
     @Bean(name = "imageUploadExecutor")
-    public Executor imageUploadExecutor() {
+    public Executor imageUploadExecutor(Environment environment, ImageUploadProperties properties,
+                                        MeterRegistry meterRegistry) {
+        InstrumentedTaskExecutor executor;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // No queue in this mode: tasks beyond the limit are rejected straight away
+            executor = new InstrumentedTaskExecutor("imageUpload",
+                    virtualUploadExecutor(properties), meterRegistry, () -> 0);
+        } else {
+            ThreadPoolTaskExecutor pool = platformUploadExecutor(properties);
+            executor = new InstrumentedTaskExecutor("imageUpload",
+                    pool, meterRegistry, () -> pool.getThreadPoolExecutor().getQueue().size());
+        }
+
+        // Wrap with security context propagating executor
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+    }
+
+    static ThreadPoolTaskExecutor platformUploadExecutor(ImageUploadProperties properties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setThreadNamePrefix("ImageUpload-");
-        executor.setTaskDecorator(new LocaleContextTaskDecorator());
+        executor.setTaskDecorator(contextTaskDecorator());
         executor.initialize();
-        
-        // Wrap with security context propagating executor
-        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+        return executor;
+    }
+
+    static SimpleAsyncTaskExecutor virtualUploadExecutor(ImageUploadProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ImageUpload-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.getVirtualConcurrencyLimit());
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskDecorator(contextTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Carries the submitting thread's locale and its current observation, and with it the
+     * trace and span, onto the task's thread. The security context is carried separately
+     * by the executor wrapper where a task needs it.
+     */
+    static TaskDecorator contextTaskDecorator() {
+        return new CompositeTaskDecorator(List.of(
+                new ContextPropagatingTaskDecorator(),
+                new LocaleContextTaskDecorator()));
+    }
+
+    /**
+     * Dedicated pool for password hashing. Uses the default AbortPolicy on purpose:
+     * once the queue is full, logins are rejected with 429 rather than queued on
+     * request threads. Hashing is CPU bound, so this stays on platform threads even
+     * in virtual-thread mode.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public AsyncTaskExecutor passwordHashExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("PasswordHash-");
+        executor.setTaskDecorator(contextTaskDecorator());
+        executor.initialize();
+        return new InstrumentedTaskExecutor("passwordHash", executor, meterRegistry,
+                () -> executor.getThreadPoolExecutor().getQueue().size());
     }
-} 
\ No newline at end of file
+}
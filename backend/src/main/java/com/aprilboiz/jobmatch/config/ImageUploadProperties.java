@@ -0,0 +1,31 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Sizing for the image upload pipeline. Everything beyond {@code max-pool-size}
+ * running plus {@code queue-capacity} waiting (or {@code virtual-concurrency-limit}
+ * in virtual-thread mode) is rejected with 429 instead of being queued without bound.
+ */
+@ConfigurationProperties("async.image-upload")
+@Getter
+@Setter
+@Component
+public class ImageUploadProperties {
+    private int corePoolSize = 4;
+    private int maxPoolSize = 8;
+    private int queueCapacity = 32;
+    private int virtualConcurrencyLimit = 50;
+
+    /** How long the client waits for the upload before getting 408. */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /** Value of the Retry-After header when the pipeline is full. */
+    private long retryAfterSeconds = 5;
+}
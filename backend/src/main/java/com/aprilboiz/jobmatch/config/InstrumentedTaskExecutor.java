@@ -0,0 +1,75 @@
+package com.aprilboiz.jobmatch.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Wraps an executor with per-executor meters, all tagged {@code name}:
+ * <ul>
+ *   <li>{@code jobmatch.executor.active} - tasks currently running</li>
+ *   <li>{@code jobmatch.executor.queued} - tasks accepted but not started</li>
+ *   <li>{@code jobmatch.executor.rejected} - tasks refused because the executor was full</li>
+ *   <li>{@code jobmatch.executor.task.wait} / {@code .task.duration} - time queued and time running</li>
+ * </ul>
+ */
+public class InstrumentedTaskExecutor implements AsyncTaskExecutor {
+    private final AsyncTaskExecutor delegate;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+
+    public InstrumentedTaskExecutor(String name, AsyncTaskExecutor delegate, MeterRegistry registry,
+                                    Supplier<Number> queuedSupplier) {
+        this.delegate = delegate;
+        Gauge.builder("jobmatch.executor.active", active, AtomicInteger::get)
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("jobmatch.executor.queued", queuedSupplier)
+                .tag("name", name)
+                .register(registry);
+        this.rejected = Counter.builder("jobmatch.executor.rejected")
+                .tag("name", name)
+                .register(registry);
+        this.waitTimer = Timer.builder("jobmatch.executor.task.wait")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.durationTimer = Timer.builder("jobmatch.executor.task.duration")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void execute(@NonNull Runnable task) {
+        long submittedAt = System.nanoTime();
+        Runnable instrumented = () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+
+        try {
+            delegate.execute(instrumented);
+        } catch (TaskRejectedException ex) {
+            rejected.increment();
+            throw ex;
+        }
+    }
+}
@@ -21,7 +21,8 @@ public class LocaleContextTaskDecorator implements TaskDecorator {
             try {
                 // Set the captured locale context in the async thread
                 LocaleContextHolder.setLocaleContext(localeContext);
-                log.debug("Set locale context for async thread: {}", localeContext.getLocale());
+                log.debug("Set locale context for async thread: {}",
+                    localeContext != null ? localeContext.getLocale() : "null");
                 
                 // Execute the original task
                 runnable.run();
@@ -0,0 +1,17 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Random id for this JVM, used to ignore our own messages on shared Redis channels.
+ */
+@Component
+public class NodeIdentity {
+    private final String id = UUID.randomUUID().toString();
+
+    public String getId() {
+        return id;
+    }
+}
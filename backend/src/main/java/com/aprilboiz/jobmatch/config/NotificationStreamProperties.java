@@ -0,0 +1,27 @@
+package com.aprilboiz.jobmatch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Limits for the per-user server-sent event streams. The heartbeat interval is read by
+ * {@code @Scheduled} on the hub.
+ */
+@ConfigurationProperties("notifications.stream")
+@Getter
+@Setter
+@Component
+public class NotificationStreamProperties {
+    /** A stream is closed after this long and the client reconnects. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Open streams per user, e.g. browser tabs; opening another closes the oldest. */
+    private int maxConnectionsPerUser = 5;
+
+    /** Events queued for a client that is not reading; past this its stream is closed. */
+    private int maxPendingEvents = 64;
+}
@@ -0,0 +1,43 @@
+package com.aprilboiz.jobmatch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Relay settings for the transactional outbox. The polling interval and the cleanup
+ * schedule are read by {@code @Scheduled} on the relay itself.
+ */
+@ConfigurationProperties("outbox")
+@Getter
+@Setter
+@Component
+public class OutboxProperties {
+    /** Events relayed per transaction. */
+    private int batchSize = 200;
+
+    /**
+     * Deliveries a listener may fail before the event is set aside as a dead letter. Its
+     * aggregate's later events wait behind it until an operator clears {@code failed_at}.
+     */
+    private int maxAttempts = 10;
+
+    /** How long published events are kept before they are deleted. */
+    private Duration retention = Duration.ofDays(7);
+
+    private final RedisStream redisStream = new RedisStream();
+
+    @Getter
+    @Setter
+    public static class RedisStream {
+        private boolean enabled = true;
+
+        private String key = "jobmatch:events";
+
+        /** Approximate cap on the stream; older entries are trimmed as new ones are added. */
+        private long maxLength = 100_000;
+    }
+}
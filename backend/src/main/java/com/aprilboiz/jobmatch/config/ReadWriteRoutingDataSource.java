@@ -0,0 +1,198 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the database for each physical connection from the transaction it is taken
+ * for. Read-write transactions and work outside a transaction use the primary.
+ * Read-only transactions take the replicas round-robin, skipping any that are
+ * unreachable or further behind than {@code max-lag}; the primary serves the read
+ * when none qualifies or when the current user has just written (see
+ * {@link ReadYourWritesTracker}). Read connections are marked read-only, including a
+ * primary one, so the transaction cannot write by accident.
+ * <p>
+ * Meters: {@code jobmatch.datasource.replica.lag} (ms, NaN while unreachable) per
+ * replica, and {@code jobmatch.datasource.reads} tagged with where each read went.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements DisposableBean {
+    /*
+     * Zero when the standby has replayed everything it received, so an idle primary
+     * does not look like growing lag; NULL when nothing has been replayed yet.
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    private static final long UNKNOWN = -1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                      ReadYourWritesTracker readYourWrites, long maxLagMillis,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.maxLagMillis = maxLagMillis;
+        for (Replica replica : replicas) {
+            Gauge.builder("jobmatch.datasource.replica.lag", replica,
+                            r -> r.lagMillis == UNKNOWN ? Double.NaN : r.lagMillis)
+                    .tag("replica", replica.pool.getPoolName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.pinnedReads = readCounter(meterRegistry, "primary-read-your-writes");
+        this.fallbackReads = readCounter(meterRegistry, "primary-no-replica");
+        checkReplicas();
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("jobmatch.datasource.reads").tag("target", target).register(meterRegistry);
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Routed like {@link #getConnection()}; the chosen pool decides whether it accepts
+     * credentials other than its configured ones (Hikari does not).
+     */
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    private Connection route(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.pinAfterCommit();
+            return connector.connect(primary);
+        }
+        Connection connection = routeRead(connector);
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private Connection routeRead(Connector connector) throws SQLException {
+        String user = ReadYourWritesTracker.currentUser();
+        if (user != null && readYourWrites.isPinned(user)) {
+            pinnedReads.increment();
+            return connector.connect(primary);
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.usable(replica.lagMillis)) {
+                continue;
+            }
+            try {
+                Connection connection = connector.connect(replica.pool);
+                replicaReads.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // The pool refuses the credentials; the replica itself is fine
+                throw e;
+            } catch (SQLException e) {
+                replica.markUnreachable(e);
+            }
+        }
+        fallbackReads.increment();
+        return connector.connect(primary);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                double lag = resultSet.getDouble(1);
+                replica.update(resultSet.wasNull() ? UNKNOWN : Math.round(lag));
+            } catch (SQLException e) {
+                replica.markUnreachable(e);
+            }
+        }
+        readYourWrites.evictExpired();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource target) throws SQLException;
+    }
+
+    private final class Replica {
+        private final HikariDataSource pool;
+        private volatile long lagMillis = UNKNOWN;
+        private Boolean serving;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        private void update(long lag) {
+            setLag(lag, lag == UNKNOWN ? "nothing replayed yet" : lag + " ms behind the primary");
+        }
+
+        private void markUnreachable(SQLException e) {
+            setLag(UNKNOWN, "unreachable, " + e.getMessage());
+        }
+
+        private synchronized void setLag(long lag, String reason) {
+            lagMillis = lag;
+            boolean usable = usable(lag);
+            if (serving != null && serving == usable) {
+                return;
+            }
+            serving = usable;
+            if (usable) {
+                log.info("Replica {} is serving reads ({} ms behind)", pool.getPoolName(), lag);
+            } else {
+                log.warn("Replica {} is not serving reads: {}", pool.getPoolName(), reason);
+            }
+        }
+
+        private boolean usable(long lag) {
+            return lag != UNKNOWN && lag <= maxLagMillis;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.aprilboiz.jobmatch.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write in the last few seconds so their reads skip
+ * the replicas until replication has caught up. Other nodes are told over Redis, so the
+ * next request lands on the primary whichever node serves it.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+    static final String CHANNEL = "jobmatch:user-wrote";
+
+    private final long windowNanos;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final NodeIdentity nodeIdentity;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window,
+                                 ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                                 ObjectProvider<StringRedisTemplate> redisTemplate,
+                                 NodeIdentity nodeIdentity) {
+        this.windowNanos = window.toNanos();
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.nodeIdentity = nodeIdentity;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL)));
+    }
+
+    /**
+     * The authenticated user's name, or null for anonymous and background work.
+     */
+    public static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    public boolean isPinned(String user) {
+        Long until = pinnedUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() <= 0) {
+            pinnedUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    /**
+     * Called when a read-write transaction takes its connection: once it commits, the
+     * current user's reads stay on the primary for the window.
+     */
+    public void pinAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(user);
+                publish(user);
+            }
+        });
+    }
+
+    private void pin(String user) {
+        pinnedUntil.put(user, System.nanoTime() + windowNanos);
+    }
+
+    private void publish(String user) {
+        if (listenerContainer.getIfAvailable() == null) {
+            // Pub/sub is off, so there are no other nodes listening
+            return;
+        }
+        redisTemplate.ifAvailable(template -> {
+            try {
+                template.convertAndSend(CHANNEL, nodeIdentity.getId() + "|" + user);
+            } catch (Exception e) {
+                log.warn("Failed to publish write for read-your-writes: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2 || parts[0].equals(nodeIdentity.getId())) {
+            return;
+        }
+        pin(parts[1]);
+    }
+}
@@ -0,0 +1,26 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Shared listener container for cross-node notifications. Components that need
+ * pub/sub take an {@code ObjectProvider} of the container, so a single node (or a
+ * test) runs without it. The container subscribes on startup and fails the context
+ * when Redis is down, so it is off unless {@code redis.pubsub.enabled=true}, which
+ * every node of a multi-node deployment needs.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "redis.pubsub", name = "enabled", havingValue = "true")
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
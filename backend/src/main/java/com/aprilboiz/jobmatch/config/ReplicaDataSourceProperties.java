@@ -0,0 +1,38 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for {@code @Transactional(readOnly = true)} work. Off unless
+ * {@code enabled} is set and at least one url is given; username and password
+ * default to the primary's {@code spring.datasource} credentials.
+ */
+@ConfigurationProperties("datasource.replicas")
+@Getter
+@Setter
+@Component
+public class ReplicaDataSourceProperties {
+    private boolean enabled = false;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+
+    /** Connections per replica pool. */
+    private int maximumPoolSize = 10;
+
+    /** A replica further behind the primary than this is skipped until it catches up. */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /** After a user's write commits, their reads stay on the primary for this long. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,100 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the replicas in {@code datasource.replicas} and
+ * everything else to the primary, so the primary's pool is left to applications,
+ * job posts and the other writes.
+ * <p>
+ * The application's {@code DataSource} is a {@link LazyConnectionDataSourceProxy} over
+ * {@link ReadWriteRoutingDataSource}: Hibernate opens its connection when the
+ * transaction begins, but the physical one is only taken on the first statement, by
+ * which time the transaction's read-only flag is set. Hibernate gives the connection
+ * back after every transaction, so a request that reads and then writes under
+ * open-session-in-view does not carry a replica connection into its write.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties,
+                                                       ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                                                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                       NodeIdentity nodeIdentity) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), listenerContainer, redisTemplate,
+                nodeIdentity);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                                 DataSourceProperties primaryProperties,
+                                                                 ReplicaDataSourceProperties properties,
+                                                                 ReadYourWritesTracker readYourWritesTracker,
+                                                                 MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setJdbcUrl(properties.getUrls().get(i));
+            pool.setDriverClassName(primaryProperties.determineDriverClassName());
+            pool.setUsername(properties.getUsername() != null
+                    ? properties.getUsername() : primaryProperties.determineUsername());
+            pool.setPassword(properties.getPassword() != null
+                    ? properties.getPassword() : primaryProperties.determinePassword());
+            pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+            // A replica that stops answering should fail over to the primary quickly
+            pool.setConnectionTimeout(2000);
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(meterRegistry);
+            pools.add(pool);
+        }
+        if (pools.isEmpty()) {
+            log.warn("datasource.replicas.enabled is set but no urls are configured; reads stay on the primary");
+        }
+        return new ReadWriteRoutingDataSource(primary, pools, readYourWritesTracker,
+                properties.getMaxLag().toMillis(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
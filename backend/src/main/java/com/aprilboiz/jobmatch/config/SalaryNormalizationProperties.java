@@ -0,0 +1,40 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * FX rates and period multipliers used to express every salary as annual USD.
+ * Rates are USD per one unit of the currency; changing them re-normalizes all
+ * jobs on the next startup.
+ */
+@ConfigurationProperties("salary.normalization")
+@Getter
+@Setter
+@Component
+public class SalaryNormalizationProperties {
+    private Map<CurrencyType, BigDecimal> usdRates = new EnumMap<>(Map.of(
+            CurrencyType.USD, new BigDecimal("1"),
+            CurrencyType.VND, new BigDecimal("0.000039"),
+            CurrencyType.EUR, new BigDecimal("1.08"),
+            CurrencyType.GBP, new BigDecimal("1.27"),
+            CurrencyType.JPY, new BigDecimal("0.0067"),
+            CurrencyType.AUD, new BigDecimal("0.66"),
+            CurrencyType.CAD, new BigDecimal("0.73")));
+
+    /** Pay periods per year. */
+    private Map<PeriodType, BigDecimal> periodsPerYear = new EnumMap<>(Map.of(
+            PeriodType.ANNUAL, new BigDecimal("1"),
+            PeriodType.MONTHLY, new BigDecimal("12"),
+            PeriodType.WEEKLY, new BigDecimal("52"),
+            PeriodType.HOURLY, new BigDecimal("2080")));
+}
@@ -1,10 +1,16 @@
 package com.aprilboiz.jobmatch.config;
 
+import com.aprilboiz.jobmatch.security.BCryptCostCalibrator;
+import com.aprilboiz.jobmatch.security.BoundedPasswordEncoder;
 import com.aprilboiz.jobmatch.security.CustomAccessDeniedHandler;
 import com.aprilboiz.jobmatch.security.CustomAuthenticationEntryPoint;
 import com.aprilboiz.jobmatch.security.JwtAuthenticationFilter;
+import com.aprilboiz.jobmatch.security.PasswordHashingProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,7 +24,9 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -26,7 +34,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -82,6 +92,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/candidate/**").hasRole("CANDIDATE")
                         .requestMatchers("/api/recruiter/**").hasRole("RECRUITER")
                         .requestMatchers("/api/jobs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/language/**").permitAll()
                         .anyRequest().authenticated())
@@ -111,8 +122,25 @@ public class SecurityConfig {
         return authProvider;
     }
 
+    /**
+     * New hashes are written as {@code {bcrypt}} at the configured (or calibrated) cost.
+     * Existing unprefixed BCrypt hashes still verify through the default matcher and
+     * are re-hashed after the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+                                                  @Qualifier("passwordHashExecutor") AsyncTaskExecutor passwordHashExecutor) {
+        int strength = properties.isCalibrate()
+                ? BCryptCostCalibrator.calibrate(properties.getTargetMillis(), properties.getMinStrength(), properties.getMaxStrength())
+                : properties.getBcryptStrength();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(strength));
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", encoders);
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return new BoundedPasswordEncoder(delegating, passwordHashExecutor, properties.getRetryAfterSeconds());
     }
 }
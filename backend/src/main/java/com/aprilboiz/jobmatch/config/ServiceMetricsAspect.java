@@ -0,0 +1,66 @@
+package com.aprilboiz.jobmatch.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observes every public method of the service implementations and of the file system
+ * storage. Each call is a timer tagged {@code class}, {@code method} and {@code error}
+ * ({@code none} on success), and a span under the request's named {@code Class.method},
+ * which the tracer lower-hyphenates (for example {@code job-service-impl.get-job}):
+ * <ul>
+ *   <li>{@code jobmatch.service} - {@code *ServiceImpl} methods</li>
+ *   <li>{@code jobmatch.storage} - {@code FileSystemStorageService} I/O</li>
+ * </ul>
+ * Service methods also record {@code jobmatch.service.statements}, the SQL statements
+ * prepared during the call, nested service calls included (see {@link SqlStatementInspector}).
+ * <p>
+ * Only calls through the Spring proxy are seen, so a method calling another on the same
+ * bean is timed once, as the outer call. Repository queries are timed by Spring Data as
+ * {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.aprilboiz.jobmatch.service.impl.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        long statementsBefore = SqlStatementInspector.statementCount();
+        try {
+            return time("jobmatch.service", joinPoint);
+        } finally {
+            DistributionSummary.builder("jobmatch.service.statements")
+                    .baseUnit("statements")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .record(SqlStatementInspector.statementCount() - statementsBefore);
+        }
+    }
+
+    @Around("execution(public * com.aprilboiz.jobmatch.storage.impl.FileSystemStorageService.*(..))")
+    public Object timeStorage(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("jobmatch.storage", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + method)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(() -> joinPoint.proceed());
+    }
+}
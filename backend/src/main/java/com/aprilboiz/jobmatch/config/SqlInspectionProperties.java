@@ -0,0 +1,24 @@
+package com.aprilboiz.jobmatch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thresholds for {@link SqlStatementInspector}. A request preparing more than
+ * {@code request-threshold} statements is logged with every statement it repeated at
+ * least {@code repeat-threshold} times and where that statement was issued from.
+ */
+@ConfigurationProperties("sql-inspection")
+@Getter
+@Setter
+@Component
+public class SqlInspectionProperties {
+    /** Per-request counting, the statements/request meter and the warning log. */
+    private boolean enabled = true;
+
+    private int requestThreshold = 25;
+
+    private int repeatThreshold = 3;
+}
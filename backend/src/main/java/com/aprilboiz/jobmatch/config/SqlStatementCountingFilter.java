@@ -0,0 +1,69 @@
+package com.aprilboiz.jobmatch.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request prepares on its own thread, from before the
+ * security chain to the response, and records them as {@code jobmatch.http.statements}
+ * tagged {@code method} and {@code uri} (the route pattern). Requests over
+ * {@code sql-inspection.request-threshold} are logged with their repeated statements.
+ * Work handed to another thread, such as an async upload, is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(value = "sql-inspection.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    private final SqlInspectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementInspector.RequestTally tally = SqlStatementInspector.openRequest()) {
+            filterChain.doFilter(request, response);
+            record(request, tally);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementInspector.RequestTally tally) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long statements = tally.statements();
+        DistributionSummary.builder("jobmatch.http.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > properties.getRequestThreshold()) {
+            StringBuilder repeats = new StringBuilder();
+            for (SqlStatementInspector.Repeat repeat : tally.repeats()) {
+                repeats.append(System.lineSeparator()).append("  ").append(repeat.count()).append("x at ")
+                        .append(repeat.callSite()).append(": ").append(repeat.sql());
+            }
+            log.warn("{} {} prepared {} SQL statements (threshold {}){}", request.getMethod(), uri, statements,
+                    properties.getRequestThreshold(), repeats);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. The running total
+ * is always kept, so any caller can measure a stretch of work by taking
+ * {@link #statementCount()} before and after; {@link ServiceMetricsAspect} does this per
+ * service method and tests use it to hold query counts down.
+ * <p>
+ * Inside a {@link #openRequest() request scope} identical statements are also grouped,
+ * and once one repeats {@code repeat-threshold} times the first application frame that
+ * issued it is remembered. That frame is usually a mapper or a loop touching a lazy
+ * association, which is where an N+1 is fixed.
+ * <p>
+ * With JDBC batching a batch is prepared once, so it counts as one statement.
+ */
+@Component
+public class SqlStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final String APPLICATION_PACKAGE = "com.aprilboiz.jobmatch.";
+    private static final String CONFIG_PACKAGE = APPLICATION_PACKAGE + "config.";
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<RequestTally> REQUEST = new ThreadLocal<>();
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SqlInspectionProperties properties;
+
+    public SqlStatementInspector(SqlInspectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        // A test that sets its own inspector keeps it
+        hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        RequestTally tally = REQUEST.get();
+        if (tally != null) {
+            tally.add(sql, properties.getRepeatThreshold());
+        }
+        return sql;
+    }
+
+    /**
+     * Statements prepared on this thread so far.
+     */
+    public static long statementCount() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Starts grouping this thread's statements; close the returned tally to stop.
+     */
+    public static RequestTally openRequest() {
+        RequestTally tally = new RequestTally();
+        REQUEST.set(tally);
+        return tally;
+    }
+
+    public record Repeat(String sql, int count, String callSite) {
+    }
+
+    public static final class RequestTally implements AutoCloseable {
+        private final long startCount = statementCount();
+        private final Map<String, Repeat> bySql = new LinkedHashMap<>();
+
+        private void add(String sql, int repeatThreshold) {
+            Repeat previous = bySql.get(sql);
+            int count = previous == null ? 1 : previous.count() + 1;
+            String callSite = previous == null ? null : previous.callSite();
+            if (callSite == null && count >= repeatThreshold) {
+                callSite = callSite();
+            }
+            bySql.put(sql, new Repeat(sql, count, callSite));
+        }
+
+        public long statements() {
+            return statementCount() - startCount;
+        }
+
+        /**
+         * Statements issued at least {@code repeat-threshold} times, most repeated first.
+         */
+        public List<Repeat> repeats() {
+            return bySql.values().stream()
+                    .filter(repeat -> repeat.callSite() != null)
+                    .sorted((a, b) -> Integer.compare(b.count(), a.count()))
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            REQUEST.remove();
+        }
+
+        private static String callSite() {
+            Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                    .filter(f -> f.getClassName().startsWith(APPLICATION_PACKAGE))
+                    .filter(f -> !f.getClassName().startsWith(CONFIG_PACKAGE))
+                    .filter(f -> !f.getClassName().contains("$$"))
+                    .findFirst());
+            return frame.map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                    .orElse("unknown");
+        }
+    }
+}
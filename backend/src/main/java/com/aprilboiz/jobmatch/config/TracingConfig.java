@@ -0,0 +1,29 @@
+package com.aprilboiz.jobmatch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Spans start in Spring's server observation filter, follow the request onto the async
+ * executors through {@link AsyncConfig#contextTaskDecorator()} and leave in the
+ * {@code traceparent} header of RestTemplate calls. Where they end up:
+ * <ul>
+ *   <li>{@code tracing.export.file} - a JSON-lines file, see {@link FileSpanExporter}</li>
+ *   <li>{@code management.otlp.tracing.endpoint} - an OTLP/HTTP collector</li>
+ * </ul>
+ * Both can be on at once; with neither, spans only feed the trace ids in the logs.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty("tracing.export.file")
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.export.file}") Path file) throws IOException {
+        return new FileSpanExporter(file);
+    }
+}
@@ -0,0 +1,93 @@
+package com.aprilboiz.jobmatch.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events while virtual threads are enabled
+ * and logs the ones that pass through our own code, with the first application frame
+ * up front. A pinned carrier (blocking inside {@code synchronized} or a native frame)
+ * silently turns a virtual thread back into a platform thread, so this is how we find
+ * the spots that need a {@code ReentrantLock} instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "diagnostics.virtual-threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String APP_PACKAGE = "com.aprilboiz.jobmatch";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final boolean includeLibraryFrames;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${diagnostics.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+            @Value("${diagnostics.virtual-threads.pinning.include-library-frames:false}") boolean includeLibraryFrames) {
+        this.threshold = threshold;
+        this.includeLibraryFrames = includeLibraryFrames;
+    }
+
+    @Override
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        RecordedFrame appFrame = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(null);
+
+        if (appFrame == null && !includeLibraryFrames) {
+            return;
+        }
+
+        String top = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("Virtual thread pinned for {} ms at {}\n\tat {}",
+                event.getDuration().toMillis(),
+                appFrame != null ? format(appFrame) : "<library code>",
+                top);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
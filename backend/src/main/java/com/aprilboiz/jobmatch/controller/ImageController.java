@@ -3,13 +3,19 @@ package com.aprilboiz.jobmatch.controller;
 import com.aprilboiz.jobmatch.annotation.ValidContentType;
 import com.aprilboiz.jobmatch.annotation.ValidFileExtension;
 import com.aprilboiz.jobmatch.annotation.ValidFileSize;
+import com.aprilboiz.jobmatch.config.ImageUploadProperties;
 import com.aprilboiz.jobmatch.dto.response.ImageUploadResponse;
 import com.aprilboiz.jobmatch.exception.ApiResponse;
+import com.aprilboiz.jobmatch.exception.TooManyRequestsException;
 import com.aprilboiz.jobmatch.model.*;
-import com.aprilboiz.jobmatch.service.CloudinaryService;
 import com.aprilboiz.jobmatch.service.CompanyService;
+import com.aprilboiz.jobmatch.service.ImageStorageService;
 import com.aprilboiz.jobmatch.service.MessageService;
 import com.aprilboiz.jobmatch.service.UserService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageProcessor;
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+import com.aprilboiz.jobmatch.storage.StoredImage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +25,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,10 +38,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api")
@@ -41,11 +53,13 @@ import java.util.concurrent.Executor;
 @Tag(name = "Image Management", description = "Operations for uploading and managing images (avatars and company logos)")
 public class ImageController {
 
-    private final CloudinaryService cloudinaryService;
+    private final ImageStorageService imageStorageService;
     private final UserService userService;
     private final CompanyService companyService;
     private final MessageService messageService;
-    private final Executor imageUploadExecutor;
+    private final ImageUploadProperties uploadProperties;
+    private final ImageProcessor imageProcessor;
+    private final ImageProcessingProperties imageProperties;
 
     @Operation(
             summary = "Upload User Avatar",
@@ -55,7 +69,7 @@ public class ImageController {
                     This endpoint allows authenticated users to upload a profile picture:
                     - Supports PNG, JPG, and JPEG formats
                     - Maximum file size: 5MB
-                    - Images are automatically optimized and stored in Cloudinary
+                    - Images are resized into thumb, card and full variants on upload
                     - Previous avatar is automatically deleted when uploading a new one
                     - Upload is processed asynchronously for better performance
                     
@@ -84,6 +98,11 @@ public class ImageController {
                     responseCode = "413",
                     description = "File too large",
                     content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Upload pipeline is full - retry after the number of seconds in Retry-After",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
             )
     })
     @PostMapping(value = "/users/{id}/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -103,9 +122,8 @@ public class ImageController {
             MultipartFile avatar,
             @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
 
-        // Create DeferredResult with 30 second timeout
         DeferredResult<ResponseEntity<ApiResponse<ImageUploadResponse>>> deferredResult = 
-            new DeferredResult<>(30000L);
+            new DeferredResult<>(uploadProperties.getTimeout().toMillis());
 
         // Get the current user
         User currentUser = userPrincipal.getUser();
@@ -122,21 +140,21 @@ public class ImageController {
 
         log.info("Starting async avatar upload for user: {}, file: {}", id, avatar.getOriginalFilename());
 
-        // Upload to Cloudinary avatars folder asynchronously
-        CompletableFuture<String> uploadFuture = cloudinaryService.uploadAsync(avatar, "avatars");
+        // Processed and stored on the upload executor
+        CompletableFuture<StoredImage> uploadFuture = submitUpload(avatar, "avatars");
         
         uploadFuture
-            .thenCompose(avatarUrl -> {
+            .thenApply(image -> {
+                String avatarUrl = image.url();
                 log.info("Avatar upload completed for user: {}, URL: {}", id, avatarUrl);
-                // Update the user's avatar URL asynchronously with security context
-                return CompletableFuture.supplyAsync(() -> {
-                    userService.updateUserAvatar(id, avatarUrl);
-                    return avatarUrl;
-                }, imageUploadExecutor);
+                // Runs on the upload thread, which already carries the locale and security context
+                userService.updateUserAvatar(id, avatarUrl);
+                return image;
             })
-            .thenAccept(avatarUrl -> {
+            .thenAccept(image -> {
                 ImageUploadResponse response = ImageUploadResponse.builder()
-                        .imageUrl(avatarUrl)
+                        .imageUrl(image.url())
+                        .variants(image.variants())
                         .uploadedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                         .build();
 
@@ -174,7 +192,7 @@ public class ImageController {
                     - Only recruiters associated with the company can upload logos
                     - Supports PNG, JPG, and JPEG formats
                     - Maximum file size: 5MB
-                    - Images are automatically optimized and stored in Cloudinary
+                    - Images are resized into thumb, card and full variants on upload
                     - Previous logo is automatically deleted when uploading a new one
                     - Upload is processed asynchronously for better performance
                     
@@ -212,6 +230,11 @@ public class ImageController {
                     responseCode = "413",
                     description = "File too large",
                     content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Upload pipeline is full - retry after the number of seconds in Retry-After",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
             )
     })
     @PostMapping(value = "/companies/{id}/logo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -231,9 +254,8 @@ public class ImageController {
             MultipartFile logo,
             @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
 
-        // Create DeferredResult with 30 second timeout
         DeferredResult<ResponseEntity<ApiResponse<ImageUploadResponse>>> deferredResult = 
-            new DeferredResult<>(30000L);
+            new DeferredResult<>(uploadProperties.getTimeout().toMillis());
 
         // Get the current user
         User currentUser = userPrincipal.getUser();
@@ -250,21 +272,21 @@ public class ImageController {
 
         log.info("Starting async logo upload for company: {}, file: {}", id, logo.getOriginalFilename());
 
-        // Upload to Cloudinary logos folder asynchronously
-        CompletableFuture<String> uploadFuture = cloudinaryService.uploadAsync(logo, "logos");
+        // Processed and stored on the upload executor
+        CompletableFuture<StoredImage> uploadFuture = submitUpload(logo, "logos");
         
         uploadFuture
-            .thenCompose(logoUrl -> {
+            .thenApply(image -> {
+                String logoUrl = image.url();
                 log.info("Logo upload completed for company: {}, URL: {}", id, logoUrl);
-                // Update company's logo URL asynchronously with security context
-                return CompletableFuture.supplyAsync(() -> {
-                    companyService.updateCompanyLogo(id, logoUrl);
-                    return logoUrl;
-                }, imageUploadExecutor);
+                // Runs on the upload thread, which already carries the locale and security context
+                companyService.updateCompanyLogo(id, logoUrl);
+                return image;
             })
-            .thenAccept(logoUrl -> {
+            .thenAccept(image -> {
                 ImageUploadResponse response = ImageUploadResponse.builder()
-                        .imageUrl(logoUrl)
+                        .imageUrl(image.url())
+                        .variants(image.variants())
                         .uploadedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                         .build();
 
@@ -293,6 +315,74 @@ public class ImageController {
         return deferredResult;
     }
 
+    @Operation(
+            summary = "Get Image Variant",
+            description = """
+                    Serve a stored avatar or logo variant (thumb, card or full).
+                    
+                    Variant URLs contain a random image id and never change content, so responses
+                    are cacheable for a long time and marked immutable.
+                    """
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Image content"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified - the client copy matches the ETag"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Image not found",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
+            )
+    })
+    @GetMapping("/images/{folder}/{imageId}/{variant}.{extension}")
+    public ResponseEntity<Resource> getImage(
+            @Parameter(description = "Image folder", required = true, example = "avatars")
+            @PathVariable String folder,
+            @Parameter(description = "Image ID", required = true)
+            @PathVariable String imageId,
+            @Parameter(description = "Variant name", required = true, example = "card")
+            @PathVariable String variant,
+            @PathVariable String extension) {
+        ImageVariant imageVariant;
+        try {
+            imageVariant = ImageVariant.valueOf(variant.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Resource resource = imageStorageService.loadVariant(folder, imageId, imageVariant);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(imageProperties.getCacheMaxAge().toSeconds(), TimeUnit.SECONDS)
+                        .cachePublic()
+                        .immutable())
+                .eTag(imageId + "-" + imageVariant.key())
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(resource);
+    }
+
+    /*
+    * Spools the multipart file to our own temp file while the request is still open
+    * (the container may clean up its copy as soon as we return), then hands it to the
+    * upload executor. A full executor means we are already processing as many images
+    * as we allow, so tell the client when to come back instead of failing the
+    * DeferredResult.
+    */
+    private CompletableFuture<StoredImage> submitUpload(MultipartFile file, String folder) {
+        Path spooled = imageProcessor.spool(file);
+        try {
+            return imageStorageService.storeAsync(spooled, folder);
+        } catch (TaskRejectedException ex) {
+            imageProcessor.discard(spooled);
+            log.warn("Image upload rejected, executor is full (folder: {})", folder);
+            throw new TooManyRequestsException("api.error.upload.busy", uploadProperties.getRetryAfterSeconds(), ex);
+        }
+    }
+
     public boolean isUserOwnerOrAdmin(Long userId, org.springframework.security.core.Authentication authentication) {
         UserPrincipalAdapter userPrincipal = (UserPrincipalAdapter) authentication.getPrincipal();
         User currentUser = userPrincipal.getUser();
@@ -3,28 +3,47 @@ package com.aprilboiz.jobmatch.controller;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDate;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.ArrayList;
 
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.ExportFormat;
 import com.aprilboiz.jobmatch.enumerate.JobStatus;
 import com.aprilboiz.jobmatch.enumerate.JobType;
-import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.enumerate.SuggestionType;
+import com.aprilboiz.jobmatch.dto.GeoFilter;
+import com.aprilboiz.jobmatch.dto.VersionedData;
+import com.aprilboiz.jobmatch.service.ApplicationExportService;
 import com.aprilboiz.jobmatch.service.JobCategoryService;
+import com.aprilboiz.jobmatch.service.JobFacetService;
+import com.aprilboiz.jobmatch.service.ReferenceDataService;
+import com.aprilboiz.jobmatch.service.SuggestionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.aprilboiz.jobmatch.dto.request.JobRequest;
 import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
+import com.aprilboiz.jobmatch.dto.response.JobFacetResponse;
 import com.aprilboiz.jobmatch.dto.response.JobResponse;
+import com.aprilboiz.jobmatch.dto.response.SuggestionResponse;
 import com.aprilboiz.jobmatch.exception.ApiResponse;
 import com.aprilboiz.jobmatch.service.JobService;
 import com.aprilboiz.jobmatch.service.MessageService;
@@ -44,13 +63,26 @@ import jakarta.validation.Valid;
 public class JobController {
         private final JobService jobService;
         private final JobCategoryService jobCategoryService;
+        private final ReferenceDataService referenceDataService;
+        private final JobFacetService jobFacetService;
+        private final SuggestionService suggestionService;
+        private final ApplicationExportService applicationExportService;
         private final MessageService messageService;
+        private final CacheControl referenceDataCacheControl;
 
         public JobController(JobService jobService, JobCategoryService jobCategoryService,
-                        MessageService messageService) {
+                        ReferenceDataService referenceDataService, JobFacetService jobFacetService,
+                        SuggestionService suggestionService, ApplicationExportService applicationExportService,
+                        MessageService messageService,
+                        @Value("${reference-data.max-age:5m}") Duration referenceDataMaxAge) {
                 this.jobService = jobService;
                 this.jobCategoryService = jobCategoryService;
+                this.referenceDataService = referenceDataService;
+                this.jobFacetService = jobFacetService;
+                this.suggestionService = suggestionService;
+                this.applicationExportService = applicationExportService;
                 this.messageService = messageService;
+                this.referenceDataCacheControl = CacheControl.maxAge(referenceDataMaxAge).cachePublic().mustRevalidate();
         }
 
         @Operation(summary = "Get All Jobs", description = """
@@ -80,7 +112,7 @@ public class JobController {
         }
 
         @GetMapping("/search")
-        @Operation(summary = "Search and filter jobs", description = "Search jobs by keyword and apply various filters")
+        @Operation(summary = "Search and filter jobs", description = "Search jobs by keyword and apply various filters, optionally within a radius of a place and ordered by distance")
         public ResponseEntity<ApiResponse<Page<JobResponse>>> searchJobs(
                         @Parameter(description = "Search keyword (searches in title, description, and company name)") @RequestParam(required = false) String keyword,
 
@@ -90,9 +122,13 @@ public class JobController {
 
                         @Parameter(description = "Filter by location") @RequestParam(required = false) String location,
 
-                        @Parameter(description = "Minimum salary") @RequestParam(required = false) BigDecimal minSalary,
+                        @Parameter(description = "Minimum salary, in salaryCurrency per salaryPeriod") @RequestParam(required = false) BigDecimal minSalary,
 
-                        @Parameter(description = "Maximum salary") @RequestParam(required = false) BigDecimal maxSalary,
+                        @Parameter(description = "Maximum salary, in salaryCurrency per salaryPeriod") @RequestParam(required = false) BigDecimal maxSalary,
+
+                        @Parameter(description = "Currency of minSalary/maxSalary; jobs in other currencies are converted") @RequestParam(defaultValue = "USD") CurrencyType salaryCurrency,
+
+                        @Parameter(description = "Pay period of minSalary/maxSalary; jobs with other periods are converted") @RequestParam(defaultValue = "ANNUAL") PeriodType salaryPeriod,
 
                         @Parameter(description = "Filter by company name") @RequestParam(required = false) String companyName,
 
@@ -100,6 +136,16 @@ public class JobController {
 
                         @Parameter(description = "Application deadline after this date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate applicationDeadlineAfter,
 
+                        @Parameter(description = "Centre of a geo search as a place name, e.g. \"Ho Chi Minh City\"") @RequestParam(required = false) String near,
+
+                        @Parameter(description = "Centre latitude; overrides near") @RequestParam(required = false) Double latitude,
+
+                        @Parameter(description = "Centre longitude; overrides near") @RequestParam(required = false) Double longitude,
+
+                        @Parameter(description = "Only jobs within this many km of the centre") @RequestParam(required = false) Double radiusKm,
+
+                        @Parameter(description = "Order by distance from the centre instead of the page sort") @RequestParam(defaultValue = "false") boolean sortByDistance,
+
                         Pageable pageable) {
 
                 PageRequest pageRequest = PageRequest.of(
@@ -114,12 +160,54 @@ public class JobController {
 
                 Page<JobResponse> jobs = jobService.searchAndFilterJobs(
                                 keyword, jobType, jobCategory, location, minSalary, maxSalary,
-                                companyName, status, applicationDeadlineAfter, pageRequest);
+                                salaryCurrency, salaryPeriod, companyName, status, applicationDeadlineAfter,
+                                new GeoFilter(near, latitude, longitude, radiusKm, sortByDistance), pageRequest);
 
                 String successMessage = messageService.getMessage("api.success.jobs.retrieved");
                 return ResponseEntity.ok(ApiResponse.success(successMessage, jobs));
         }
 
+        @GetMapping("/facets")
+        @Operation(summary = "Get filter counts", description = """
+                        Count open jobs per job type, category, location and company for the given filter selection.
+
+                        Each facet ignores its own selection, so the counts show how many jobs the user would
+                        get by switching to another value of that filter. Values are matched exactly, as listed
+                        by the filter-options endpoints. Served from an in-memory index; keyword and salary
+                        filters are not applied.
+                        """)
+        public ResponseEntity<ApiResponse<JobFacetResponse>> getFacetCounts(
+                        @Parameter(description = "Selected job type") @RequestParam(required = false) JobType jobType,
+
+                        @Parameter(description = "Selected job category code (1-24)") @RequestParam(required = false) Integer jobCategory,
+
+                        @Parameter(description = "Selected location") @RequestParam(required = false) String location,
+
+                        @Parameter(description = "Selected company name") @RequestParam(required = false) String companyName) {
+                JobFacetResponse facets = jobFacetService.getFacetCounts(jobType, jobCategory, location, companyName);
+                String successMessage = messageService.getMessage("operation.completed");
+                return ResponseEntity.ok(ApiResponse.success(successMessage, facets));
+        }
+
+        @GetMapping("/suggestions")
+        @Operation(summary = "Autocomplete search input", description = """
+                        Return up to 10 suggestions starting with the typed prefix, most used first.
+
+                        Suggestions come from open job titles, skills, locations and company names. Matching
+                        ignores case and Vietnamese diacritics, and titles also match from their second or third
+                        word (e.g. "dev" suggests "Java Developer").
+                        """)
+        public ResponseEntity<ApiResponse<List<SuggestionResponse>>> getSuggestions(
+                        @Parameter(description = "Typed prefix") @RequestParam String q,
+
+                        @Parameter(description = "Restrict suggestions to one field") @RequestParam(required = false) SuggestionType type,
+
+                        @Parameter(description = "Maximum number of suggestions (1-10)") @RequestParam(defaultValue = "10") int limit) {
+                List<SuggestionResponse> suggestions = suggestionService.suggest(q, type, limit);
+                String successMessage = messageService.getMessage("operation.completed");
+                return ResponseEntity.ok(ApiResponse.success(successMessage, suggestions));
+        }
+
         @Operation(summary = "Get Job Details", description = """
                         Retrieve detailed information about a specific job posting.
 
@@ -173,6 +261,40 @@ public class JobController {
                                 ApiResponse.success(successMessage, jobService.getJobApplications(id, pageRequest)));
         }
 
+        @Operation(summary = "Export Applications for Job (Recruiter Only)", description = """
+                        Download every application submitted for a job posting as one file.
+
+                        - CSV (default): one header line, then a line per application, UTF-8 with a byte order mark
+                        - NDJSON: one JSON object per line
+
+                        Each row has the application's status and date, the candidate's name, email and phone,
+                        the CV file name, the match score and skills, and the cover letter. Rows are streamed in
+                        application order as they are read, so large exports start downloading immediately.
+
+                        Only the recruiter who posted the job, or a recruiter of the same company, can export it.
+                        """, security = @SecurityRequirement(name = "Bearer Authentication"))
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export streamed", content = {
+                                        @Content(mediaType = "text/csv"),
+                                        @Content(mediaType = "application/x-ndjson") }),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token", content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - User is not a recruiter or not the job owner", content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Job not found", content = @Content(schema = @Schema(implementation = ApiResponse.Error.class)))
+        })
+        @GetMapping("/{id}/applications/export")
+        @PreAuthorize("hasRole('RECRUITER')")
+        public ResponseEntity<StreamingResponseBody> exportApplicationsForJob(
+                        @Parameter(description = "Job ID", required = true, example = "1") @PathVariable Long id,
+                        @Parameter(description = "File format") @RequestParam(defaultValue = "CSV") ExportFormat format) {
+                StreamingResponseBody body = applicationExportService.exportApplications(id, format);
+                String fileName = "job-" + id + "-applications." + format.getExtension();
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(format.getMediaType() + ";charset=UTF-8"))
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                ContentDisposition.attachment().filename(fileName).build().toString())
+                                .body(body);
+        }
+
         @Operation(summary = "Create New Job Posting (Recruiter Only)", description = """
                         Create a new job posting as a recruiter.
 
@@ -269,9 +391,8 @@ public class JobController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Job types retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
         })
         @GetMapping("/job-types")
-        public ResponseEntity<ApiResponse<JobType[]>> getJobTypes() {
-                String successMessage = messageService.getMessage("operation.completed");
-                return ResponseEntity.ok(ApiResponse.success(successMessage, JobType.values()));
+        public ResponseEntity<ApiResponse<JobType[]>> getJobTypes(WebRequest request) {
+                return referenceData(request, VersionedData.of(JobType.values()));
         }
 
         @Operation(summary = "Get Available Job Categories", description = """
@@ -288,18 +409,8 @@ public class JobController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Job categories retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
         })
         @GetMapping("/job-categories")
-        public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getJobCategories() {
-                List<Map<String, Object>> categories = new ArrayList<>();
-                List<JobCategory> jobCategories = jobCategoryService.getAllActiveCategories();
-                for (JobCategory category : jobCategories) {
-                        Map<String, Object> categoryMap = new HashMap<>();
-                        categoryMap.put("code", category.getId());
-                        categoryMap.put("name", category.getName());
-                        categoryMap.put("description", category.getDescription());
-                        categories.add(categoryMap);
-                }
-                String successMessage = messageService.getMessage("operation.completed");
-                return ResponseEntity.ok(ApiResponse.success(successMessage, categories));
+        public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getJobCategories(WebRequest request) {
+                return referenceData(request, referenceDataService.getJobCategories());
         }
 
         @Operation(summary = "Get Available Job Statuses", description = """
@@ -315,24 +426,45 @@ public class JobController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Job statuses retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
         })
         @GetMapping("/job-statuses")
-        public ResponseEntity<ApiResponse<JobStatus[]>> getJobStatuses() {
-                String successMessage = messageService.getMessage("operation.completed");
-                return ResponseEntity.ok(ApiResponse.success(successMessage, JobStatus.values()));
+        public ResponseEntity<ApiResponse<JobStatus[]>> getJobStatuses(WebRequest request) {
+                return referenceData(request, VersionedData.of(JobStatus.values()));
         }
 
         @GetMapping("/filter-options/locations")
         @Operation(summary = "Get all available job locations", description = "Returns a list of distinct locations for filtering jobs")
-        public ResponseEntity<ApiResponse<List<String>>> getAvailableLocations() {
-                List<String> locations = jobService.getDistinctLocations();
-                String successMessage = messageService.getMessage("operation.completed");
-                return ResponseEntity.ok(ApiResponse.success(successMessage, locations));
+        public ResponseEntity<ApiResponse<List<String>>> getAvailableLocations(WebRequest request) {
+                return referenceData(request, referenceDataService.getLocations());
         }
 
         @GetMapping("/filter-options/companies")
         @Operation(summary = "Get all available company names", description = "Returns a list of distinct company names for filtering jobs")
-        public ResponseEntity<ApiResponse<List<String>>> getAvailableCompanyNames() {
-                List<String> companyNames = jobService.getDistinctCompanyNames();
+        public ResponseEntity<ApiResponse<List<String>>> getAvailableCompanyNames(WebRequest request) {
+                return referenceData(request, referenceDataService.getCompanyNames());
+        }
+
+        private <T> ResponseEntity<ApiResponse<T>> referenceData(WebRequest request, VersionedData<T> versioned) {
+                return referenceData(request, versioned.data(), versioned.version());
+        }
+
+        /**
+         * Lookup lists change rarely, so let browsers and proxies keep them and
+         * revalidate with If-None-Match. The success message is localized, hence the
+         * locale in the ETag and the Vary header.
+         */
+        private <T> ResponseEntity<ApiResponse<T>> referenceData(WebRequest request, T data, String version) {
+                String eTag = "\"" + version + "-" + LocaleContextHolder.getLocale().toLanguageTag() + "\"";
+                if (request.checkNotModified(eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(eTag)
+                                        .cacheControl(referenceDataCacheControl)
+                                        .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                                        .build();
+                }
                 String successMessage = messageService.getMessage("operation.completed");
-                return ResponseEntity.ok(ApiResponse.success(successMessage, companyNames));
+                return ResponseEntity.ok()
+                                .eTag(eTag)
+                                .cacheControl(referenceDataCacheControl)
+                                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                                .body(ApiResponse.success(successMessage, data));
         }
 }
@@ -0,0 +1,62 @@
+package com.aprilboiz.jobmatch.controller;
+
+import com.aprilboiz.jobmatch.dto.response.ApplicationNotification;
+import com.aprilboiz.jobmatch.event.UserNotificationHub;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@Tag(name = "Notifications", description = "Live updates for the signed-in user")
+public class NotificationController {
+    private final UserNotificationHub notificationHub;
+
+    public NotificationController(UserNotificationHub notificationHub) {
+        this.notificationHub = notificationHub;
+    }
+
+    @Operation(
+            summary = "Stream Notifications",
+            description = """
+                    Opens a server-sent event stream for the authenticated user, replacing polling
+                    of the application endpoints.
+                    
+                    - `ready` is sent first: load the current applications once, then apply events
+                    - `application` is sent when one of the user's applications is submitted,
+                      withdrawn or changes status; candidates get their own, recruiters those of
+                      their jobs. The event id is increasing and `sequenceNumber` orders the changes
+                      of one application, so a repeated or older change can be ignored
+                    
+                    The stream ends after a while and on server restarts; reconnect and start over
+                    from `ready`. Comments are sent periodically to keep idle connections open.
+                    """,
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ApplicationNotification.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Invalid or missing token"
+            )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
+        return notificationHub.subscribe(userPrincipal.getUser().getId());
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.aprilboiz.jobmatch.dto.request.CompanyRequest;
 import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
 import com.aprilboiz.jobmatch.dto.response.JobResponse;
+import com.aprilboiz.jobmatch.dto.response.JobStatsResponse;
 import com.aprilboiz.jobmatch.exception.ApiResponse;
 import com.aprilboiz.jobmatch.model.Company;
 import com.aprilboiz.jobmatch.model.Recruiter;
@@ -26,6 +27,7 @@ import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
 import com.aprilboiz.jobmatch.service.ApplicationService;
 import com.aprilboiz.jobmatch.service.CompanyService;
 import com.aprilboiz.jobmatch.service.JobService;
+import com.aprilboiz.jobmatch.service.JobStatsService;
 import com.aprilboiz.jobmatch.service.MessageService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +39,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/me")
 @PreAuthorize("hasRole('RECRUITER')")
@@ -46,12 +50,15 @@ public class RecruiterController {
     private final MessageService messageService;
     private final CompanyService companyService;
     private final ApplicationService applicationService;
+    private final JobStatsService jobStatsService;
 
-    public RecruiterController(JobService jobService, MessageService messageService, CompanyService companyService, ApplicationService applicationService) {
+    public RecruiterController(JobService jobService, MessageService messageService, CompanyService companyService,
+                               ApplicationService applicationService, JobStatsService jobStatsService) {
         this.jobService = jobService;
         this.messageService = messageService;
         this.companyService = companyService;
         this.applicationService = applicationService;
+        this.jobStatsService = jobStatsService;
     }
 
     @Operation(
@@ -106,6 +113,51 @@ public class RecruiterController {
         return ResponseEntity.ok(ApiResponse.success(successMessage, jobService.getJobsByRecruiter(recruiter, pageRequest)));
     }
 
+    @Operation(
+            summary = "Get Application Statistics of Recruiter's Jobs",
+            description = """
+                    Retrieve application statistics for every job posted by the authenticated recruiter.
+                    
+                    For each job the response contains:
+                    - Number of applications per status (every status is present, zero included)
+                    - Total number of applications received
+                    - Average match score of the scored applications that are not withdrawn
+                    
+                    The numbers come from counters updated as applications change, so a change
+                    shows up here within moments of being saved. Jobs are listed newest first.
+                    Only accessible to users with RECRUITER role.
+                    """,
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Job statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - Invalid or missing token",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - User is not a recruiter",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.Error.class))
+            )
+    })
+    @GetMapping("/jobs/stats")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<ApiResponse<List<JobStatsResponse>>> getRecruiterJobStats() {
+        UserPrincipalAdapter userPrincipalAdapter = (UserPrincipalAdapter) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        User user = userPrincipalAdapter.getUser();
+        if (!(user instanceof Recruiter recruiter)) {
+            throw new AccessDeniedException(messageService.getMessage("error.authorization.recruiter.required"));
+        }
+        String successMessage = messageService.getMessage("api.success.job.stats.retrieved");
+        return ResponseEntity.ok(ApiResponse.success(successMessage, jobStatsService.getJobStatsByRecruiter(recruiter)));
+    }
+
     @Operation(
             summary = "Update Company Profile",
             description = """
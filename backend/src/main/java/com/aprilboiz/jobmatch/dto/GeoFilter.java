@@ -0,0 +1,14 @@
+package com.aprilboiz.jobmatch.dto;
+
+/**
+ * Geo part of a job search: a centre given as a place name or as coordinates, an
+ * optional radius and whether to order by distance.
+ */
+public record GeoFilter(String near, Double latitude, Double longitude, Double radiusKm, boolean sortByDistance) {
+    public static final GeoFilter NONE = new GeoFilter(null, null, null, null, false);
+
+    public boolean isEmpty() {
+        return (near == null || near.isBlank()) && latitude == null && longitude == null
+                && radiusKm == null && !sortByDistance;
+    }
+}
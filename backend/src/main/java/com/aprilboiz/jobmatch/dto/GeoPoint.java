@@ -0,0 +1,20 @@
+package com.aprilboiz.jobmatch.dto;
+
+/**
+ * WGS84 coordinates in decimal degrees.
+ */
+public record GeoPoint(double latitude, double longitude) {
+    public static final double KM_PER_DEGREE_LATITUDE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Great-circle (haversine) distance in kilometres.
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.aprilboiz.jobmatch.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Cached data plus a version derived from its content. Equal content gives the same
+ * version on every node, so it can be used directly as an ETag.
+ */
+public record VersionedData<T>(T data, String version) {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Versions {@code data} by a SHA-256 of its JSON, which depends only on the content:
+     * enums are written by name, unlike their identity hash codes.
+     */
+    public static <T> VersionedData<T> of(T data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(JSON.writeValueAsBytes(data));
+            return new VersionedData<>(data, Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot version reference data", e);
+        }
+    }
+}
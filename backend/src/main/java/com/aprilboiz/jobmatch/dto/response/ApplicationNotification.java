@@ -0,0 +1,34 @@
+package com.aprilboiz.jobmatch.dto.response;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.event.ApplicationChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Data of an 'application' event on the notification stream")
+public class ApplicationNotification {
+    @Schema(description = "Application the change belongs to", example = "1")
+    private Long applicationId;
+
+    @Schema(description = "Job applied for", example = "1")
+    private Long jobId;
+
+    @Schema(description = "What happened to the application", example = "STATUS_CHANGED")
+    private ApplicationChangedEvent.ChangeType type;
+
+    @Schema(description = "Status before the change, absent for a new application", example = "APPLIED")
+    private ApplicationStatus previousStatus;
+
+    @Schema(description = "Status after the change", example = "IN_REVIEW")
+    private ApplicationStatus status;
+
+    @Schema(description = "Position of this change among the application's changes, starting at 1", example = "2")
+    private long sequenceNumber;
+}
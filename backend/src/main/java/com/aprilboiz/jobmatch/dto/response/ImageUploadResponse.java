@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,6 +18,10 @@ public class ImageUploadResponse {
     @Schema(description = "The uploaded image URL", example = "https://res.cloudinary.com/example/image/upload/v1234567890/avatars/uuid.jpg")
     private String imageUrl;
     
+    @Schema(description = "URLs of the generated size variants keyed by variant name (thumb, card, full)",
+            example = "{\"thumb\": \"/api/images/avatars/0b9c.../thumb.jpg\", \"card\": \"/api/images/avatars/0b9c.../card.jpg\"}")
+    private Map<String, String> variants;
+
     @Schema(description = "Upload timestamp", example = "2024-01-15T10:30:00")
     private String uploadedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.aprilboiz.jobmatch.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Open job counts per filter value for the current filter selection")
+public class JobFacetResponse {
+    @Schema(description = "Number of open jobs matching every selected filter", example = "42")
+    private long total;
+
+    @Schema(description = "Counts per job type, ignoring the selected job type", example = "{\"FULL_TIME\": 30, \"PART_TIME\": 12}")
+    private Map<String, Long> jobTypes;
+
+    @Schema(description = "Counts per job category code, ignoring the selected category", example = "{\"1\": 20, \"5\": 22}")
+    private Map<String, Long> jobCategories;
+
+    @Schema(description = "Counts per location, ignoring the selected location", example = "{\"Ho Chi Minh\": 25, \"Ha Noi\": 17}")
+    private Map<String, Long> locations;
+
+    @Schema(description = "Counts per company name, ignoring the selected company", example = "{\"Acme\": 4}")
+    private Map<String, Long> companies;
+}
@@ -35,6 +35,15 @@ public class JobResponse {
     
     @Schema(description = "Job location", example = "San Francisco, CA, USA")
     private String location;
+
+    @Schema(description = "Latitude geocoded from the location, if it names a known place", example = "10.7769")
+    private Double latitude;
+
+    @Schema(description = "Longitude geocoded from the location, if it names a known place", example = "106.7009")
+    private Double longitude;
+
+    @Schema(description = "Distance in km from the searched centre; only set on geo searches", example = "3.4")
+    private Double distanceKm;
     
     @Schema(description = "List of required skills for the job position", example = "[\"Java\", \"Spring Boot\", \"REST APIs\", \"MySQL\", \"Git\"]")
     private List<String> skills;
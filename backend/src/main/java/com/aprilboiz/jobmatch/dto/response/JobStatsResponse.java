@@ -0,0 +1,38 @@
+package com.aprilboiz.jobmatch.dto.response;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Application statistics of one of the recruiter's jobs")
+public class JobStatsResponse {
+    @Schema(description = "Job ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "Job title", example = "Senior Java Developer")
+    private String title;
+
+    @Schema(description = "Job status", example = "OPEN")
+    private JobStatus jobStatus;
+
+    @Schema(description = "Applications received, withdrawn ones included", example = "12")
+    private long totalApplications;
+
+    @Schema(description = "Applications per status, every status present",
+            example = "{\"APPLIED\": 5, \"IN_REVIEW\": 3, \"INTERVIEW\": 2, \"OFFERED\": 1, \"REJECTED\": 0, \"WITHDRAWN\": 1}")
+    private Map<ApplicationStatus, Long> applicationsByStatus;
+
+    @Schema(description = "Average match score of the scored applications that are not withdrawn, absent when there are none",
+            example = "72.5")
+    private Double averageScore;
+}
@@ -0,0 +1,24 @@
+package com.aprilboiz.jobmatch.dto.response;
+
+import com.aprilboiz.jobmatch.enumerate.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Autocomplete suggestion")
+public class SuggestionResponse {
+    @Schema(description = "Suggested text as written in the job posting", example = "Java Developer")
+    private String text;
+
+    @Schema(description = "Field the suggestion comes from", example = "TITLE")
+    private SuggestionType type;
+
+    @Schema(description = "Number of open jobs using this value", example = "12")
+    private long jobCount;
+}
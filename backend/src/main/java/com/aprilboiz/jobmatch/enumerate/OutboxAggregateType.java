@@ -0,0 +1,6 @@
+package com.aprilboiz.jobmatch.enumerate;
+
+public enum OutboxAggregateType {
+    JOB,
+    APPLICATION
+}
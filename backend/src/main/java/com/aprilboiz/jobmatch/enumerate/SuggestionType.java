@@ -0,0 +1,8 @@
+package com.aprilboiz.jobmatch.enumerate;
+
+public enum SuggestionType {
+    TITLE,
+    SKILL,
+    LOCATION,
+    COMPANY
+}
@@ -0,0 +1,56 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.model.Application;
+
+/**
+ * Published by ApplicationService when an application is submitted or changes status.
+ * {@code recruiterId} is the owner of the job and {@code score} the analysis score, if any.
+ * The previous values are null for a new application; an application is scored once, when
+ * it is submitted, so {@code previousScore} is otherwise its current score.
+ */
+public record ApplicationChangedEvent(
+        ChangeType type,
+        Long applicationId,
+        Long jobId,
+        Long candidateId,
+        Long recruiterId,
+        ApplicationStatus previousStatus,
+        ApplicationStatus status,
+        Double previousScore,
+        Double score) {
+
+    public enum ChangeType {
+        CREATED, STATUS_CHANGED, WITHDRAWN
+    }
+
+    public static ApplicationChangedEvent created(Application application) {
+        return of(ChangeType.CREATED, application, null, null);
+    }
+
+    public static ApplicationChangedEvent statusChanged(Application application, ApplicationStatus previousStatus) {
+        return of(ChangeType.STATUS_CHANGED, application, previousStatus, scoreOf(application));
+    }
+
+    public static ApplicationChangedEvent withdrawn(Application application, ApplicationStatus previousStatus) {
+        return of(ChangeType.WITHDRAWN, application, previousStatus, scoreOf(application));
+    }
+
+    private static ApplicationChangedEvent of(ChangeType type, Application application,
+                                              ApplicationStatus previousStatus, Double previousScore) {
+        return new ApplicationChangedEvent(
+                type,
+                application.getId(),
+                application.getJob().getId(),
+                application.getCandidate().getId(),
+                application.getJob().getRecruiter().getId(),
+                previousStatus,
+                application.getStatus(),
+                previousScore,
+                scoreOf(application));
+    }
+
+    private static Double scoreOf(Application application) {
+        return application.getAnalysis() != null ? application.getAnalysis().getScore() : null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.dto.response.ApplicationNotification;
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Pushes every relayed application change to the candidate who applied and to the
+ * recruiter who owns the job, as an {@code application} event whose id is the outbox id.
+ * Runs once the event's delivery has committed, on the node that relayed it; the hub
+ * takes it to the other nodes.
+ */
+@Component
+@Slf4j
+public class ApplicationNotifier {
+    private final UserNotificationHub hub;
+    private final ObjectMapper objectMapper;
+
+    public ApplicationNotifier(UserNotificationHub hub, ObjectMapper objectMapper) {
+        this.hub = hub;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener
+    public void onOutboxMessage(OutboxMessage message) {
+        if (message.aggregateType() != OutboxAggregateType.APPLICATION) {
+            return;
+        }
+        try {
+            ApplicationChangedEvent event = objectMapper.readValue(message.payload(), ApplicationChangedEvent.class);
+            ApplicationNotification notification = ApplicationNotification.builder()
+                    .applicationId(event.applicationId())
+                    .jobId(event.jobId())
+                    .type(event.type())
+                    .previousStatus(event.previousStatus())
+                    .status(event.status())
+                    .sequenceNumber(message.sequenceNumber())
+                    .build();
+            List<Long> recipients = Stream.of(event.candidateId(), event.recruiterId())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            hub.publish(new UserNotificationHub.Notification(recipients, String.valueOf(message.id()),
+                    "application", objectMapper.writeValueAsString(notification)));
+        } catch (JsonProcessingException e) {
+            log.warn("Cannot notify about application event {}: {}", message.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aprilboiz.jobmatch.event;
+
+/**
+ * Published by CompanyService when a company is created or its profile changes.
+ */
+public record CompanyChangedEvent(Long companyId, String previousName, String name) {
+
+    public boolean isRenamed() {
+        return previousName != null && !previousName.equals(name);
+    }
+}
@@ -0,0 +1,7 @@
+package com.aprilboiz.jobmatch.event;
+
+/**
+ * Published by JobCategoryService on any category write.
+ */
+public record JobCategoryChangedEvent(Integer categoryId) {
+}
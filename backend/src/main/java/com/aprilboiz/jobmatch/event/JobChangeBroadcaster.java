@@ -0,0 +1,85 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Tells other nodes which job changed after a local commit. In-memory read models
+ * register a callback and reload that job themselves; the message only carries the id.
+ */
+@Component
+@Slf4j
+public class JobChangeBroadcaster {
+    static final String CHANNEL = "jobmatch:job-changed";
+
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final NodeIdentity nodeIdentity;
+    private final List<Consumer<Long>> remoteListeners = new CopyOnWriteArrayList<>();
+
+    public JobChangeBroadcaster(ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                                ObjectProvider<StringRedisTemplate> redisTemplate,
+                                NodeIdentity nodeIdentity) {
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.nodeIdentity = nodeIdentity;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL)));
+    }
+
+    /**
+     * Registers a callback for jobs changed on another node.
+     */
+    public void onRemoteChange(Consumer<Long> listener) {
+        remoteListeners.add(listener);
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        redisTemplate.ifAvailable(template -> {
+            try {
+                template.convertAndSend(CHANNEL, nodeIdentity.getId() + "|" + event.jobId());
+            } catch (Exception e) {
+                log.warn("Failed to publish job change for {}: {}", event.jobId(), e.getMessage());
+            }
+        });
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2 || parts[0].equals(nodeIdentity.getId())) {
+            return;
+        }
+        Long jobId;
+        try {
+            jobId = Long.valueOf(parts[1]);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed job change message: {}", parts[1]);
+            return;
+        }
+        for (Consumer<Long> listener : remoteListeners) {
+            try {
+                listener.accept(jobId);
+            } catch (Exception e) {
+                log.warn("Remote job change listener failed for {}", jobId, e);
+            }
+        }
+    }
+}
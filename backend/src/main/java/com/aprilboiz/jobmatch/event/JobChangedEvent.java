@@ -0,0 +1,25 @@
+package com.aprilboiz.jobmatch.event;
+
+/**
+ * Published by JobService on every job write. {@code before} is null for a new job
+ * and {@code after} is null for a deleted one, so listeners can apply the change as
+ * a delta instead of re-reading the jobs table.
+ */
+public record JobChangedEvent(ChangeType type, Long jobId, JobSnapshot before, JobSnapshot after) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static JobChangedEvent created(JobSnapshot after) {
+        return new JobChangedEvent(ChangeType.CREATED, after.id(), null, after);
+    }
+
+    public static JobChangedEvent updated(JobSnapshot before, JobSnapshot after) {
+        return new JobChangedEvent(ChangeType.UPDATED, after.id(), before, after);
+    }
+
+    public static JobChangedEvent deleted(JobSnapshot before) {
+        return new JobChangedEvent(ChangeType.DELETED, before.id(), before, null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.model.Job;
+
+import java.util.List;
+
+/**
+ * Immutable copy of the job fields derived read models care about. Taken inside
+ * the writing transaction so listeners never touch a detached entity.
+ */
+public record JobSnapshot(
+        Long id,
+        String title,
+        String location,
+        Long companyId,
+        String companyName,
+        JobType jobType,
+        Integer categoryId,
+        JobStatus status,
+        List<String> skills) {
+
+    public static JobSnapshot of(Job job) {
+        return new JobSnapshot(
+                job.getId(),
+                job.getTitle(),
+                job.getLocation(),
+                job.getCompany() != null ? job.getCompany().getId() : null,
+                job.getCompany() != null ? job.getCompany().getName() : null,
+                job.getJobType(),
+                job.getJobCategory() != null ? job.getJobCategory().getId() : null,
+                job.getStatus(),
+                job.getSkills() != null ? List.copyOf(job.getSkills()) : List.of());
+    }
+}
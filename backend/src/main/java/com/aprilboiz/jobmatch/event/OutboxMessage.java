@@ -0,0 +1,50 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A relayed outbox event, as delivered to in-process listeners and written to the Redis
+ * stream. {@code eventType} is the change type of the originating event, and
+ * {@code payload} is that event as JSON ({@link JobChangedEvent} or
+ * {@link ApplicationChangedEvent}).
+ * <p>
+ * Delivery is at least once. A listener keeps the last {@code sequenceNumber} it applied
+ * per aggregate and ignores anything at or below it.
+ */
+public record OutboxMessage(
+        Long id,
+        OutboxAggregateType aggregateType,
+        Long aggregateId,
+        long sequenceNumber,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt) {
+
+    static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getSequenceNumber(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt());
+    }
+
+    Map<String, String> toStreamFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", String.valueOf(id));
+        fields.put("aggregateType", aggregateType.name());
+        fields.put("aggregateId", String.valueOf(aggregateId));
+        fields.put("sequenceNumber", String.valueOf(sequenceNumber));
+        fields.put("eventType", eventType);
+        fields.put("payload", payload);
+        fields.put("createdAt", createdAt.toString());
+        return fields;
+    }
+}
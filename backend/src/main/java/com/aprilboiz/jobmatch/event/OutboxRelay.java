@@ -0,0 +1,214 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.OutboxProperties;
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+import com.aprilboiz.jobmatch.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Publishes outbox events in id order, a batch per transaction: first to in-process
+ * listeners of {@link OutboxMessage}, then to the Redis stream (when enabled) as one
+ * pipelined round trip, and marks them published in the same transaction.
+ * <p>
+ * The batch stays locked until commit, so relays on several nodes take turns instead of
+ * racing, and an aggregate's events go out in sequence. If the stream write fails, the
+ * batch rolls back and is retried on the next poll.
+ * <p>
+ * Each message reaches the listeners in a transaction of its own, so a listener that
+ * fails, even one whose failed statement left its transaction rollback-only, loses only
+ * its own writes. The failure is logged and counted in
+ * {@code jobmatch.outbox.listener.failures}; the event and its aggregate's later events in
+ * the batch stay unpublished and are retried on the next poll, while other aggregates go
+ * on. After {@code outbox.max-attempts} failures the event becomes a dead letter, counted
+ * in {@code jobmatch.outbox.dead.letters}, and holds its aggregate back until an operator
+ * clears its {@code failed_at}.
+ * <p>
+ * Delivery is at least once: a retried event reaches every listener again, as does a
+ * batch that rolls back after its listeners committed, so a read model drops events it
+ * has already applied by their sequence number.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deliveryTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter listenerFailures;
+    private final Counter deadLetters;
+    private final Timer lag;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryTemplate = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.deliveryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.published = Counter.builder("jobmatch.outbox.published")
+                .description("Outbox events relayed")
+                .register(meterRegistry);
+        this.listenerFailures = Counter.builder("jobmatch.outbox.listener.failures")
+                .description("Outbox event deliveries a listener failed, to be retried")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("jobmatch.outbox.dead.letters")
+                .description("Outbox events set aside after failing outbox.max-attempts times")
+                .register(meterRegistry);
+        this.lag = Timer.builder("jobmatch.outbox.lag")
+                .description("Time from an event being written to its relay")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500ms}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Relays the oldest unpublished batch and returns how many of its events were published.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockUnpublished(Limit.of(properties.getBatchSize()));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> delivered = new ArrayList<>();
+            Set<Aggregate> heldBack = new HashSet<>();
+            for (OutboxEvent event : events) {
+                Aggregate aggregate = new Aggregate(event.getAggregateType(), event.getAggregateId());
+                if (heldBack.contains(aggregate)) {
+                    continue;
+                }
+                OutboxMessage message = OutboxMessage.of(event);
+                try {
+                    deliveryTemplate.executeWithoutResult(delivery -> eventPublisher.publishEvent(message));
+                    delivered.add(event);
+                } catch (RuntimeException e) {
+                    heldBack.add(aggregate);
+                    failed(event, now, e);
+                }
+            }
+
+            appendToStream(delivered.stream().map(OutboxMessage::of).toList());
+            for (OutboxEvent event : delivered) {
+                event.setPublishedAt(now);
+                lag.record(Duration.between(event.getCreatedAt(), now));
+            }
+            published.increment(delivered.size());
+            return delivered.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    private void failed(OutboxEvent event, LocalDateTime now, RuntimeException e) {
+        listenerFailures.increment();
+        event.setAttempts(event.getAttempts() + 1);
+        if (event.getAttempts() < properties.getMaxAttempts()) {
+            log.warn("Outbox listener failed for {} {} #{}, attempt {}; retrying on the next poll",
+                    event.getAggregateType(), event.getAggregateId(), event.getSequenceNumber(),
+                    event.getAttempts(), e);
+            return;
+        }
+        event.setFailedAt(now);
+        deadLetters.increment();
+        log.error("Outbox listener failed for {} {} #{} {} times; event {} is a dead letter and holds " +
+                        "back the aggregate's later events until its failed_at is cleared",
+                event.getAggregateType(), event.getAggregateId(), event.getSequenceNumber(),
+                event.getAttempts(), event.getId(), e);
+    }
+
+    private void appendToStream(List<OutboxMessage> messages) {
+        OutboxProperties.RedisStream stream = properties.getRedisStream();
+        if (!stream.isEnabled() || messages.isEmpty()) {
+            return;
+        }
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions
+                .maxlen(stream.getMaxLength())
+                .approximateTrimming(true);
+        template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (OutboxMessage message : messages) {
+                    redis.opsForStream().add(StreamRecords.mapBacked(message.toStreamFields())
+                            .withStreamKey(stream.getKey()), options);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval:1h}",
+               initialDelayString = "${outbox.cleanup-initial-delay:5m}")
+    public void deletePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int deleted = 0;
+        while (true) {
+            Integer batch = transactionTemplate.execute(status ->
+                    outboxEventRepository.deletePublishedBefore(cutoff, properties.getBatchSize()));
+            if (batch == null || batch == 0) {
+                break;
+            }
+            deleted += batch;
+            if (batch < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} outbox events published before {}", deleted, cutoff);
+        }
+    }
+
+    private record Aggregate(OutboxAggregateType type, Long id) {
+    }
+}
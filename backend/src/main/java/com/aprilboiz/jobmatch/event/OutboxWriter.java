@@ -0,0 +1,84 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.model.OutboxAggregate;
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+import com.aprilboiz.jobmatch.repository.OutboxAggregateRepository;
+import com.aprilboiz.jobmatch.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Turns job and application changes into outbox rows inside the transaction that
+ * published them, so an event exists exactly when its change was committed.
+ * {@link OutboxRelay} takes it from there.
+ */
+@Component
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxAggregateRepository outboxAggregateRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        OutboxAggregateRepository outboxAggregateRepository,
+                        ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxAggregateRepository = outboxAggregateRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onJobChanged(JobChangedEvent event) {
+        append(OutboxAggregateType.JOB, event.jobId(), event.type().name(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        append(OutboxAggregateType.APPLICATION, event.applicationId(), event.type().name(), event);
+    }
+
+    /**
+     * Locks the aggregate's counter row until commit, so a concurrent change to the same
+     * aggregate waits here and its event gets the next sequence number and a higher id.
+     */
+    private void append(OutboxAggregateType aggregateType, Long aggregateId, String eventType, Object payload) {
+        OutboxAggregate.Key key = new OutboxAggregate.Key(aggregateType, aggregateId);
+        OutboxAggregate aggregate = outboxAggregateRepository.lockByKey(key).orElse(null);
+        if (aggregate == null) {
+            // Only a new aggregate lacks a row, and nothing else can see it before commit
+            aggregate = new OutboxAggregate(key, 0);
+            entityManager.persist(aggregate);
+        }
+        aggregate.setLastSequence(aggregate.getLastSequence() + 1);
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .sequenceNumber(aggregate.getLastSequence())
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload " + payload, e);
+        }
+    }
+}
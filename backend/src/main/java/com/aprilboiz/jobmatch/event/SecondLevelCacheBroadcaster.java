@@ -0,0 +1,269 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import com.aprilboiz.jobmatch.config.ReplicaDataSourceProperties;
+import com.aprilboiz.jobmatch.model.AuditableEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Keeps the second-level cache coherent across nodes. After a local commit changes a
+ * cached entity or collection, the other nodes are told to evict their copy and to
+ * treat cached query results over the same tables as stale.
+ * <p>
+ * A soft-deleted entity is evicted locally too: its cached copy would let a load by id
+ * return a row the {@code @SQLRestriction} otherwise hides.
+ * <p>
+ * With read replicas, every change is evicted once more after the replicas have had
+ * time to replay it, on this node as well as the others: a read-only transaction routed
+ * to a replica that is still behind loads the old row or query result and puts it back
+ * into the cache, where it would otherwise stay until the region expires. A replica is
+ * only skipped once a health check sees it past {@code max-lag}, so the second eviction
+ * waits for {@code max-lag} plus {@code health-check-interval}.
+ */
+@Component
+@Slf4j
+public class SecondLevelCacheBroadcaster implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+    static final String CHANNEL = "jobmatch:second-level-cache";
+
+    private static final String ENTITY = "E";
+    private static final String COLLECTION = "C";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final NodeIdentity nodeIdentity;
+    private final ObjectProvider<TaskScheduler> taskScheduler;
+    /** Null without replicas, when no read can see an older row than the cache was told about. */
+    private final Duration replicaLag;
+
+    public SecondLevelCacheBroadcaster(EntityManagerFactory entityManagerFactory,
+                                       ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                                       NodeIdentity nodeIdentity,
+                                       ReplicaDataSourceProperties replicaProperties,
+                                       ObjectProvider<TaskScheduler> taskScheduler) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.nodeIdentity = nodeIdentity;
+        this.taskScheduler = taskScheduler;
+        this.replicaLag = replicaProperties.isEnabled() && !replicaProperties.getUrls().isEmpty()
+                ? replicaProperties.getMaxLag().plus(replicaProperties.getHealthCheckInterval())
+                : null;
+    }
+
+    @PostConstruct
+    void register() {
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL)));
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // Nothing to evict elsewhere, but their cached queries over this table are stale
+        committed(ENTITY, event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof AuditableEntity auditable && auditable.getDeletedAt() != null) {
+            sessionFactory.getCache().evictEntityData(event.getPersister().getEntityName(), event.getId());
+        }
+        committed(ENTITY, event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        committed(ENTITY, event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back: no node cached the change
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back: no node cached the change
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: no node cached the change
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event);
+    }
+
+    /**
+     * Collection events fire at flush, so the message waits for the commit. The local
+     * copy needs nothing at commit: Hibernate evicts a cached collection when it is written.
+     * <p>
+     * The persister comes from the collection entry: a collection created in this session
+     * has no role on the wrapper until the flush completes.
+     */
+    private void collectionChanged(AbstractCollectionEvent event) {
+        CollectionEntry entry = event.getSession().getPersistenceContextInternal()
+                .getCollectionEntry(event.getCollection());
+        CollectionPersister persister = entry == null ? null : entry.getLoadedPersister();
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        if (persister == null || !persister.hasCache() || ownerId == null) {
+            return;
+        }
+        event.getSession().getActionQueue().registerProcess((success, session) -> {
+            if (success) {
+                committed(COLLECTION, persister.getRole(), ownerId);
+            }
+        });
+    }
+
+    private void publish(String kind, String name, Object id) {
+        if (listenerContainer.getIfAvailable() == null) {
+            // Pub/sub is off, so there are no other nodes listening
+            return;
+        }
+        redisTemplate.ifAvailable(template -> {
+            try {
+                template.convertAndSend(CHANNEL, String.join("|", nodeIdentity.getId(), kind, name, id.toString()));
+            } catch (Exception e) {
+                log.warn("Failed to publish cache invalidation for {}#{}: {}", name, id, e.getMessage());
+            }
+        });
+    }
+
+    private void committed(String kind, String name, Object id) {
+        publish(kind, name, id);
+        evictAfterReplicaLag(kind, name, id.toString());
+    }
+
+    void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length != 4 || parts[0].equals(nodeIdentity.getId())) {
+            return;
+        }
+        if (evict(parts[1], parts[2], parts[3])) {
+            evictAfterReplicaLag(parts[1], parts[2], parts[3]);
+        }
+    }
+
+    private void evictAfterReplicaLag(String kind, String name, String id) {
+        if (replicaLag == null) {
+            return;
+        }
+        taskScheduler.ifAvailable(scheduler ->
+                scheduler.schedule(() -> evict(kind, name, id), Instant.now().plus(replicaLag)));
+    }
+
+    private boolean evict(String kind, String name, String id) {
+        try {
+            switch (kind) {
+                case ENTITY -> {
+                    EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(name);
+                    Object entityId = parseId(persister.getIdentifierType().getReturnedClass(), id);
+                    sessionFactory.getCache().evictEntityData(persister.getEntityName(), entityId);
+                    invalidateQueries(persister.getQuerySpaces());
+                }
+                case COLLECTION -> {
+                    CollectionPersister persister = sessionFactory.getMappingMetamodel().getCollectionDescriptor(name);
+                    Object ownerId = parseId(
+                            persister.getOwnerEntityPersister().getIdentifierType().getReturnedClass(), id);
+                    sessionFactory.getCache().evictCollectionData(persister.getRole(), ownerId);
+                    invalidateQueries(persister.getCollectionSpaces());
+                }
+                default -> {
+                    log.warn("Ignoring unknown cache invalidation {}|{}|{}", kind, name, id);
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed cache invalidation {}|{}|{}: {}", kind, name, id, e.getMessage());
+            return false;
+        }
+    }
+
+    private void invalidateQueries(Serializable[] spaces) {
+        if (!sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+        String[] tables = Arrays.stream(spaces).map(Object::toString).toArray(String[]::new);
+        try (SessionImplementor session = sessionFactory.openSession()) {
+            sessionFactory.getCache().getTimestampsCache().invalidate(tables, session);
+        }
+    }
+
+    private static Object parseId(Class<?> type, String value) {
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,266 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import com.aprilboiz.jobmatch.config.NotificationStreamProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps each signed-in user's server-sent event streams on this node and fans
+ * notifications out to them. A notification published here goes to the local streams and,
+ * over Redis pub/sub, to the other nodes, which deliver it to theirs.
+ * <p>
+ * An idle stream is an async request parked in the servlet container, so it holds a
+ * socket but no thread. Writes happen on virtual threads, one drain at a time per stream,
+ * so a slow client delays only its own events; one that falls
+ * {@code notifications.stream.max-pending-events} behind is closed and reconnects.
+ */
+@Component
+@Slf4j
+public class UserNotificationHub {
+    static final String CHANNEL = "jobmatch:user-notifications";
+
+    /**
+     * One event for a set of users. {@code data} is sent as is, normally JSON.
+     */
+    public record Notification(List<Long> userIds, String id, String name, String data) {
+    }
+
+    record Envelope(String origin, Notification notification) {
+    }
+
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final NodeIdentity nodeIdentity;
+    private final NotificationStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter dropped;
+
+    public UserNotificationHub(ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                               ObjectProvider<StringRedisTemplate> redisTemplate,
+                               NodeIdentity nodeIdentity,
+                               NotificationStreamProperties properties,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.nodeIdentity = nodeIdentity;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        Gauge.builder("jobmatch.notifications.streams", open, AtomicInteger::get)
+                .description("Open notification streams on this node")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("jobmatch.notifications.dropped")
+                .description("Streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeToChannel() {
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL)));
+    }
+
+    /**
+     * Ends the streams before the web server's graceful shutdown, which would otherwise
+     * wait on them; clients reconnect to another node.
+     */
+    @EventListener(ContextClosedEvent.class)
+    void closeStreams() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::close));
+    }
+
+    @PreDestroy
+    void stopSender() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Opens a stream for the user. Its first event, {@code ready}, tells the client to load
+     * the current state once; after that, changes arrive as events.
+     */
+    public SseEmitter subscribe(Long userId) {
+        Connection connection = new Connection(userId, new SseEmitter(properties.getTimeout().toMillis()));
+        Deque<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            Deque<Connection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        open.incrementAndGet();
+        while (userConnections.size() > properties.getMaxConnectionsPerUser()) {
+            Connection oldest = userConnections.peekFirst();
+            if (oldest == null || oldest == connection) {
+                break;
+            }
+            oldest.close();
+        }
+        connection.offer(SseEmitter.event().name("ready").data("{}"));
+        return connection.emitter;
+    }
+
+    /**
+     * Delivers to this node's streams of the notified users and to every other node.
+     */
+    public void publish(Notification notification) {
+        deliver(notification);
+        redisTemplate.ifAvailable(template -> {
+            if (listenerContainer.getIfAvailable() == null) {
+                return;
+            }
+            try {
+                template.convertAndSend(CHANNEL,
+                        objectMapper.writeValueAsString(new Envelope(nodeIdentity.getId(), notification)));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("Failed to publish notification {} to other nodes: {}", notification.id(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Keeps idle streams from being cut by proxies and notices clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-interval:25s}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void deliver(Notification notification) {
+        for (Long userId : notification.userIds()) {
+            Deque<Connection> userConnections = connections.get(userId);
+            if (userConnections == null) {
+                continue;
+            }
+            for (Connection connection : userConnections) {
+                connection.offer(SseEmitter.event()
+                        .id(notification.id())
+                        .name(notification.name())
+                        .data(notification.data()));
+            }
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed notification message: {}", e.getMessage());
+            return;
+        }
+        if (!nodeIdentity.getId().equals(envelope.origin())) {
+            deliver(envelope.notification());
+        }
+    }
+
+    private void remove(Connection connection) {
+        // Atomic with subscribe for the same user, so a reconnect never lands in a dropped deque
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                open.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            emitter.onCompletion(() -> remove(this));
+            // Ends the stream quietly instead of raising a timeout for the error handlers
+            emitter.onTimeout(this::close);
+            emitter.onError(e -> remove(this));
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > properties.getMaxPendingEvents()) {
+                dropped.increment();
+                close();
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already completed
+                pending.clear();
+                remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            remove(this);
+            pending.clear();
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Stream for user {} already closed: {}", userId, e.getMessage());
+            }
+        }
+    }
+}
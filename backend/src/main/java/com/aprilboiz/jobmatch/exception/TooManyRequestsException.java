@@ -0,0 +1,24 @@
+package com.aprilboiz.jobmatch.exception;
+
+/**
+ * Thrown when a bounded resource is saturated and the client should back off.
+ * The message is a message-source key, resolved by the exception handler so the
+ * response is localized for the original request.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -32,6 +32,7 @@ public interface ApplicationMapper {
     @Mapping(source = "recruiter.id", target = "recruiterId")
     @Mapping(target = "salary", expression = "java(jobToSalaryDto(job))")
     @Mapping(target = "jobCategory", expression = "java(jobCategoryToCode(job.getJobCategory()))")
+    @Mapping(target = "distanceKm", ignore = true)
     JobResponse jobToJobResponse(Job job);
 
     @Mapping(source = "cv.id", target = "cvId")
@@ -17,7 +17,8 @@ import java.util.List;
 @SQLRestriction("deleted_at IS NULL")
 public class CV extends AuditableEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cv_seq")
+    @SequenceGenerator(name = "cv_seq", sequenceName = "cv_seq", allocationSize = 50)
     private Long id;
     private String filePath;
     private String fileType;
@@ -4,14 +4,18 @@ import java.util.List;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 
@@ -22,9 +26,11 @@ import org.hibernate.annotations.SQLRestriction;
 @Builder
 @Data
 @SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "company")
 public class Company extends AuditableEntity{
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "company_seq")
+    @SequenceGenerator(name = "company_seq", sequenceName = "company_seq", allocationSize = 50)
     private Long id;
     @NotNull
     private String name;
@@ -34,6 +40,12 @@ public class Company extends AuditableEntity{
     private String email;
     @NotNull
     private String address;
+
+    /**
+     * Coordinates geocoded from {@link #address}.
+     */
+    private Double latitude;
+    private Double longitude;
     @NotNull
     private String companySize;
     @NotNull
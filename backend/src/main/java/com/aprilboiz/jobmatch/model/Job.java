@@ -12,11 +12,15 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 
 @EqualsAndHashCode(callSuper = true)
@@ -27,9 +31,11 @@ import java.util.List;
 @Builder
 @Table(name = "jobs")
 @SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job")
 public class Job extends AuditableEntity{
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
     @NotNull
     private String title;
@@ -56,6 +62,15 @@ public class Job extends AuditableEntity{
     @Builder.Default
     @Enumerated(EnumType.STRING)
     private PeriodType salaryPeriod = PeriodType.ANNUAL;
+
+    /**
+     * Salary range converted to USD per year, kept in sync by JobService so salary
+     * filters compare like with like across currencies and periods.
+     */
+    @Column(precision = 19, scale = 2)
+    private BigDecimal annualSalaryMinUsd;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal annualSalaryMaxUsd;
     @NotNull
     private Integer numberOfOpenings;
     @NotNull
@@ -70,10 +85,23 @@ public class Job extends AuditableEntity{
 
     private String location;
 
+    /**
+     * Coordinates geocoded from {@link #location}; null when it names no known place (e.g. "Remote").
+     */
+    private Double latitude;
+    private Double longitude;
+
+    /**
+     * A set so Hibernate writes only the added and removed skills on update; a bag
+     * would be deleted and re-inserted in full. Mutate it in place, see JobServiceImpl.
+     */
     @ElementCollection
     @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
-    @Column(name = "skill")
-    private List<String> skills;
+    @Column(name = "skill", nullable = false)
+    @OrderBy
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-skills")
+    @Builder.Default
+    private Set<String> skills = new LinkedHashSet<>();
 
     @ManyToOne
     @JoinColumn(name = "company_id")
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
@@ -13,6 +15,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Table(name = "job_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference")
 public class JobCategory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
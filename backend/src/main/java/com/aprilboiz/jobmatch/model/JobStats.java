@@ -0,0 +1,81 @@
+package com.aprilboiz.jobmatch.model;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Application counts by status and the score total of one job, maintained from relayed
+ * application events rather than counted on read. Which events are already in the totals
+ * is kept per application, in {@link JobStatsApplication}.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "job_stats")
+public class JobStats {
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long appliedCount;
+    @Column(nullable = false)
+    private long inReviewCount;
+    @Column(nullable = false)
+    private long interviewCount;
+    @Column(nullable = false)
+    private long offeredCount;
+    @Column(nullable = false)
+    private long rejectedCount;
+    @Column(nullable = false)
+    private long withdrawnCount;
+
+    /**
+     * Over the applications that have a score and are not withdrawn.
+     */
+    @Column(nullable = false)
+    private double scoreSum;
+    @Column(nullable = false)
+    private long scoredCount;
+
+    public JobStats(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getCount(ApplicationStatus status) {
+        return switch (status) {
+            case APPLIED -> appliedCount;
+            case IN_REVIEW -> inReviewCount;
+            case INTERVIEW -> interviewCount;
+            case OFFERED -> offeredCount;
+            case REJECTED -> rejectedCount;
+            case WITHDRAWN -> withdrawnCount;
+        };
+    }
+
+    /**
+     * Moves one application into ({@code delta} 1) or out of ({@code delta} -1) the totals.
+     */
+    public void add(ApplicationStatus status, Double score, int delta) {
+        switch (status) {
+            case APPLIED -> appliedCount += delta;
+            case IN_REVIEW -> inReviewCount += delta;
+            case INTERVIEW -> interviewCount += delta;
+            case OFFERED -> offeredCount += delta;
+            case REJECTED -> rejectedCount += delta;
+            case WITHDRAWN -> withdrawnCount += delta;
+        }
+        if (score != null && status != ApplicationStatus.WITHDRAWN) {
+            scoreSum += delta * score;
+            scoredCount += delta;
+        }
+    }
+
+    public Double getAverageScore() {
+        return scoredCount > 0 ? scoreSum / scoredCount : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.aprilboiz.jobmatch.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The sequence number of the last event of one application that {@link JobStats} has
+ * applied. Events at or below it are redeliveries and are skipped.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_stats_application")
+public class JobStatsApplication {
+    @Id
+    private Long applicationId;
+
+    @Column(nullable = false)
+    private long sequenceNumber;
+}
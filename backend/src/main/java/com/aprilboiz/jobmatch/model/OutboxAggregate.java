@@ -0,0 +1,40 @@
+package com.aprilboiz.jobmatch.model;
+
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Last event sequence number handed out for one aggregate. Writers read it with a
+ * pessimistic lock, so two transactions changing the same job or application take
+ * their numbers one after the other.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_aggregate")
+public class OutboxAggregate {
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long lastSequence;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 32)
+        private OutboxAggregateType aggregateType;
+
+        @Column(nullable = false)
+        private Long aggregateId;
+    }
+}
@@ -0,0 +1,64 @@
+package com.aprilboiz.jobmatch.model;
+
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event waiting to be relayed, written in the transaction that made the change.
+ * {@code sequenceNumber} counts the aggregate's events from 1 with no gaps, so a consumer
+ * can drop anything it has already applied.
+ * <p>
+ * The id is an identity rather than a pooled sequence: it is taken at insert while the
+ * aggregate's {@link OutboxAggregate} row is locked, which keeps an aggregate's events in
+ * id order across nodes.
+ * <p>
+ * {@code attempts} counts the deliveries a listener failed; once the relay gives up,
+ * {@code failedAt} sets the event aside as a dead letter, holding back its aggregate's
+ * later events until it is cleared.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_event", uniqueConstraints = @UniqueConstraint(
+        name = "uk_outbox_event_aggregate_sequence",
+        columnNames = {"aggregate_type", "aggregate_id", "sequence_number"}))
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxAggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false)
+    private Long sequenceNumber;
+
+    @Column(nullable = false, length = 32)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    private LocalDateTime failedAt;
+}
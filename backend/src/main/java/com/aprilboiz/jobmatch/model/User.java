@@ -15,10 +15,12 @@ import org.hibernate.annotations.SQLRestriction;
 @SQLRestriction("deleted_at IS NULL")
 public abstract class User extends AuditableEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    // Unique among live users only, see uk_users_email_live
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,23 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One application as exported for a recruiter. Read as plain columns, so exporting
+ * leaves nothing in the persistence context.
+ */
+public record ApplicationExportRow(
+        Long applicationId,
+        ApplicationStatus status,
+        LocalDateTime appliedAt,
+        String candidateName,
+        String candidateEmail,
+        String candidatePhone,
+        String cvFileName,
+        Double score,
+        String matchSkills,
+        String missingSkills,
+        String coverLetter) {
+}
@@ -4,18 +4,82 @@ import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
 import com.aprilboiz.jobmatch.model.Application;
 import com.aprilboiz.jobmatch.model.Candidate;
 import com.aprilboiz.jobmatch.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 public interface ApplicationRepository extends SoftDeleteRepository<Application, Long> {
+    // Listings map every row to a detail response, so the to-one associations come in the same select
+    @EntityGraph(attributePaths = {"job", "cv", "candidate", "analysis"})
     Page<Application> findAllByCandidate(Candidate candidate, Pageable pageable);
+    @EntityGraph(attributePaths = {"cv", "candidate", "analysis"})
     Page<Application> findAllByJob(Job job, Pageable pageable);
+    @EntityGraph(attributePaths = {"cv", "candidate", "analysis"})
     Page<Application> findAllByJobAndStatus(Job job, ApplicationStatus status, Pageable pageable);
     Optional<Application> findByIdAndCandidate(Long id, Candidate candidate);
     Optional<Application> findByCandidateAndJob(Candidate candidate, Job job);
     boolean existsByCandidateAndJob(Candidate candidate, Job job);
     long countByJobAndStatus(Job job, ApplicationStatus status);
+
+    /**
+     * Whether the CV was sent to a job posted by the recruiter or by the recruiter's company.
+     * Stops at the first match on idx_application_cv instead of loading every application.
+     */
+    @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Application a JOIN a.job j WHERE a.cv.id = :cvId " +
+           "AND (j.recruiter.id = :recruiterId OR j.company.id = :companyId)) THEN true ELSE false END")
+    boolean existsForCvAndRecruiter(@Param("cvId") Long cvId,
+                                    @Param("recruiterId") Long recruiterId,
+                                    @Param("companyId") Long companyId);
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Every live application of the job in id order, for streaming an export. The driver
+     * fetches {@value #EXPORT_FETCH_SIZE} rows at a time from a cursor, which Postgres only
+     * keeps inside a transaction; the caller consumes and closes the stream in one.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.aprilboiz.jobmatch.repository.ApplicationExportRow(" +
+           "a.id, a.status, a.createdAt, c.fullName, c.email, c.phoneNumber, cv.fileName, " +
+           "an.score, an.matchSkills, an.missingSkills, a.coverLetter) " +
+           "FROM Application a LEFT JOIN a.candidate c LEFT JOIN a.cv cv LEFT JOIN a.analysis an " +
+           "WHERE a.job.id = :jobId ORDER BY a.id")
+    Stream<ApplicationExportRow> streamForExport(@Param("jobId") Long jobId);
+
+    /**
+     * Moves up to {@code batchSize} applications deleted before {@code cutoff} into application_archive,
+     * and their analyses into analysis_archive. The foreign key is checked at the end of the
+     * statement, when both rows are gone.
+     */
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "analysis")
+    })
+    @Query(value = "WITH moved AS (" +
+                   "DELETE FROM application WHERE id IN (" +
+                   "SELECT id FROM application WHERE deleted_at < :cutoff " +
+                   "ORDER BY deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *), " +
+                   "moved_analysis AS (" +
+                   "DELETE FROM analysis WHERE id IN (SELECT analysis_id FROM moved) RETURNING *), " +
+                   "archived_analysis AS (" +
+                   "INSERT INTO analysis_archive SELECT moved_analysis.*, now() FROM moved_analysis) " +
+                   "INSERT INTO application_archive SELECT moved.*, now() FROM moved", nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
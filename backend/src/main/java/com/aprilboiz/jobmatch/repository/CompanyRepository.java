@@ -1,7 +1,18 @@
 package com.aprilboiz.jobmatch.repository;
 
 import com.aprilboiz.jobmatch.model.Company;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 
 public interface CompanyRepository extends SoftDeleteRepository<Company, Long> {
+
+    /**
+     * Companies with an address but no coordinates yet, in id order for batched geocoding.
+     */
+    @Query("SELECT c FROM Company c WHERE c.id > :afterId AND c.latitude IS NULL AND c.address IS NOT NULL ORDER BY c.id")
+    List<Company> findUngeocodedAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -3,26 +3,68 @@ package com.aprilboiz.jobmatch.repository;
 import com.aprilboiz.jobmatch.model.CV;
 import com.aprilboiz.jobmatch.model.Candidate;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface CvRepository extends SoftDeleteRepository<CV, Long> {
     List<CV> findByCandidate(Candidate candidate);
     Optional<CV> findByFileNameAndCandidate(String fileName, Candidate candidate);
     Optional<CV> findByIdAndCandidate(Long id, Candidate candidate);
-    
+
+    /*
+    * The queries below reach soft-deleted rows, so they are native: Hibernate appends
+    * the entity's @SQLRestriction("deleted_at IS NULL") to every JPQL query on CV.
+    */
+
     /**
      * Find CVs by candidate including soft-deleted ones
      */
-    @Query("SELECT cv FROM CV cv WHERE cv.candidate = :candidate")
-    List<CV> findByCandidateIncludeDeleted(@Param("candidate") Candidate candidate);
-    
+    @Query(value = "SELECT * FROM cv WHERE candidate_id = :candidateId", nativeQuery = true)
+    List<CV> findByCandidateIncludeDeleted(@Param("candidateId") Long candidateId);
+
     /**
      * Find CV by ID and candidate including soft-deleted ones
      */
-    @Query("SELECT cv FROM CV cv WHERE cv.id = :id AND cv.candidate = :candidate")
-    Optional<CV> findByIdAndCandidateIncludeDeleted(@Param("id") Long id, @Param("candidate") Candidate candidate);
+    @Query(value = "SELECT * FROM cv WHERE id = :id AND candidate_id = :candidateId", nativeQuery = true)
+    Optional<CV> findByIdAndCandidateIncludeDeleted(@Param("id") Long id, @Param("candidateId") Long candidateId);
+
+    /**
+     * Soft-deleted CVs of one candidate, most recently deleted first
+     */
+    @Query(value = "SELECT * FROM cv WHERE candidate_id = :candidateId AND deleted_at IS NOT NULL " +
+                   "ORDER BY deleted_at DESC", nativeQuery = true)
+    List<CV> findDeletedByCandidate(@Param("candidateId") Long candidateId);
+
+    /**
+     * Restore a soft-deleted CV. The modifying native queries name the table they write,
+     * otherwise Hibernate empties every second-level cache region after running them.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cv"))
+    @Query(value = "UPDATE cv SET deleted_at = NULL WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int restoreDeleted(@Param("id") Long id);
+
+    /**
+     * Moves up to {@code batchSize} CVs deleted before {@code cutoff} into cv_archive.
+     * CVs still referenced by an application stay until that application is archived.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cv"))
+    @Query(value = "WITH moved AS (" +
+                   "DELETE FROM cv WHERE id IN (" +
+                   "SELECT c.id FROM cv c WHERE c.deleted_at < :cutoff " +
+                   "AND NOT EXISTS (SELECT 1 FROM application a WHERE a.cv_id = c.id) " +
+                   "ORDER BY c.deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *) " +
+                   "INSERT INTO cv_archive SELECT moved.*, now() FROM moved", nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
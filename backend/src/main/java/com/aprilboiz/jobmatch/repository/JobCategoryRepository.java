@@ -1,8 +1,11 @@
 package com.aprilboiz.jobmatch.repository;
 
 import com.aprilboiz.jobmatch.model.JobCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,12 +13,15 @@ import java.util.Optional;
 
 @Repository
 public interface JobCategoryRepository extends JpaRepository<JobCategory, Integer> {
-    
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<JobCategory> findByName(String name);
-    
+
     @Query("SELECT jc FROM JobCategory jc WHERE jc.isActive = true ORDER BY jc.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<JobCategory> findAllActive();
-    
+
     @Query("SELECT jc FROM JobCategory jc ORDER BY jc.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<JobCategory> findAllOrderById();
 } 
\ No newline at end of file
@@ -1,20 +1,27 @@
 package com.aprilboiz.jobmatch.repository;
 
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
 import com.aprilboiz.jobmatch.enumerate.JobStatus;
 import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
 import com.aprilboiz.jobmatch.model.Company;
 import com.aprilboiz.jobmatch.model.JobCategory;
 import com.aprilboiz.jobmatch.model.Job;
 import com.aprilboiz.jobmatch.model.Recruiter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface JobRepository extends SoftDeleteRepository<Job, Long> {
@@ -24,7 +31,20 @@ public interface JobRepository extends SoftDeleteRepository<Job, Long> {
     Page<Job> findAllByCompany(Company company, Pageable pageable);
     Page<Job> findAllByRecruiter(Recruiter recruiter, Pageable pageable);
     
-    @Query("SELECT j FROM Job j WHERE " +
+    /**
+     * Squared distance to the centre in degrees of latitude; monotonic in the real distance at city scale.
+     */
+    String DISTANCE_SQUARED =
+           "((j.longitude - :centerLongitude) * :longitudeScale) * ((j.longitude - :centerLongitude) * :longitudeScale) + " +
+           "(j.latitude - :centerLatitude) * (j.latitude - :centerLatitude)";
+
+    /**
+     * Shared filter for the search queries. Salary bounds are in annual USD and
+     * compared with the normalized columns. The geo part is a bounding box on the
+     * indexed coordinates followed by an equirectangular distance check; both are
+     * skipped when no radius is given.
+     */
+    String SEARCH_FILTER =
            "j.deletedAt IS NULL AND " +
            "(:keyword IS NULL OR :keyword = '' OR " +
            "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -32,26 +52,138 @@ public interface JobRepository extends SoftDeleteRepository<Job, Long> {
            "(:jobType IS NULL OR j.jobType = :jobType) AND " +
            "(:jobCategory IS NULL OR j.jobCategory.id = :jobCategory) AND " +
            "(:location IS NULL OR :location = '' OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-           "(:minSalary IS NULL OR j.minSalary >= :minSalary) AND " +
-           "(:maxSalary IS NULL OR j.maxSalary <= :maxSalary) AND " +
+           "(:minAnnualSalaryUsd IS NULL OR j.annualSalaryMinUsd >= :minAnnualSalaryUsd) AND " +
+           "(:maxAnnualSalaryUsd IS NULL OR j.annualSalaryMaxUsd <= :maxAnnualSalaryUsd) AND " +
            "(:companyName IS NULL OR :companyName = '' OR LOWER(j.company.name) LIKE LOWER(CONCAT('%', :companyName, '%'))) AND " +
            "(:status IS NULL OR j.status = :status) AND " +
-           "(:applicationDeadlineAfter IS NULL OR j.applicationDeadline >= :applicationDeadlineAfter)")
+           "(CAST(:applicationDeadlineAfter AS LocalDate) IS NULL OR j.applicationDeadline >= :applicationDeadlineAfter) AND " +
+           "(:radiusSquared IS NULL OR (" +
+           "j.latitude BETWEEN :minLatitude AND :maxLatitude AND j.longitude BETWEEN :minLongitude AND :maxLongitude AND " +
+           DISTANCE_SQUARED + " <= :radiusSquared))";
+
+    @Query("SELECT j FROM Job j WHERE " + SEARCH_FILTER)
     Page<Job> searchAndFilterJobs(
             @Param("keyword") String keyword,
             @Param("jobType") JobType jobType,
             @Param("jobCategory") Integer jobCategory,
             @Param("location") String location,
-            @Param("minSalary") BigDecimal minSalary,
-            @Param("maxSalary") BigDecimal maxSalary,
+            @Param("minAnnualSalaryUsd") BigDecimal minAnnualSalaryUsd,
+            @Param("maxAnnualSalaryUsd") BigDecimal maxAnnualSalaryUsd,
             @Param("companyName") String companyName,
             @Param("status") JobStatus status,
             @Param("applicationDeadlineAfter") LocalDate applicationDeadlineAfter,
+            @Param("centerLatitude") Double centerLatitude,
+            @Param("centerLongitude") Double centerLongitude,
+            @Param("longitudeScale") Double longitudeScale,
+            @Param("radiusSquared") Double radiusSquared,
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude,
             Pageable pageable);
-    
-    @Query("SELECT DISTINCT j.location FROM Job j WHERE j.deletedAt IS NULL AND j.location IS NOT NULL AND j.location != '' ORDER BY j.location")
-    List<String> findDistinctLocations();
-    
-    @Query("SELECT DISTINCT j.company.name FROM Job j WHERE j.deletedAt IS NULL AND j.company.name IS NOT NULL ORDER BY j.company.name")
-    List<String> findDistinctCompanyNames();
+
+    /**
+     * Same filter as {@link #searchAndFilterJobs}, nearest first; jobs without coordinates come last.
+     */
+    @Query(value = "SELECT j FROM Job j WHERE " + SEARCH_FILTER +
+           " ORDER BY " + DISTANCE_SQUARED + " ASC NULLS LAST, j.createdAt DESC",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE " + SEARCH_FILTER)
+    Page<Job> searchAndFilterJobsByDistance(
+            @Param("keyword") String keyword,
+            @Param("jobType") JobType jobType,
+            @Param("jobCategory") Integer jobCategory,
+            @Param("location") String location,
+            @Param("minAnnualSalaryUsd") BigDecimal minAnnualSalaryUsd,
+            @Param("maxAnnualSalaryUsd") BigDecimal maxAnnualSalaryUsd,
+            @Param("companyName") String companyName,
+            @Param("status") JobStatus status,
+            @Param("applicationDeadlineAfter") LocalDate applicationDeadlineAfter,
+            @Param("centerLatitude") Double centerLatitude,
+            @Param("centerLongitude") Double centerLongitude,
+            @Param("longitudeScale") Double longitudeScale,
+            @Param("radiusSquared") Double radiusSquared,
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude,
+            Pageable pageable);
+
+    /**
+     * Live job count per location, used to seed the reference-data cache
+     */
+    @Query("SELECT j.location, COUNT(j) FROM Job j WHERE j.deletedAt IS NULL AND j.location IS NOT NULL AND j.location != '' GROUP BY j.location")
+    List<Object[]> countJobsByLocation();
+
+    /**
+     * Live job count per company name, used to seed the reference-data cache
+     */
+    @Query("SELECT j.company.name, COUNT(j) FROM Job j WHERE j.deletedAt IS NULL AND j.company.name IS NOT NULL GROUP BY j.company.name")
+    List<Object[]> countJobsByCompanyName();
+
+    /**
+     * Facet fields of every open job: id, job type, category id, location, company name.
+     */
+    @Query("SELECT j.id, j.jobType, c.id, j.location, co.name FROM Job j " +
+           "LEFT JOIN j.jobCategory c LEFT JOIN j.company co " +
+           "WHERE j.deletedAt IS NULL AND j.status = com.aprilboiz.jobmatch.enumerate.JobStatus.OPEN")
+    List<Object[]> findOpenJobFacetRows();
+
+    @Query("SELECT j.id, j.jobType, c.id, j.location, co.name FROM Job j " +
+           "LEFT JOIN j.jobCategory c LEFT JOIN j.company co " +
+           "WHERE j.id = :id AND j.deletedAt IS NULL AND j.status = com.aprilboiz.jobmatch.enumerate.JobStatus.OPEN")
+    List<Object[]> findOpenJobFacetRow(@Param("id") Long id);
+
+    /**
+     * Suggestion fields of every open job: id, title, location, company name.
+     */
+    @Query("SELECT j.id, j.title, j.location, co.name FROM Job j LEFT JOIN j.company co " +
+           "WHERE j.deletedAt IS NULL AND j.status = com.aprilboiz.jobmatch.enumerate.JobStatus.OPEN")
+    List<Object[]> findOpenJobSuggestionRows();
+
+    @Query("SELECT j.id, s FROM Job j JOIN j.skills s " +
+           "WHERE j.deletedAt IS NULL AND j.status = com.aprilboiz.jobmatch.enumerate.JobStatus.OPEN")
+    List<Object[]> findOpenJobSkillRows();
+
+    /**
+     * Jobs with a location but no coordinates yet, in id order for batched geocoding.
+     */
+    @Query("SELECT j FROM Job j WHERE j.id > :afterId AND j.latitude IS NULL AND j.location IS NOT NULL ORDER BY j.id")
+    List<Job> findUngeocodedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Re-normalizes the salary range of every job paid in {@code currency} per {@code period}.
+     * Rows that already hold the right values are left alone, so a restart with an
+     * unchanged FX table writes nothing.
+     */
+    @Modifying
+    @Query("UPDATE Job j SET " +
+           "j.annualSalaryMinUsd = ROUND(j.minSalary * CAST(:factor AS BigDecimal(38, 12)), 2), " +
+           "j.annualSalaryMaxUsd = ROUND(j.maxSalary * CAST(:factor AS BigDecimal(38, 12)), 2) " +
+           "WHERE j.currency = :currency AND j.salaryPeriod = :period AND (" +
+           "(j.minSalary IS NULL AND j.annualSalaryMinUsd IS NOT NULL) OR " +
+           "(j.minSalary IS NOT NULL AND (j.annualSalaryMinUsd IS NULL OR j.annualSalaryMinUsd <> ROUND(j.minSalary * CAST(:factor AS BigDecimal(38, 12)), 2))) OR " +
+           "(j.maxSalary IS NULL AND j.annualSalaryMaxUsd IS NOT NULL) OR " +
+           "(j.maxSalary IS NOT NULL AND (j.annualSalaryMaxUsd IS NULL OR j.annualSalaryMaxUsd <> ROUND(j.maxSalary * CAST(:factor AS BigDecimal(38, 12)), 2))))")
+    int normalizeSalaries(@Param("currency") CurrencyType currency,
+                          @Param("period") PeriodType period,
+                          @Param("factor") BigDecimal factor);
+
+    /**
+     * Moves up to {@code batchSize} jobs deleted before {@code cutoff}, with their skills,
+     * into jobs_archive and job_skills_archive. Jobs that still have applications stay
+     * until those are archived. Native because the entity's @SQLRestriction would hide
+     * the deleted rows from JPQL.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "jobs"))
+    @Query(value = "WITH moved AS (" +
+                   "DELETE FROM jobs WHERE id IN (" +
+                   "SELECT j.id FROM jobs j WHERE j.deleted_at < :cutoff " +
+                   "AND NOT EXISTS (SELECT 1 FROM application a WHERE a.job_id = j.id) " +
+                   "ORDER BY j.deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *), " +
+                   "moved_skills AS (DELETE FROM job_skills WHERE job_id IN (SELECT id FROM moved) RETURNING *), " +
+                   "archived_skills AS (INSERT INTO job_skills_archive SELECT * FROM moved_skills) " +
+                   "INSERT INTO jobs_archive SELECT moved.*, now() FROM moved", nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
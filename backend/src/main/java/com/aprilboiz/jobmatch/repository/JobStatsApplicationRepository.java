@@ -0,0 +1,7 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.model.JobStatsApplication;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobStatsApplicationRepository extends JpaRepository<JobStatsApplication, Long> {
+}
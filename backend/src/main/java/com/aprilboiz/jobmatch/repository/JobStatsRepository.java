@@ -0,0 +1,20 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.model.JobStats;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobStatsRepository extends JpaRepository<JobStats, Long> {
+
+    /**
+     * Every live job of the recruiter with its stats, newest first, in one select.
+     */
+    @Query("SELECT new com.aprilboiz.jobmatch.repository.JobStatsRow(j.id, j.title, j.status, s) " +
+           "FROM Job j LEFT JOIN JobStats s ON s.jobId = j.id " +
+           "WHERE j.recruiter = :recruiter ORDER BY j.createdAt DESC")
+    List<JobStatsRow> findAllByRecruiter(@Param("recruiter") Recruiter recruiter);
+}
@@ -0,0 +1,10 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.model.JobStats;
+
+/**
+ * A job with its stats; {@code stats} is null until the job's first application.
+ */
+public record JobStatsRow(Long jobId, String title, JobStatus jobStatus, JobStats stats) {
+}
@@ -0,0 +1,17 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.model.OutboxAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxAggregateRepository extends JpaRepository<OutboxAggregate, OutboxAggregate.Key> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM OutboxAggregate a WHERE a.key = :key")
+    Optional<OutboxAggregate> lockByKey(@Param("key") OutboxAggregate.Key key);
+}
@@ -0,0 +1,34 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * The oldest unpublished events, locked until the relay's transaction ends. A relay on
+     * another node waits on the first of these rows rather than skipping past it, so it can
+     * never publish an aggregate's later event ahead of one still in flight here. Dead
+     * letters, and every event of an aggregate that has one, are left out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.failedAt IS NULL " +
+           "AND NOT EXISTS (SELECT d FROM OutboxEvent d WHERE d.aggregateType = e.aggregateType " +
+           "AND d.aggregateId = e.aggregateId AND d.failedAt IS NOT NULL) ORDER BY e.id")
+    List<OutboxEvent> lockUnpublished(Limit limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE id IN (" +
+                   "SELECT id FROM outbox_event WHERE published_at < :cutoff " +
+                   "ORDER BY published_at LIMIT :batchSize)", nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
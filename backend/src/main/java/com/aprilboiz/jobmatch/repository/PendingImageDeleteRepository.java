@@ -0,0 +1,24 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.model.PendingImageDelete;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface PendingImageDeleteRepository extends JpaRepository<PendingImageDelete, Long> {
+
+    /**
+     * The oldest pending deletions, locked until the caller's transaction ends. Rows another
+     * node is already working on are skipped, since deletions can go in any order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM PendingImageDelete p ORDER BY p.id")
+    List<PendingImageDelete> lockOldest(Limit limit);
+}
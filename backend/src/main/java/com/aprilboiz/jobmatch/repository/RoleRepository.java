@@ -3,11 +3,15 @@ package com.aprilboiz.jobmatch.repository;
 import java.util.Optional;
 
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.aprilboiz.jobmatch.enumerate.RoleName;
 import com.aprilboiz.jobmatch.model.Role;
+import jakarta.persistence.QueryHint;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(RoleName name);
 }
@@ -13,6 +13,10 @@ import java.util.Optional;
 /**
  * Base repository interface for entities that support soft delete functionality.
  * Provides methods to perform soft delete operations and query non-deleted entities.
+ * <p>
+ * Entities mapped with {@code @SQLRestriction("deleted_at IS NULL")} get that restriction
+ * on these JPQL queries too, so {@link #findAllDeleted()} and {@link #restoreById} never
+ * see their deleted rows. Such repositories need native queries for that, see {@link CvRepository}.
  *
  * @param <T> Entity type that extends AuditableEntity
  * @param <ID> Primary key type
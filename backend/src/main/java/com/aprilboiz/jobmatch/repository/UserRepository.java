@@ -1,10 +1,23 @@
 package com.aprilboiz.jobmatch.repository;
 
 import com.aprilboiz.jobmatch.model.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 
 public interface UserRepository extends SoftDeleteRepository<User, Long> {
     Optional<User> getUserByEmail(String email);
+
+    /**
+     * Swap the password hash only if it has not changed since it was read,
+     * so a background re-hash never overwrites a concurrent password change.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.email = :email AND u.password = :currentHash")
+    int updatePasswordHash(@Param("email") String email,
+                           @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
 }
@@ -0,0 +1,43 @@
+package com.aprilboiz.jobmatch.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt cost that lands closest to a target hashing time on the
+ * current host. Each extra log round doubles the work, so we time the lowest
+ * acceptable cost once and extrapolate instead of hashing at every cost.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+    private static final String SAMPLE = "calibration-sample-password";
+    private static final int ROUNDS = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // Warm-up so the JIT does not skew the first measurement
+        encoder.encode(SAMPLE);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double baseMillis = Math.max(best / 1_000_000.0, 0.01);
+
+        int strength = minStrength;
+        double expected = baseMillis;
+        while (strength < maxStrength && Math.abs(expected * 2 - targetMillis) < Math.abs(expected - targetMillis)) {
+            strength++;
+            expected *= 2;
+        }
+
+        log.info("BCrypt calibration: cost {} took {} ms, selected cost {} (~{} ms, target {} ms)",
+                minStrength, String.format("%.1f", baseMillis), strength, Math.round(expected), targetMillis);
+        return strength;
+    }
+}
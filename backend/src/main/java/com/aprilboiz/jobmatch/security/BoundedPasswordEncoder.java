@@ -0,0 +1,75 @@
+package com.aprilboiz.jobmatch.security;
+
+import com.aprilboiz.jobmatch.exception.TooManyRequestsException;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs every hash and verification on the dedicated hashing executor. The caller
+ * still waits for the result, but only {@code pool-size} hashes burn CPU at any
+ * time and a full queue fails fast with {@link TooManyRequestsException} instead
+ * of piling up request threads.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final AsyncTaskExecutor executor;
+    private final long retryAfterSeconds;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, AsyncTaskExecutor executor, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the hash prefix, no need to leave the caller thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes in the background without holding the caller. Used for re-hashing
+     * after login, where a rejection simply means we try again next time.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return CompletableFuture.supplyAsync(() -> delegate.encode(rawPassword), executor);
+    }
+
+    private <T> T await(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (TaskRejectedException ex) {
+            throw new TooManyRequestsException("api.error.too.many.requests", retryAfterSeconds, ex);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aprilboiz.jobmatch.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Tuning for password hashing. Hashing is CPU bound on purpose, so it runs on a
+ * small dedicated pool instead of on request threads; {@code pool-size} caps how
+ * many cores a login storm may burn and {@code queue-capacity} caps how many
+ * logins may wait before we answer 429.
+ */
+@ConfigurationProperties("security.password-hashing")
+@Getter
+@Setter
+@Component
+public class PasswordHashingProperties {
+    /** BCrypt log rounds used for new hashes when calibration is disabled. */
+    private int bcryptStrength = 10;
+
+    /** Measure the host at startup and pick the cost closest to {@code target-millis}. */
+    private boolean calibrate = false;
+    private long targetMillis = 250;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 100;
+
+    /** Value of the Retry-After header when the hashing queue is full. */
+    private long retryAfterSeconds = 2;
+}
@@ -0,0 +1,12 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.enumerate.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ApplicationExportService {
+    /**
+     * Checks that the current recruiter may see the job's applications and returns the body
+     * that writes them out. Rows are read and written when the body runs.
+     */
+    StreamingResponseBody exportApplications(Long jobId, ExportFormat format);
+}
@@ -1,14 +1,27 @@
 package com.aprilboiz.jobmatch.service;
 
 import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface CloudinaryService {
     String upload(MultipartFile file, String folder);
+    /**
+     * Resizes a spooled file and streams the result to Cloudinary. The caller keeps
+     * ownership of {@code spooledFile}.
+     */
+    String upload(Path spooledFile, String folder);
+    void deleteBatch(List<String> publicIds);
     void delete(String publicId);
     String extractPublicIdFromUrl(String cloudinaryUrl);
     
     // Async methods
-    CompletableFuture<String> uploadAsync(MultipartFile file, String folder);
+    /**
+     * Takes ownership of a file produced by {@code ImageProcessor.spool}: it is resized,
+     * streamed to Cloudinary and deleted afterwards, whatever the outcome.
+     */
+    CompletableFuture<String> uploadAsync(Path spooledFile, String folder);
     CompletableFuture<Void> deleteAsync(String publicId);
-} 
\ No newline at end of file
+}
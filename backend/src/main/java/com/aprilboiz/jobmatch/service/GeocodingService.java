@@ -0,0 +1,12 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.dto.GeoPoint;
+
+import java.util.Optional;
+
+public interface GeocodingService {
+    /**
+     * Resolves a free-text location or address to the coordinates of the best known place in it.
+     */
+    Optional<GeoPoint> geocode(String location);
+}
@@ -0,0 +1,23 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+import com.aprilboiz.jobmatch.storage.StoredImage;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageStorageService {
+    /**
+     * Takes ownership of a spooled upload and stores it with the configured provider.
+     */
+    CompletableFuture<StoredImage> storeAsync(Path spooledFile, String folder);
+
+    Resource loadVariant(String folder, String imageId, ImageVariant variant);
+
+    /**
+     * Queues an image that is no longer referenced for deletion. Inside a transaction
+     * the image is queued as part of it, so it stays if the transaction rolls back.
+     */
+    void scheduleDelete(String imageUrl);
+}
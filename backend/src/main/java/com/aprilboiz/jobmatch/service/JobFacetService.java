@@ -0,0 +1,8 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.dto.response.JobFacetResponse;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+
+public interface JobFacetService {
+    JobFacetResponse getFacetCounts(JobType jobType, Integer jobCategory, String location, String companyName);
+}
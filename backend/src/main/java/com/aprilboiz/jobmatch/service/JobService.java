@@ -4,11 +4,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.aprilboiz.jobmatch.dto.GeoFilter;
 import com.aprilboiz.jobmatch.dto.request.JobRequest;
 import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
 import com.aprilboiz.jobmatch.dto.response.JobResponse;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
 import com.aprilboiz.jobmatch.enumerate.JobStatus;
 import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
 import com.aprilboiz.jobmatch.model.Company;
 import com.aprilboiz.jobmatch.model.Recruiter;
 import org.springframework.data.domain.Page;
@@ -32,12 +35,11 @@ public interface JobService {
             String location,
             BigDecimal minSalary,
             BigDecimal maxSalary,
+            CurrencyType salaryCurrency,
+            PeriodType salaryPeriod,
             String companyName,
             JobStatus status,
             LocalDate applicationDeadlineAfter,
+            GeoFilter geoFilter,
             PageRequest pageRequest);
-    
-    // Methods to get filter options
-    List<String> getDistinctLocations();
-    List<String> getDistinctCompanyNames();
 }
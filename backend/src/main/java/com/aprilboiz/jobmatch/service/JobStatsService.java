@@ -0,0 +1,10 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.dto.response.JobStatsResponse;
+import com.aprilboiz.jobmatch.model.Recruiter;
+
+import java.util.List;
+
+public interface JobStatsService {
+    List<JobStatsResponse> getJobStatsByRecruiter(Recruiter recruiter);
+}
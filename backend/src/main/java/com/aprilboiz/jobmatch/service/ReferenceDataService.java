@@ -0,0 +1,12 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.dto.VersionedData;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReferenceDataService {
+    VersionedData<List<Map<String, Object>>> getJobCategories();
+    VersionedData<List<String>> getLocations();
+    VersionedData<List<String>> getCompanyNames();
+}
@@ -0,0 +1,59 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.config.SalaryNormalizationProperties;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.model.Job;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts salaries to annual USD so ranges in different currencies and pay
+ * periods can be compared by one indexed column.
+ */
+@Component
+public class SalaryNormalizer {
+    /** Scale of the normalized columns; JobRepository rounds the same way in bulk updates. */
+    public static final int SCALE = 2;
+
+    private final SalaryNormalizationProperties properties;
+
+    public SalaryNormalizer(SalaryNormalizationProperties properties) {
+        this.properties = properties;
+        for (CurrencyType currency : CurrencyType.values()) {
+            if (properties.getUsdRates().get(currency) == null) {
+                throw new IllegalStateException("Missing salary.normalization.usd-rates." + currency);
+            }
+        }
+        for (PeriodType period : PeriodType.values()) {
+            if (properties.getPeriodsPerYear().get(period) == null) {
+                throw new IllegalStateException("Missing salary.normalization.periods-per-year." + period);
+            }
+        }
+    }
+
+    /**
+     * Multiplier from an amount in {@code currency} per {@code period} to USD per year.
+     */
+    public BigDecimal annualUsdFactor(CurrencyType currency, PeriodType period) {
+        return properties.getUsdRates().get(currency != null ? currency : CurrencyType.USD)
+                .multiply(properties.getPeriodsPerYear().get(period != null ? period : PeriodType.ANNUAL));
+    }
+
+    public BigDecimal toAnnualUsd(BigDecimal amount, CurrencyType currency, PeriodType period) {
+        if (amount == null) {
+            return null;
+        }
+        return amount.multiply(annualUsdFactor(currency, period)).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Recomputes the normalized range from the job's own salary fields.
+     */
+    public void apply(Job job) {
+        job.setAnnualSalaryMinUsd(toAnnualUsd(job.getMinSalary(), job.getCurrency(), job.getSalaryPeriod()));
+        job.setAnnualSalaryMaxUsd(toAnnualUsd(job.getMaxSalary(), job.getCurrency(), job.getSalaryPeriod()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.dto.response.SuggestionResponse;
+import com.aprilboiz.jobmatch.enumerate.SuggestionType;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionResponse> suggest(String prefix, SuggestionType type, int limit);
+}
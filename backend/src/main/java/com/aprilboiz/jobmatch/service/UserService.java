@@ -18,4 +18,5 @@ public interface UserService extends UserDetailsService {
     UserResponse updateProfile(String email, RecruiterProfileUpdateRequest profileRequest);
     UserResponse updateProfile(String email, BaseProfileUpdateRequest profileRequest);
     void updateUserAvatar(Long userId, String avatarUrl);
+    void updatePasswordHash(String email, String currentHash, String newHash);
 }
@@ -1,5 +1,7 @@
 package com.aprilboiz.jobmatch.service.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ByteArrayResource;
@@ -19,6 +21,8 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.function.Supplier;
+
 import com.aprilboiz.jobmatch.dto.AnalysisDTO;
 import com.aprilboiz.jobmatch.exception.AIServiceException;
 import com.aprilboiz.jobmatch.service.AIService;
@@ -31,9 +35,11 @@ public class AIServiceImpl implements AIService {
     @Value("${ai-service.base-url}")
     private String aiServiceBaseUrl;
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public AIServiceImpl(RestTemplate restTemplate) {
+    public AIServiceImpl(RestTemplate restTemplate, MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
     private String constructUrl(String path) {
@@ -42,6 +48,50 @@ public class AIServiceImpl implements AIService {
 
     @Override
     public AnalysisDTO analyze(String jdText, String cvText) {
+        return timed("text", () -> analyzeText(jdText, cvText));
+    }
+
+    @Override
+    public AnalysisDTO analyze(String jdText, Resource cvFile) {
+        return timed("file", () -> analyzeFile(jdText, cvFile));
+    }
+
+    /**
+     * Records {@code jobmatch.ai.analyze}, tagged {@code input} and {@code outcome}:
+     * success, timeout (connect or read), 4xx, 5xx or error.
+     */
+    private AnalysisDTO timed(String input, Supplier<AnalysisDTO> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("jobmatch.ai.analyze")
+                    .tag("input", input)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(RuntimeException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof ResourceAccessException) {
+            return "timeout";
+        }
+        if (cause instanceof HttpClientErrorException) {
+            return "4xx";
+        }
+        if (cause instanceof HttpServerErrorException) {
+            return "5xx";
+        }
+        return "error";
+    }
+
+    private AnalysisDTO analyzeText(String jdText, String cvText) {
         String url = constructUrl("/match-files");
         logger.info("Starting CV-JD text analysis with AI service at: {}", url);
         
@@ -86,8 +136,7 @@ public class AIServiceImpl implements AIService {
         }
     }
 
-    @Override
-    public AnalysisDTO analyze(String jdText, Resource cvFile) {
+    private AnalysisDTO analyzeFile(String jdText, Resource cvFile) {
         String url = constructUrl("/match-files");
         logger.info("Starting CV file analysis with AI service at: {}", url);
         
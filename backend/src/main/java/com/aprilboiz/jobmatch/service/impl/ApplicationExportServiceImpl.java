@@ -0,0 +1,169 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.enumerate.ExportFormat;
+import com.aprilboiz.jobmatch.exception.NotFoundException;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.User;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.repository.ApplicationExportRow;
+import com.aprilboiz.jobmatch.repository.ApplicationRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.ApplicationExportService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes a job's applications straight from a database cursor to the response, so an
+ * export holds one fetch of rows and one write buffer whatever the number of
+ * applications. The body runs on the MVC async executor in its own read-only
+ * transaction (which routes it to a replica when one is configured), sends the headers
+ * before the query runs and flushes every {@value #FLUSH_EVERY_ROWS} rows.
+ */
+@Service
+@Slf4j
+public class ApplicationExportServiceImpl implements ApplicationExportService {
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Lets Excel recognise the file as UTF-8, which Vietnamese names need
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final List<String> CSV_HEADER = List.of(
+            "application_id", "status", "applied_at", "candidate_name", "candidate_email", "candidate_phone",
+            "cv_file_name", "score", "match_skills", "missing_skills", "cover_letter");
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final MessageService messageService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ApplicationExportServiceImpl(JobRepository jobRepository,
+                                        ApplicationRepository applicationRepository,
+                                        MessageService messageService,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.messageService = messageService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportApplications(Long jobId, ExportFormat format) {
+        UserPrincipalAdapter userPrincipalAdapter = (UserPrincipalAdapter) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        User user = userPrincipalAdapter.getUser();
+        if (!(user instanceof Recruiter recruiter)) {
+            throw new AccessDeniedException(messageService.getMessage("error.authorization.recruiter.required"));
+        }
+        Job job = jobRepository.findById(jobId).orElseThrow(() ->
+                new NotFoundException(messageService.getMessage("error.not.found.job", jobId)));
+        if (!job.getRecruiter().getId().equals(recruiter.getId()) && !job.getCompany().getId().equals(recruiter.getCompany().getId())) {
+            throw new AccessDeniedException(messageService.getMessage("error.authorization.job.view"));
+        }
+
+        return out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> write(jobId, format, out));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void write(Long jobId, ExportFormat format, OutputStream out) {
+        long written = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(BYTE_ORDER_MARK);
+                writeCsvLine(writer, CSV_HEADER);
+            }
+            // Sends the headers, so the download starts while the query runs
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamForExport(jobId)) {
+            for (Iterator<ApplicationExportRow> it = rows.iterator(); it.hasNext(); ) {
+                ApplicationExportRow row = it.next();
+                switch (format) {
+                    case CSV -> writeCsvLine(writer, csvValues(row));
+                    case NDJSON -> writer.write(objectMapper.writeValueAsString(row) + "\n");
+                }
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} applications of job {} as {}", written, jobId, format);
+    }
+
+    private static List<String> csvValues(ApplicationExportRow row) {
+        return Arrays.asList(
+                Objects.toString(row.applicationId(), null),
+                Objects.toString(row.status(), null),
+                Objects.toString(row.appliedAt(), null),
+                row.candidateName(),
+                row.candidateEmail(),
+                row.candidatePhone(),
+                row.cvFileName(),
+                Objects.toString(row.score(), null),
+                row.matchSkills(),
+                row.missingSkills(),
+                row.coverLetter());
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes per RFC 4180, and prefixes values a spreadsheet would run as a formula,
+     * since most of them are typed in by candidates.
+     */
+    private static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
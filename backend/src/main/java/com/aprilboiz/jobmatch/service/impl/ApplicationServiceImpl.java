@@ -6,6 +6,7 @@ import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
 import com.aprilboiz.jobmatch.dto.response.ApplicationResponse;
 import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
 import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.event.ApplicationChangedEvent;
 import com.aprilboiz.jobmatch.exception.DuplicateException;
 import com.aprilboiz.jobmatch.exception.NotFoundException;
 import com.aprilboiz.jobmatch.mapper.ApplicationMapper;
@@ -17,6 +18,7 @@ import com.aprilboiz.jobmatch.repository.JobRepository;
 import com.aprilboiz.jobmatch.service.ApplicationService;
 import com.aprilboiz.jobmatch.service.AnalysisService;
 import com.aprilboiz.jobmatch.service.MessageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -44,6 +46,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final ApplicationMapper appMapper;
     private final MessageService messageService;
     private final AnalysisService analysisService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -129,6 +132,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .analysis(analysis)
                 .build();
         Application savedApplication = applicationRepository.save(newApplication);
+        eventPublisher.publishEvent(ApplicationChangedEvent.created(savedApplication));
 
         return appMapper.applicationToApplicationResponse(savedApplication);
     }
@@ -185,8 +189,10 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .findByIdAndCandidate(id, candidate)
                 .orElseThrow(() -> new NotFoundException(messageService.getMessage("error.not.found.application", id)));
 
+        ApplicationStatus previousStatus = existingApplication.getStatus();
         existingApplication.setStatus(ApplicationStatus.WITHDRAWN);
         applicationRepository.save(existingApplication);
+        eventPublisher.publishEvent(ApplicationChangedEvent.withdrawn(existingApplication, previousStatus));
     }
 
     @Override
@@ -199,8 +205,10 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new AccessDeniedException(messageService.getMessage("error.authorization.application.status.update"));
         }
         
+        ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(status);
         Application savedApplication = applicationRepository.save(application);
+        eventPublisher.publishEvent(ApplicationChangedEvent.statusChanged(savedApplication, previousStatus));
         
         return appMapper.applicationToApplicationDetailResponse(savedApplication);
     }
@@ -265,7 +273,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 return job.getSkills() != null ? String.join(", ", job.getSkills()) : "General skills match detected";
             } else if (analysisResponse.getSimilarityScore() != null && analysisResponse.getSimilarityScore() > 50) {
                 return job.getSkills() != null && !job.getSkills().isEmpty() 
-                    ? "Partial match: " + String.join(", ", job.getSkills().subList(0, Math.min(job.getSkills().size() / 2, job.getSkills().size())))
+                    ? "Partial match: " + String.join(", ", List.copyOf(job.getSkills()).subList(0, Math.min(job.getSkills().size() / 2, job.getSkills().size())))
                     : "Some relevant skills detected";
             }
             return "Limited skill matches found";
@@ -293,7 +301,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                     : "Review job requirements for skill gaps";
             } else if (analysisResponse.getSimilarityScore() != null && analysisResponse.getSimilarityScore() < 70) {
                 return job.getSkills() != null && !job.getSkills().isEmpty()
-                    ? "Potential improvements in: " + String.join(", ", job.getSkills().subList(Math.min(job.getSkills().size() / 2, job.getSkills().size()), job.getSkills().size()))
+                    ? "Potential improvements in: " + String.join(", ", List.copyOf(job.getSkills()).subList(Math.min(job.getSkills().size() / 2, job.getSkills().size()), job.getSkills().size()))
                     : "Some skill enhancement opportunities";
             }
             return "No significant skill gaps identified";
@@ -4,12 +4,15 @@ import com.aprilboiz.jobmatch.dto.request.AuthRequest;
 import com.aprilboiz.jobmatch.dto.request.RegisterRequest;
 import com.aprilboiz.jobmatch.dto.response.AuthResponse;
 import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.security.BoundedPasswordEncoder;
 import com.aprilboiz.jobmatch.service.AuthService;
 import com.aprilboiz.jobmatch.service.JwtService;
 import com.aprilboiz.jobmatch.service.MessageService;
 import com.aprilboiz.jobmatch.service.TokenBlacklistService;
 import com.aprilboiz.jobmatch.service.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,6 +22,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -28,15 +32,20 @@ public class AuthServiceImpl implements AuthService {
     private final UserService userService;
     private final TokenBlacklistService tokenBlacklistService;
     private final MessageService messageService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Executor taskExecutor;
 
     public AuthServiceImpl(JwtService jwtService, AuthenticationManager authManager, 
                           UserService userService, TokenBlacklistService tokenBlacklistService,
-                          MessageService messageService) {
+                          MessageService messageService, BoundedPasswordEncoder passwordEncoder,
+                          @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
         this.jwtService = jwtService;
         this.authManager = authManager;
         this.userService = userService;
         this.tokenBlacklistService = tokenBlacklistService;
         this.messageService = messageService;
+        this.passwordEncoder = passwordEncoder;
+        this.taskExecutor = taskExecutor;
     }
 
     @Override
@@ -50,6 +59,7 @@ public class AuthServiceImpl implements AuthService {
             );
 
             UserPrincipalAdapter userPrincipalAdapter = (UserPrincipalAdapter) authentication.getPrincipal();
+            upgradePasswordHashIfNeeded(userPrincipalAdapter, authRequest.getPassword());
 
             String accessToken = jwtService.generateAccessToken(userPrincipalAdapter);
             String refreshToken = jwtService.generateRefreshToken(userPrincipalAdapter);
@@ -64,6 +74,29 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    /*
+    * Re-hash legacy or under-cost hashes in the background once the password is known
+    * to be correct. The response never waits for it; if the hashing queue is full we
+    * just try again on the next login. The new hash is saved on the application executor
+    * so a hashing thread is never held waiting for a database connection.
+    */
+    private void upgradePasswordHashIfNeeded(UserPrincipalAdapter principal, String rawPassword) {
+        String currentHash = principal.getPassword();
+        if (currentHash == null || !passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        String email = principal.getUsername();
+        try {
+            passwordEncoder.encodeAsync(rawPassword)
+                    .thenAcceptAsync(newHash -> userService.updatePasswordHash(email, currentHash, newHash), taskExecutor)
+                    .exceptionally(ex -> {
+                        log.warn("Password re-hash failed for user: {}", email, ex);
+                        return null;
+                    });
+        } catch (TaskRejectedException ex) {
+            log.debug("Hashing queue full, deferring password re-hash for user: {}", email);
+        }
+    }
 
     @Override
     public void register(RegisterRequest registerRequest) {
@@ -5,6 +5,10 @@ import com.cloudinary.utils.ObjectUtils;
 import com.aprilboiz.jobmatch.exception.StorageException;
 import com.aprilboiz.jobmatch.service.CloudinaryService;
 import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -12,6 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -23,22 +29,40 @@ public class CloudinaryServiceImpl implements CloudinaryService {
     
     private final Cloudinary cloudinary;
     private final MessageService messageService;
+    private final ImageProcessor imageProcessor;
+    private final ImageProcessingProperties imageProperties;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public String upload(MultipartFile file, String folder) {
+        Path spooled = imageProcessor.spool(file);
+        try {
+            return upload(spooled, folder);
+        } finally {
+            imageProcessor.discard(spooled);
+        }
+    }
+
+    /*
+    * Resizes and strips the spooled file, then lets the SDK stream the result from
+    * disk. Nothing here holds the whole encoded image on the heap.
+    */
+    @Override
+    public String upload(Path spooled, String folder) {
+        Path processed = imageProcessor.prepareForUpload(spooled, imageProperties.getMaxDimension());
         try {
             String uniqueFilename = UUID.randomUUID().toString();
             
             @SuppressWarnings("unchecked")
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(
-                file.getBytes(),
+            Map<String, Object> uploadResult = timed("upload", () -> cloudinary.uploader().upload(
+                processed.toFile(),
                 ObjectUtils.asMap(
                     "folder", folder,
                     "public_id", uniqueFilename,
                     "resource_type", "image",
                     "transformation", "q_auto,f_auto"
                 )
-            );
+            ));
             
             String imageUrl = (String) uploadResult.get("secure_url");
             log.info("Successfully uploaded image to Cloudinary: {}", imageUrl);
@@ -47,20 +71,24 @@ public class CloudinaryServiceImpl implements CloudinaryService {
         } catch (IOException e) {
             log.error("Failed to upload image to Cloudinary", e);
             throw new StorageException(messageService.getMessage("storage.failed", "upload image to Cloudinary"), e);
+        } finally {
+            imageProcessor.discard(processed);
         }
     }
 
     @Override
     @Async("imageUploadExecutor")
-    public CompletableFuture<String> uploadAsync(MultipartFile file, String folder) {
+    public CompletableFuture<String> uploadAsync(Path spooledFile, String folder) {
         try {
-            log.info("Starting async upload for file: {} to folder: {}", file.getOriginalFilename(), folder);
-            String result = upload(file, folder);
-            log.info("Completed async upload for file: {}", file.getOriginalFilename());
+            log.info("Starting async upload for file: {} to folder: {}", spooledFile.getFileName(), folder);
+            String result = upload(spooledFile, folder);
+            log.info("Completed async upload for file: {}", spooledFile.getFileName());
             return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
-            log.error("Async upload failed for file: {}", file.getOriginalFilename(), e);
+            log.error("Async upload failed for file: {}", spooledFile.getFileName(), e);
             return CompletableFuture.failedFuture(e);
+        } finally {
+            imageProcessor.discard(spooledFile);
         }
     }
 
@@ -68,7 +96,8 @@ public class CloudinaryServiceImpl implements CloudinaryService {
     public void delete(String publicId) {
         try {
             @SuppressWarnings("unchecked")
-            Map<String, Object> deleteResult = cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+            Map<String, Object> deleteResult = timed("delete",
+                    () -> cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap()));
             String result = (String) deleteResult.get("result");
             
             if (!"ok".equals(result)) {
@@ -82,6 +111,25 @@ public class CloudinaryServiceImpl implements CloudinaryService {
         }
     }
 
+    @Override
+    public void deleteBatch(List<String> publicIds) {
+        if (publicIds.isEmpty()) {
+            return;
+        }
+        try {
+            // Admin API accepts up to 100 public ids per call
+            for (int from = 0; from < publicIds.size(); from += 100) {
+                List<String> chunk = publicIds.subList(from, Math.min(from + 100, publicIds.size()));
+                timed("delete_batch",
+                        () -> cloudinary.api().deleteResources(chunk, ObjectUtils.asMap("resource_type", "image")));
+            }
+            log.info("Deleted {} images from Cloudinary", publicIds.size());
+        } catch (Exception e) {
+            log.error("Failed to batch delete {} images from Cloudinary", publicIds.size(), e);
+            throw new StorageException(messageService.getMessage("storage.failed", "delete images from Cloudinary"), e);
+        }
+    }
+
     @Override
     @Async("imageUploadExecutor")
     public CompletableFuture<Void> deleteAsync(String publicId) {
@@ -96,6 +144,31 @@ public class CloudinaryServiceImpl implements CloudinaryService {
         }
     }
     
+    private interface CloudinaryCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * Times one SDK round trip as {@code jobmatch.cloudinary}, tagged {@code operation}
+     * and {@code outcome}, apart from the image processing around it.
+     */
+    private <T, E extends Exception> T timed(String operation, CloudinaryCall<T, E> call) throws E {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.call();
+        } catch (Exception e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("jobmatch.cloudinary")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     public String extractPublicIdFromUrl(String cloudinaryUrl) {
         if (cloudinaryUrl == null || cloudinaryUrl.isEmpty()) {
             return null;
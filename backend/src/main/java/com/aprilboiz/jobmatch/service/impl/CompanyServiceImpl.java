@@ -3,19 +3,23 @@ package com.aprilboiz.jobmatch.service.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import com.aprilboiz.jobmatch.dto.GeoPoint;
 import com.aprilboiz.jobmatch.dto.request.CompanyRequest;
 import com.aprilboiz.jobmatch.dto.response.CompanyResponse;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
 import com.aprilboiz.jobmatch.exception.NotFoundException;
 import com.aprilboiz.jobmatch.mapper.ApplicationMapper;
 import com.aprilboiz.jobmatch.model.*;
 import com.aprilboiz.jobmatch.repository.CompanyRepository;
 import com.aprilboiz.jobmatch.repository.UserRepository;
-import com.aprilboiz.jobmatch.service.CloudinaryService;
 import com.aprilboiz.jobmatch.service.CompanyService;
+import com.aprilboiz.jobmatch.service.GeocodingService;
+import com.aprilboiz.jobmatch.service.ImageStorageService;
 import com.aprilboiz.jobmatch.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +31,10 @@ public class CompanyServiceImpl implements CompanyService {
     private final CompanyRepository companyRepository;
     private final MessageService messageService;
     private final ApplicationMapper appMapper;
-    private final CloudinaryService cloudinaryService;
+    private final ImageStorageService imageStorageService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeocodingService geocodingService;
     
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -44,15 +50,21 @@ public class CompanyServiceImpl implements CompanyService {
         if (!recruiter.getCompany().getId().equals(existingCompany.getId())) {
             throw new SecurityException(messageService.getMessage("error.authorization.recruiter.required"));
         }
+        String previousName = existingCompany.getName();
         existingCompany.setName(request.getName());
         existingCompany.setWebsite(request.getWebsite());
         existingCompany.setPhoneNumber(request.getPhoneNumber());
         existingCompany.setEmail(request.getEmail());
-        existingCompany.setAddress(request.getAddress());
+        if (!request.getAddress().equals(existingCompany.getAddress())) {
+            existingCompany.setAddress(request.getAddress());
+            applyCoordinates(existingCompany);
+        }
         existingCompany.setCompanySize(request.getCompanySize());
         existingCompany.setIndustry(request.getIndustry());
         existingCompany.setDescription(request.getDescription());
-        return appMapper.companyToCompanyResponse(companyRepository.save(existingCompany));
+        Company savedCompany = companyRepository.save(existingCompany);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany.getId(), previousName, savedCompany.getName()));
+        return appMapper.companyToCompanyResponse(savedCompany);
     }
 
     @Override
@@ -61,21 +73,13 @@ public class CompanyServiceImpl implements CompanyService {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new NotFoundException(messageService.getMessage("error.not.found.company")));
 
-        // Delete old logo if exists
-        if (company.getLogoUrl() != null && !company.getLogoUrl().isEmpty()) {
-            try {
-                String oldPublicId = cloudinaryService.extractPublicIdFromUrl(company.getLogoUrl());
-                if (oldPublicId != null) {
-                    cloudinaryService.delete(oldPublicId);
-                }
-            } catch (Exception e) {
-                // Log warning but don't fail the operation
-                log.warn("Failed to delete old logo for company {}: {}", companyId, e.getMessage());
-            }
-        }
-
+        // Old variants are queued in this transaction and removed after commit by the cleanup job
+        String previousLogoUrl = company.getLogoUrl();
         company.setLogoUrl(logoUrl);
         companyRepository.save(company);
+        if (previousLogoUrl != null && !previousLogoUrl.equals(logoUrl)) {
+            imageStorageService.scheduleDelete(previousLogoUrl);
+        }
     }
 
     @Override
@@ -92,6 +96,7 @@ public class CompanyServiceImpl implements CompanyService {
         company.setPhoneNumber(request.getPhoneNumber());
         company.setEmail(request.getEmail());
         company.setAddress(request.getAddress());
+        applyCoordinates(company);
         company.setCompanySize(request.getCompanySize());
         company.setIndustry(request.getIndustry());
         company.setDescription(request.getDescription());
@@ -101,6 +106,13 @@ public class CompanyServiceImpl implements CompanyService {
         Company savedCompany = companyRepository.save(company);
         recruiter.setCompany(savedCompany);
         userRepository.save(recruiter);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany.getId(), null, savedCompany.getName()));
         return appMapper.companyToCompanyResponse(savedCompany);
     }
+
+    private void applyCoordinates(Company company) {
+        GeoPoint point = geocodingService.geocode(company.getAddress()).orElse(null);
+        company.setLatitude(point != null ? point.latitude() : null);
+        company.setLongitude(point != null ? point.longitude() : null);
+    }
 }
@@ -28,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CvServiceImpl implements CvService {
     private final CvRepository cvRepository;
+    private final ApplicationRepository applicationRepository;
     private final ApplicationMapper appMapper;
     private final StorageService storageService;
     private final MessageService messageService;
@@ -93,19 +94,17 @@ public class CvServiceImpl implements CvService {
     @Transactional(rollbackFor = Exception.class)
     public void restoreCv(Long cvId) {
         // Check if CV exists (including soft-deleted ones)
-        CV cv = cvRepository.findByIdAndCandidateIncludeDeleted(cvId, getCurrentCandidate())
+        CV cv = cvRepository.findByIdAndCandidateIncludeDeleted(cvId, getCurrentCandidate().getId())
                 .orElseThrow(() -> new NotFoundException(messageService.getMessage("error.not.found.cv")));
 
         // Restore the CV by setting deletedAt to null
-        cvRepository.restoreById(cv.getId());
+        cvRepository.restoreDeleted(cv.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CvResponse> getDeletedCv(Candidate candidate) {
-        List<CV> deletedCvs = cvRepository.findAllDeleted().stream()
-                .filter(cv -> cv.getCandidate().getId().equals(candidate.getId()))
-                .toList();
+        List<CV> deletedCvs = cvRepository.findDeletedByCandidate(candidate.getId());
         return deletedCvs.stream().map(appMapper::cvToCvResponse).collect(Collectors.toList());
     }
 
@@ -133,11 +132,8 @@ public class CvServiceImpl implements CvService {
             }
         } else if (user instanceof Recruiter recruiter) {
             // Check if the recruiter can access this CV (through job applications)
-            boolean hasAccess = cv.getApplications().stream()
-                    .anyMatch(application ->
-                            application.getJob().getRecruiter().getId().equals(recruiter.getId()) ||
-                                    application.getJob().getCompany().getId().equals(recruiter.getCompany().getId())
-                    );
+            Long companyId = recruiter.getCompany() != null ? recruiter.getCompany().getId() : null;
+            boolean hasAccess = applicationRepository.existsForCvAndRecruiter(cv.getId(), recruiter.getId(), companyId);
             if (hasAccess) {
                 return storageService.loadAsResource(cv.getFilePath());
             }
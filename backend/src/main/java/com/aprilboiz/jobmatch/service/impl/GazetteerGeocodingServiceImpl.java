@@ -0,0 +1,78 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.GeoPoint;
+import com.aprilboiz.jobmatch.service.GeocodingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Geocoder backed by a bundled gazetteer of cities and provinces; no network calls.
+ * A location matches a place when one of the place's names appears in it as whole
+ * words, and the longest matching name wins, so "District 1, Ho Chi Minh City"
+ * resolves to Ho Chi Minh City rather than to anything named "Minh".
+ */
+@Service
+@Slf4j
+public class GazetteerGeocodingServiceImpl implements GeocodingService {
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_NAME_WORDS = 6;
+
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public GazetteerGeocodingServiceImpl(@Value("${geo.gazetteer:classpath:geo/gazetteer.csv}") Resource gazetteer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(gazetteer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                GeoPoint point = new GeoPoint(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim()));
+                places.putIfAbsent(key(columns[0]), point);
+                if (columns.length > 3 && !columns[3].isBlank()) {
+                    for (String alias : columns[3].split("\\|")) {
+                        places.putIfAbsent(key(alias), point);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load gazetteer " + gazetteer, e);
+        }
+        log.info("Loaded {} gazetteer names", places.size());
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        String[] words = key(location).split(" ");
+        if (words.length == 0 || words[0].isEmpty()) {
+            return Optional.empty();
+        }
+        // Try the longest word runs first; the gazetteer is a hash map, so this is a few lookups
+        for (int length = Math.min(MAX_NAME_WORDS, words.length); length > 0; length--) {
+            for (int from = 0; from + length <= words.length; from++) {
+                GeoPoint point = places.get(String.join(" ", Arrays.copyOfRange(words, from, from + length)));
+                if (point != null) {
+                    return Optional.of(point);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String key(String text) {
+        return PUNCTUATION.matcher(SearchText.normalize(text)).replaceAll(" ").trim();
+    }
+}
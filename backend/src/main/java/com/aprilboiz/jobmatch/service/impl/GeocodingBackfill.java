@@ -0,0 +1,109 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.GeoPoint;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.repository.CompanyRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.GeocodingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fills in coordinates for rows saved before geocoding existed (or by seed SQL).
+ * Runs in id-ordered batches, each in its own transaction, and skips over
+ * locations that name no known place so they are not retried within a run.
+ */
+@Component
+@Slf4j
+public class GeocodingBackfill {
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final GeocodingService geocodingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public GeocodingBackfill(JobRepository jobRepository,
+                             CompanyRepository companyRepository,
+                             GeocodingService geocodingService,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${geo.backfill.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.companyRepository = companyRepository;
+        this.geocodingService = geocodingService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int companies = backfillCompanies();
+        int jobs = backfillJobs();
+        if (companies > 0 || jobs > 0) {
+            log.info("Geocoded {} companies and {} jobs", companies, jobs);
+        }
+    }
+
+    private int backfillCompanies() {
+        int geocoded = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<Company> batch = companyRepository.findUngeocodedAfter(cursor, PageRequest.of(0, batchSize));
+                int count = 0;
+                for (Company company : batch) {
+                    Optional<GeoPoint> point = geocodingService.geocode(company.getAddress());
+                    if (point.isPresent()) {
+                        company.setLatitude(point.get().latitude());
+                        company.setLongitude(point.get().longitude());
+                        count++;
+                    }
+                }
+                return new BatchResult(batch.isEmpty() ? null : batch.getLast().getId(), count);
+            });
+            if (result == null || result.lastId() == null) {
+                return geocoded;
+            }
+            geocoded += result.geocoded();
+            afterId = result.lastId();
+        }
+    }
+
+    private int backfillJobs() {
+        int geocoded = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<Job> batch = jobRepository.findUngeocodedAfter(cursor, PageRequest.of(0, batchSize));
+                int count = 0;
+                for (Job job : batch) {
+                    Optional<GeoPoint> point = geocodingService.geocode(job.getLocation());
+                    if (point.isPresent()) {
+                        job.setLatitude(point.get().latitude());
+                        job.setLongitude(point.get().longitude());
+                        count++;
+                    }
+                }
+                return new BatchResult(batch.isEmpty() ? null : batch.getLast().getId(), count);
+            });
+            if (result == null || result.lastId() == null) {
+                return geocoded;
+            }
+            geocoded += result.geocoded();
+            afterId = result.lastId();
+        }
+    }
+
+    private record BatchResult(Long lastId, int geocoded) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.exception.NotFoundException;
+import com.aprilboiz.jobmatch.model.PendingImageDelete;
+import com.aprilboiz.jobmatch.repository.PendingImageDeleteRepository;
+import com.aprilboiz.jobmatch.service.CloudinaryService;
+import com.aprilboiz.jobmatch.service.ImageStorageService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageProcessor;
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+import com.aprilboiz.jobmatch.storage.StorageService;
+import com.aprilboiz.jobmatch.storage.StoredImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class ImageStorageServiceImpl implements ImageStorageService {
+    public static final String URL_PREFIX = "/api/images/";
+    private static final String LOCAL_PROVIDER = "local";
+    private static final String STORAGE_DIRECTORY = "images";
+    private static final Set<String> FOLDERS = Set.of("avatars", "logos");
+    private static final Pattern LOCAL_URL = Pattern.compile(
+            "^" + Pattern.quote(URL_PREFIX) + "(avatars|logos)/([0-9a-f\\-]{36})/[a-z]+\\.(?:jpg|png)$");
+
+    private final ImageProcessor imageProcessor;
+    private final StorageService storageService;
+    private final CloudinaryService cloudinaryService;
+    private final ImageProcessingProperties properties;
+    private final MessageService messageService;
+    private final PendingImageDeleteRepository pendingImageDeleteRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageStorageServiceImpl(ImageProcessor imageProcessor, StorageService storageService,
+                                   CloudinaryService cloudinaryService, ImageProcessingProperties properties,
+                                   MessageService messageService,
+                                   PendingImageDeleteRepository pendingImageDeleteRepository,
+                                   TransactionTemplate transactionTemplate) {
+        this.imageProcessor = imageProcessor;
+        this.storageService = storageService;
+        this.cloudinaryService = cloudinaryService;
+        this.properties = properties;
+        this.messageService = messageService;
+        this.pendingImageDeleteRepository = pendingImageDeleteRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    @Async("imageUploadExecutor")
+    public CompletableFuture<StoredImage> storeAsync(Path spooledFile, String folder) {
+        if (!LOCAL_PROVIDER.equalsIgnoreCase(properties.getProvider())) {
+            // Already on the upload executor, so use the synchronous path
+            try {
+                return CompletableFuture.completedFuture(storeInCloudinary(spooledFile, folder));
+            } catch (Exception e) {
+                log.error("Failed to upload image to Cloudinary folder: {}", folder, e);
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        Map<ImageVariant, Path> rendered = Map.of();
+        try {
+            rendered = imageProcessor.renderVariants(spooledFile);
+            String imageId = UUID.randomUUID().toString();
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (Map.Entry<ImageVariant, Path> entry : rendered.entrySet()) {
+                String fileName = entry.getKey().key() + extensionOf(entry.getValue());
+                storageService.store(entry.getValue(), String.join("/", STORAGE_DIRECTORY, folder, imageId, fileName));
+                variants.put(entry.getKey().key(), URL_PREFIX + folder + "/" + imageId + "/" + fileName);
+            }
+            log.info("Stored image {} in {} with variants {}", imageId, folder, variants.keySet());
+            return CompletableFuture.completedFuture(new StoredImage(variants.get(ImageVariant.FULL.key()), variants));
+        } catch (Exception e) {
+            log.error("Failed to store image variants in folder: {}", folder, e);
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            imageProcessor.discard(rendered.values().toArray(Path[]::new));
+            imageProcessor.discard(spooledFile);
+        }
+    }
+
+    private StoredImage storeInCloudinary(Path spooledFile, String folder) {
+        try {
+            String url = cloudinaryService.upload(spooledFile, folder);
+            return new StoredImage(url, Map.of(ImageVariant.FULL.key(), url));
+        } finally {
+            imageProcessor.discard(spooledFile);
+        }
+    }
+
+    @Override
+    public Resource loadVariant(String folder, String imageId, ImageVariant variant) {
+        if (!FOLDERS.contains(folder)) {
+            throw new NotFoundException(messageService.getMessage("error.not.found.image"));
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(imageId);
+        } catch (IllegalArgumentException e) {
+            throw new NotFoundException(messageService.getMessage("error.not.found.image"));
+        }
+        for (String extension : List.of(".jpg", ".png")) {
+            String relativePath = String.join("/", STORAGE_DIRECTORY, folder, id.toString(), variant.key() + extension);
+            if (Files.isRegularFile(storageService.load(relativePath))) {
+                return storageService.loadAsResource(relativePath);
+            }
+        }
+        throw new NotFoundException(messageService.getMessage("error.not.found.image"));
+    }
+
+    @Override
+    public void scheduleDelete(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        // Joins the caller's transaction, so the image is only forgotten if the new URL commits
+        pendingImageDeleteRepository.save(PendingImageDelete.builder()
+                .url(imageUrl)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Works through the pending deletions in batches off the request path, a batch per
+     * transaction. Cloudinary images are removed with one Admin API call per batch instead
+     * of one destroy call per image. The queue is a table, so deletions still pending at
+     * shutdown are picked up by the next drain on any node.
+     */
+    @Scheduled(fixedDelayString = "${storage.image.cleanup.interval:30s}")
+    public void drainDeleteQueue() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<PendingImageDelete> batch = pendingImageDeleteRepository.lockOldest(
+                    Limit.of(properties.getCleanup().getBatchSize()));
+            List<PendingImageDelete> done = new ArrayList<>();
+            Map<String, PendingImageDelete> cloudinaryIds = new LinkedHashMap<>();
+            for (PendingImageDelete pending : batch) {
+                Matcher local = LOCAL_URL.matcher(pending.getUrl());
+                if (local.matches()) {
+                    try {
+                        storageService.deleteDirectory(String.join("/", STORAGE_DIRECTORY, local.group(1), local.group(2)));
+                        done.add(pending);
+                    } catch (Exception e) {
+                        retry(pending, e, done);
+                    }
+                    continue;
+                }
+                String publicId = cloudinaryService.extractPublicIdFromUrl(pending.getUrl());
+                if (publicId != null) {
+                    cloudinaryIds.put(publicId, pending);
+                } else {
+                    done.add(pending);
+                }
+            }
+
+            if (!cloudinaryIds.isEmpty()) {
+                try {
+                    cloudinaryService.deleteBatch(new ArrayList<>(cloudinaryIds.keySet()));
+                    done.addAll(cloudinaryIds.values());
+                } catch (Exception e) {
+                    cloudinaryIds.values().forEach(pending -> retry(pending, e, done));
+                }
+            }
+            pendingImageDeleteRepository.deleteAllInBatch(done);
+            return batch.size();
+        });
+        if (processed != null && processed > 0) {
+            log.debug("Processed {} image deletions", processed);
+        }
+    }
+
+    /**
+     * Leaves the row for the next drain with one more attempt counted, or adds it to
+     * {@code done} once it has used them all.
+     */
+    private void retry(PendingImageDelete pending, Exception cause, List<PendingImageDelete> done) {
+        int attempts = pending.getAttempts() + 1;
+        if (attempts >= properties.getCleanup().getMaxAttempts()) {
+            log.error("Giving up deleting image after {} attempts: {}", attempts, pending.getUrl(), cause);
+            done.add(pending);
+            return;
+        }
+        log.warn("Failed to delete image {}, will retry: {}", pending.getUrl(), cause.getMessage());
+        pending.setAttempts(attempts);
+    }
+
+    private static String extensionOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(name.lastIndexOf('.'));
+    }
+}
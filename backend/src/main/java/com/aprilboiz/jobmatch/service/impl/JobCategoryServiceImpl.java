@@ -1,5 +1,6 @@
 package com.aprilboiz.jobmatch.service.impl;
 
+import com.aprilboiz.jobmatch.event.JobCategoryChangedEvent;
 import com.aprilboiz.jobmatch.exception.NotFoundException;
 import com.aprilboiz.jobmatch.model.JobCategory;
 import com.aprilboiz.jobmatch.repository.JobCategoryRepository;
@@ -7,6 +8,7 @@ import com.aprilboiz.jobmatch.service.JobCategoryService;
 import com.aprilboiz.jobmatch.service.MessageService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.Optional;
 public class JobCategoryServiceImpl implements JobCategoryService {
     private final JobCategoryRepository jobCategoryRepository;
     private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -51,7 +54,9 @@ public class JobCategoryServiceImpl implements JobCategoryService {
                 .description(description)
                 .isActive(true)
                 .build();
-        return jobCategoryRepository.save(category);
+        JobCategory savedCategory = jobCategoryRepository.save(category);
+        eventPublisher.publishEvent(new JobCategoryChangedEvent(savedCategory.getId()));
+        return savedCategory;
     }
 
     @Override
@@ -62,7 +67,9 @@ public class JobCategoryServiceImpl implements JobCategoryService {
         
         category.setName(name);
         category.setDescription(description);
-        return jobCategoryRepository.save(category);
+        JobCategory savedCategory = jobCategoryRepository.save(category);
+        eventPublisher.publishEvent(new JobCategoryChangedEvent(id));
+        return savedCategory;
     }
 
     @Override
@@ -73,6 +80,7 @@ public class JobCategoryServiceImpl implements JobCategoryService {
         
         category.setIsActive(false);
         jobCategoryRepository.save(category);
+        eventPublisher.publishEvent(new JobCategoryChangedEvent(id));
     }
 
     @Override
@@ -83,6 +91,7 @@ public class JobCategoryServiceImpl implements JobCategoryService {
         
         category.setIsActive(true);
         jobCategoryRepository.save(category);
+        eventPublisher.publishEvent(new JobCategoryChangedEvent(id));
     }
 
     @Override
@@ -0,0 +1,292 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.response.JobFacetResponse;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangeBroadcaster;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.JobFacetService;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Facet counts for the job search filters, answered from memory.
+ * <p>
+ * Every open job is a bit (its id) in one posting bitmap per facet value. For a
+ * filter selection the count of a value is {@code |value ∩ other selected filters|},
+ * so each facet ignores its own selection and the UI can show alternatives. The
+ * index is built once the application is ready, patched per job after each
+ * committed write (locally, or reloaded when {@link JobChangeBroadcaster} reports
+ * a change on another node) and rebuilt periodically to correct drift such as
+ * status changes made outside JobService.
+ */
+@Service
+@Slf4j
+public class JobFacetServiceImpl implements JobFacetService {
+    private static final int JOB_TYPE = 0;
+    private static final int CATEGORY = 1;
+    private static final int LOCATION = 2;
+    private static final int COMPANY = 3;
+    private static final int FACET_COUNT = 4;
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Index index;
+    // Patches made while a rebuild reads the database, replayed onto the new index before
+    // it replaces the old one; guarded by the write lock
+    private List<Consumer<Index>> pendingPatches;
+
+    public JobFacetServiceImpl(JobRepository jobRepository,
+                               TransactionTemplate transactionTemplate,
+                               JobChangeBroadcaster jobChangeBroadcaster) {
+        this.jobRepository = jobRepository;
+        this.readOnlyTransaction = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.readOnlyTransaction.setReadOnly(true);
+        jobChangeBroadcaster.onRemoteChange(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.facets.rebuild-interval:30m}",
+            initialDelayString = "${search.facets.rebuild-interval:30m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            setPendingPatches(new ArrayList<>());
+            try {
+                // Built without the lock, so searches keep using the old index meanwhile
+                Index fresh = new Index();
+                List<Object[]> rows = readOnlyTransaction.execute(status -> jobRepository.findOpenJobFacetRows());
+                for (Object[] row : Objects.requireNonNull(rows)) {
+                    fresh.put(toDocId((Long) row[0]), values(row));
+                }
+                fresh.optimize();
+                lock.writeLock().lock();
+                try {
+                    // A patch may predate the rows read; it is the job's latest state either way
+                    pendingPatches.forEach(patch -> patch.accept(fresh));
+                    index = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Built job facet index: {} open jobs in {} ms",
+                        fresh.all.getCardinality(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                setPendingPatches(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setPendingPatches(List<Consumer<Index>> patches) {
+        lock.writeLock().lock();
+        try {
+            pendingPatches = patches;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public JobFacetResponse getFacetCounts(JobType jobType, Integer jobCategory, String location, String companyName) {
+        String[] selected = {
+                jobType != null ? jobType.name() : null,
+                jobCategory != null ? jobCategory.toString() : null,
+                blankToNull(location),
+                blankToNull(companyName)
+        };
+        if (index == null) {
+            rebuildLock.lock();
+            try {
+                if (index == null) {
+                    rebuild();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] selections = new RoaringBitmap[FACET_COUNT];
+            for (int facet = 0; facet < FACET_COUNT; facet++) {
+                if (selected[facet] != null) {
+                    selections[facet] = index.postings[facet].getOrDefault(selected[facet], new RoaringBitmap());
+                }
+            }
+            return JobFacetResponse.builder()
+                    .total(candidates(selections, -1).getLongCardinality())
+                    .jobTypes(counts(selections, JOB_TYPE))
+                    .jobCategories(counts(selections, CATEGORY))
+                    .locations(counts(selections, LOCATION))
+                    .companies(counts(selections, COMPANY))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Open jobs matching every selection except the one for {@code excludedFacet}. */
+    private RoaringBitmap candidates(RoaringBitmap[] selections, int excludedFacet) {
+        RoaringBitmap result = null;
+        for (int facet = 0; facet < FACET_COUNT; facet++) {
+            if (facet != excludedFacet && selections[facet] != null) {
+                result = result == null ? selections[facet].clone() : RoaringBitmap.and(result, selections[facet]);
+            }
+        }
+        return result != null ? result : index.all;
+    }
+
+    private Map<String, Long> counts(RoaringBitmap[] selections, int facet) {
+        RoaringBitmap candidates = candidates(selections, facet);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        index.postings[facet].entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), RoaringBitmap.andCardinality(candidates, entry.getValue())))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue().longValue()));
+        return counts;
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobSnapshot after = event.after();
+        patch(event.jobId(), after != null && after.status() == JobStatus.OPEN
+                ? new String[]{
+                        after.jobType() != null ? after.jobType().name() : null,
+                        after.categoryId() != null ? after.categoryId().toString() : null,
+                        blankToNull(after.location()),
+                        after.companyName()}
+                : null);
+    }
+
+    @TransactionalEventListener
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (!event.isRenamed()) {
+            return;
+        }
+        apply(target -> target.renameCompany(event.previousName(), event.name()));
+        // Other nodes see the rename on their next rebuild; company renames are rare
+    }
+
+    private void patch(Long jobId, String[] values) {
+        int docId = toDocId(jobId);
+        apply(target -> target.put(docId, values));
+    }
+
+    private void apply(Consumer<Index> patch) {
+        lock.writeLock().lock();
+        try {
+            // Before the first build there is nothing to patch; the build reads committed state
+            if (index != null) {
+                patch.accept(index);
+            }
+            if (pendingPatches != null) {
+                pendingPatches.add(patch);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reload(Long jobId) {
+        List<Object[]> rows = readOnlyTransaction.execute(status -> jobRepository.findOpenJobFacetRow(jobId));
+        patch(jobId, rows == null || rows.isEmpty() ? null : values(rows.getFirst()));
+    }
+
+    private static String[] values(Object[] row) {
+        return new String[]{
+                row[1] != null ? ((JobType) row[1]).name() : null,
+                row[2] != null ? row[2].toString() : null,
+                blankToNull((String) row[3]),
+                (String) row[4]
+        };
+    }
+
+    private static int toDocId(Long jobId) {
+        // Job ids come from a sequence; an int covers two billion postings
+        return Math.toIntExact(jobId);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /** Postings per facet value plus the values of each job, needed to move a job between postings. */
+    private static final class Index {
+        @SuppressWarnings("unchecked")
+        private final Map<String, RoaringBitmap>[] postings = new Map[FACET_COUNT];
+        private final Map<Integer, String[]> documents = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+
+        private Index() {
+            for (int facet = 0; facet < FACET_COUNT; facet++) {
+                postings[facet] = new HashMap<>();
+            }
+        }
+
+        /** Replaces the values of a job; {@code null} values remove it. */
+        private void put(int docId, String[] values) {
+            String[] previous = values != null ? documents.put(docId, values) : documents.remove(docId);
+            if (previous != null) {
+                for (int facet = 0; facet < FACET_COUNT; facet++) {
+                    RoaringBitmap posting = previous[facet] != null ? postings[facet].get(previous[facet]) : null;
+                    if (posting != null) {
+                        posting.remove(docId);
+                        if (posting.isEmpty()) {
+                            postings[facet].remove(previous[facet]);
+                        }
+                    }
+                }
+                all.remove(docId);
+            }
+            if (values != null) {
+                for (int facet = 0; facet < FACET_COUNT; facet++) {
+                    if (values[facet] != null) {
+                        postings[facet].computeIfAbsent(values[facet], key -> new RoaringBitmap()).add(docId);
+                    }
+                }
+                all.add(docId);
+            }
+        }
+
+        private void renameCompany(String previousName, String name) {
+            RoaringBitmap moved = postings[COMPANY].remove(previousName);
+            if (moved == null) {
+                return;
+            }
+            postings[COMPANY].merge(name, moved, (existing, added) -> RoaringBitmap.or(existing, added));
+            moved.forEach((int docId) -> documents.get(docId)[COMPANY] = name);
+        }
+
+        private void optimize() {
+            for (Map<String, RoaringBitmap> facet : postings) {
+                facet.values().forEach(RoaringBitmap::runOptimize);
+            }
+            all.runOptimize();
+        }
+    }
+}
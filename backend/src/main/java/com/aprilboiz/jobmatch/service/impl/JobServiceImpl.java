@@ -3,13 +3,25 @@ package com.aprilboiz.jobmatch.service.impl;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import com.aprilboiz.jobmatch.dto.GeoFilter;
+import com.aprilboiz.jobmatch.dto.GeoPoint;
 import com.aprilboiz.jobmatch.dto.SalaryDto;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
 import com.aprilboiz.jobmatch.enumerate.JobStatus;
 import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
 import com.aprilboiz.jobmatch.service.ApplicationService;
+import com.aprilboiz.jobmatch.service.GeocodingService;
+import com.aprilboiz.jobmatch.service.SalaryNormalizer;
 import com.aprilboiz.jobmatch.service.MessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +52,12 @@ public class JobServiceImpl implements JobService {
     private final ApplicationMapper applicationMapper;
     private final ApplicationService applicationService;
     private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeocodingService geocodingService;
+    private final SalaryNormalizer salaryNormalizer;
+
+    @Value("${geo.search.max-radius-km:500}")
+    private double maxRadiusKm;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -61,7 +79,7 @@ public class JobServiceImpl implements JobService {
                 .title(jobRequest.getTitle())
                 .description(jobRequest.getDescription())
                 .location(jobRequest.getLocation())
-                .skills(jobRequest.getSkills())
+                .skills(jobRequest.getSkills() != null ? new LinkedHashSet<>(jobRequest.getSkills()) : new LinkedHashSet<>())
                 .salaryType(salaryDto.getSalaryType())
                 .minSalary(calculateMinSalary(salaryDto))
                 .maxSalary(calculateMaxSalary(salaryDto))
@@ -74,8 +92,11 @@ public class JobServiceImpl implements JobService {
                 .recruiter(owner)
                 .company(ownerCompany)
                 .build();
+        applyCoordinates(newJob);
+        salaryNormalizer.apply(newJob);
 
         jobRepository.save(newJob);
+        eventPublisher.publishEvent(JobChangedEvent.created(JobSnapshot.of(newJob)));
 
         return applicationMapper.jobToJobResponse(newJob);
     }
@@ -113,10 +134,11 @@ public class JobServiceImpl implements JobService {
         JobCategory jobCategory = jobCategoryRepository.findById(jobRequest.getJobCategory())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid job category ID: " + jobRequest.getJobCategory()));
         
+        JobSnapshot before = JobSnapshot.of(existingJob);
         existingJob.setTitle(jobRequest.getTitle());
         existingJob.setJobType(jobRequest.getJobType());
         existingJob.setJobCategory(jobCategory);
-        existingJob.setSkills(jobRequest.getSkills());
+        replaceSkills(existingJob, jobRequest.getSkills());
         existingJob.setSalaryType(salaryDto.getSalaryType());
         existingJob.setMinSalary(calculateMinSalary(salaryDto));
         existingJob.setMaxSalary(calculateMaxSalary(salaryDto));
@@ -126,7 +148,11 @@ public class JobServiceImpl implements JobService {
         existingJob.setApplicationDeadline(jobRequest.getApplicationDeadline());
         existingJob.setDescription(jobRequest.getDescription());
         existingJob.setLocation(jobRequest.getLocation());
-        return applicationMapper.jobToJobResponse(jobRepository.save(existingJob));
+        applyCoordinates(existingJob);
+        salaryNormalizer.apply(existingJob);
+        Job savedJob = jobRepository.save(existingJob);
+        eventPublisher.publishEvent(JobChangedEvent.updated(before, JobSnapshot.of(savedJob)));
+        return applicationMapper.jobToJobResponse(savedJob);
     }
 
     @Override
@@ -139,8 +165,10 @@ public class JobServiceImpl implements JobService {
             throw new AccessDeniedException(messageService.getMessage("error.authorization.job.modify"));
         }
 
-        // Perform soft delete to preserve job data for audit and application history
-        jobRepository.softDeleteById(id, LocalDateTime.now());
+        // Perform soft delete to preserve job data for audit and application history. Set on
+        // the entity rather than a bulk UPDATE, which would empty the whole job cache region
+        job.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(JobChangedEvent.deleted(JobSnapshot.of(job)));
     }
 
     @Override
@@ -195,32 +223,106 @@ public class JobServiceImpl implements JobService {
             String location,
             BigDecimal minSalary,
             BigDecimal maxSalary,
+            CurrencyType salaryCurrency,
+            PeriodType salaryPeriod,
             String companyName,
             JobStatus status,
             LocalDate applicationDeadlineAfter,
+            GeoFilter geoFilter,
             PageRequest pageRequest) {
-        
-        Page<Job> jobs = jobRepository.searchAndFilterJobs(
-                keyword, jobType, jobCategory, location, minSalary, maxSalary, 
-                companyName, status, applicationDeadlineAfter, pageRequest);
-        
+
+        BigDecimal minAnnualSalaryUsd = salaryNormalizer.toAnnualUsd(minSalary, salaryCurrency, salaryPeriod);
+        BigDecimal maxAnnualSalaryUsd = salaryNormalizer.toAnnualUsd(maxSalary, salaryCurrency, salaryPeriod);
+
+        GeoPoint center = resolveCenter(geoFilter);
+        Double radiusKm = geoFilter.radiusKm();
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > maxRadiusKm)) {
+            throw new IllegalArgumentException(messageService.getMessage("error.geo.radius.invalid", maxRadiusKm));
+        }
+
+        // Equirectangular projection around the centre: one degree of latitude is ~111 km
+        // everywhere, one degree of longitude shrinks with cos(latitude)
+        Double longitudeScale = null;
+        Double radiusSquared = null;
+        Double minLatitude = null, maxLatitude = null, minLongitude = null, maxLongitude = null;
+        if (center != null) {
+            longitudeScale = Math.cos(Math.toRadians(center.latitude()));
+            if (radiusKm != null) {
+                double radiusDegrees = radiusKm / GeoPoint.KM_PER_DEGREE_LATITUDE;
+                double longitudeDegrees = radiusDegrees / Math.max(longitudeScale, 0.01);
+                radiusSquared = radiusDegrees * radiusDegrees;
+                minLatitude = center.latitude() - radiusDegrees;
+                maxLatitude = center.latitude() + radiusDegrees;
+                minLongitude = center.longitude() - longitudeDegrees;
+                maxLongitude = center.longitude() + longitudeDegrees;
+            }
+        }
+
+        Page<Job> jobs = geoFilter.sortByDistance()
+                ? jobRepository.searchAndFilterJobsByDistance(
+                        keyword, jobType, jobCategory, location, minAnnualSalaryUsd, maxAnnualSalaryUsd,
+                        companyName, status, applicationDeadlineAfter,
+                        center.latitude(), center.longitude(), longitudeScale, radiusSquared,
+                        minLatitude, maxLatitude, minLongitude, maxLongitude,
+                        PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize()))
+                : jobRepository.searchAndFilterJobs(
+                        keyword, jobType, jobCategory, location, minAnnualSalaryUsd, maxAnnualSalaryUsd,
+                        companyName, status, applicationDeadlineAfter,
+                        center != null ? center.latitude() : null, center != null ? center.longitude() : null,
+                        longitudeScale, radiusSquared, minLatitude, maxLatitude, minLongitude, maxLongitude,
+                        pageRequest);
+
         List<JobResponse> jobResponses = jobs.getContent().stream()
-                .map(applicationMapper::jobToJobResponse)
+                .map(job -> {
+                    JobResponse response = applicationMapper.jobToJobResponse(job);
+                    if (center != null && job.getLatitude() != null && job.getLongitude() != null) {
+                        double distance = center.distanceKm(new GeoPoint(job.getLatitude(), job.getLongitude()));
+                        response.setDistanceKm(Math.round(distance * 10) / 10.0);
+                    }
+                    return response;
+                })
                 .toList();
-        
-        return new PageImpl<>(jobResponses, pageRequest, jobs.getTotalElements());
+
+        return new PageImpl<>(jobResponses, jobs.getPageable(), jobs.getTotalElements());
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<String> getDistinctLocations() {
-        return jobRepository.findDistinctLocations();
+    private GeoPoint resolveCenter(GeoFilter geoFilter) {
+        GeoPoint center = null;
+        if (geoFilter.latitude() != null && geoFilter.longitude() != null) {
+            center = new GeoPoint(geoFilter.latitude(), geoFilter.longitude());
+        } else if (geoFilter.near() != null && !geoFilter.near().isBlank()) {
+            center = geocodingService.geocode(geoFilter.near()).orElseThrow(() ->
+                    new IllegalArgumentException(messageService.getMessage("error.geo.unknown.place", geoFilter.near())));
+        }
+        if (center == null && (geoFilter.radiusKm() != null || geoFilter.sortByDistance())) {
+            throw new IllegalArgumentException(messageService.getMessage("error.geo.center.required"));
+        }
+        return center;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<String> getDistinctCompanyNames() {
-        return jobRepository.findDistinctCompanyNames();
+    /**
+     * Edits the managed skill set in place so the flush issues one batched delete per
+     * removed skill and one batched insert per added skill. Assigning a new collection
+     * would make Hibernate delete and re-insert them all.
+     */
+    private void replaceSkills(Job job, List<String> skills) {
+        Set<String> wanted = skills != null ? new LinkedHashSet<>(skills) : Set.of();
+        job.getSkills().retainAll(wanted);
+        job.getSkills().addAll(wanted);
+    }
+
+    /**
+     * Geocodes the job location, falling back to the company address when the job has none.
+     */
+    private void applyCoordinates(Job job) {
+        GeoPoint point = null;
+        if (job.getLocation() != null && !job.getLocation().isBlank()) {
+            point = geocodingService.geocode(job.getLocation()).orElse(null);
+        } else if (job.getCompany() != null && job.getCompany().getLatitude() != null) {
+            point = new GeoPoint(job.getCompany().getLatitude(), job.getCompany().getLongitude());
+        }
+        job.setLatitude(point != null ? point.latitude() : null);
+        job.setLongitude(point != null ? point.longitude() : null);
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.response.JobStatsResponse;
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.event.ApplicationChangedEvent;
+import com.aprilboiz.jobmatch.event.OutboxMessage;
+import com.aprilboiz.jobmatch.event.OutboxRelay;
+import com.aprilboiz.jobmatch.model.JobStats;
+import com.aprilboiz.jobmatch.model.JobStatsApplication;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.repository.JobStatsApplicationRepository;
+import com.aprilboiz.jobmatch.repository.JobStatsRepository;
+import com.aprilboiz.jobmatch.repository.JobStatsRow;
+import com.aprilboiz.jobmatch.service.JobStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recruiter dashboard numbers from the job_stats read model. Each relayed application
+ * event moves the application between the totals of its job, in the transaction the
+ * relay delivers it in (see {@link OutboxRelay}). The last sequence number applied for
+ * each application is kept in job_stats_application, and an event at or below it is
+ * skipped: outbox ids only order one application's events, so they cannot tell a
+ * redelivery from a late event of another application on the same job.
+ */
+@Service
+public class JobStatsServiceImpl implements JobStatsService {
+    private final JobStatsRepository jobStatsRepository;
+    private final JobStatsApplicationRepository jobStatsApplicationRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JobStatsServiceImpl(JobStatsRepository jobStatsRepository,
+                               JobStatsApplicationRepository jobStatsApplicationRepository,
+                               ObjectMapper objectMapper) {
+        this.jobStatsRepository = jobStatsRepository;
+        this.jobStatsApplicationRepository = jobStatsApplicationRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobStatsResponse> getJobStatsByRecruiter(Recruiter recruiter) {
+        return jobStatsRepository.findAllByRecruiter(recruiter).stream()
+                .map(JobStatsServiceImpl::toResponse)
+                .toList();
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOutboxMessage(OutboxMessage message) {
+        if (message.aggregateType() != OutboxAggregateType.APPLICATION) {
+            return;
+        }
+        JobStatsApplication applied = jobStatsApplicationRepository.findById(message.aggregateId()).orElse(null);
+        if (applied == null) {
+            // The relay runs one batch at a time, so nothing else inserts these rows meanwhile
+            applied = new JobStatsApplication(message.aggregateId(), 0);
+            entityManager.persist(applied);
+        } else if (message.sequenceNumber() <= applied.getSequenceNumber()) {
+            return;
+        }
+        applied.setSequenceNumber(message.sequenceNumber());
+
+        ApplicationChangedEvent event = readEvent(message);
+        JobStats stats = jobStatsRepository.findById(event.jobId()).orElse(null);
+        if (stats == null) {
+            stats = new JobStats(event.jobId());
+            entityManager.persist(stats);
+        }
+        if (event.type() != ApplicationChangedEvent.ChangeType.CREATED) {
+            stats.add(event.previousStatus(), event.previousScore(), -1);
+        }
+        stats.add(event.status(), event.score(), 1);
+    }
+
+    private ApplicationChangedEvent readEvent(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), ApplicationChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read application event " + message.id(), e);
+        }
+    }
+
+    private static JobStatsResponse toResponse(JobStatsRow row) {
+        JobStats stats = row.stats() != null ? row.stats() : new JobStats(row.jobId());
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        long total = 0;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            long count = stats.getCount(status);
+            byStatus.put(status, count);
+            total += count;
+        }
+        return JobStatsResponse.builder()
+                .jobId(row.jobId())
+                .title(row.title())
+                .jobStatus(row.jobStatus())
+                .totalApplications(total)
+                .applicationsByStatus(byStatus)
+                .averageScore(stats.getAverageScore())
+                .build();
+    }
+}
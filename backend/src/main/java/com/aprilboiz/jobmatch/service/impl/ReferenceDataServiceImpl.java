@@ -0,0 +1,258 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import com.aprilboiz.jobmatch.dto.VersionedData;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobCategoryChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.repository.JobCategoryRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.ReferenceDataService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory cache of the lookup lists every search screen loads.
+ * <p>
+ * Locations and company names are kept as live-job counts per value, so a job
+ * write is applied as a +1/-1 delta after commit instead of re-running
+ * {@code SELECT DISTINCT} over the jobs table. Other nodes learn about the change
+ * through a Redis pub/sub message and reload the affected list on next read. A
+ * periodic full reload corrects any drift (e.g. a missed message).
+ */
+@Service
+@Slf4j
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+    static final String CHANNEL = "jobmatch:reference-data";
+
+    private enum Section { CATEGORIES, LOCATIONS, COMPANIES }
+
+    private final JobRepository jobRepository;
+    private final JobCategoryRepository jobCategoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    private final Map<String, Long> locationCounts = new ConcurrentHashMap<>();
+    private final Map<String, Long> companyCounts = new ConcurrentHashMap<>();
+    private final Map<Section, VersionedData<?>> views = new ConcurrentHashMap<>();
+    private final Map<Section, Boolean> stale = new ConcurrentHashMap<>();
+    // A reload runs a query, so it must not pin a virtual thread's carrier the way synchronized would
+    private final Map<Section, ReentrantLock> reloadLocks = new EnumMap<>(Section.class);
+
+    public ReferenceDataServiceImpl(JobRepository jobRepository,
+                                    JobCategoryRepository jobCategoryRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                                    ObjectProvider<StringRedisTemplate> redisTemplate,
+                                    NodeIdentity nodeIdentity) {
+        this.jobRepository = jobRepository;
+        this.jobCategoryRepository = jobCategoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.nodeIdentity = nodeIdentity;
+        for (Section section : Section.values()) {
+            stale.put(section, true);
+            reloadLocks.put(section, new ReentrantLock());
+        }
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this::onRemoteChange, new ChannelTopic(CHANNEL)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VersionedData<List<Map<String, Object>>> getJobCategories() {
+        return (VersionedData<List<Map<String, Object>>>) view(Section.CATEGORIES);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VersionedData<List<String>> getLocations() {
+        return (VersionedData<List<String>>) view(Section.LOCATIONS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VersionedData<List<String>> getCompanyNames() {
+        return (VersionedData<List<String>>) view(Section.COMPANIES);
+    }
+
+    private VersionedData<?> view(Section section) {
+        if (stale.get(section)) {
+            ReentrantLock lock = reloadLocks.get(section);
+            lock.lock();
+            try {
+                if (stale.get(section)) {
+                    reload(section);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return views.computeIfAbsent(section, this::buildView);
+    }
+
+    private void reload(Section section) {
+        // Clear the flag first: a change that lands during the reload marks it stale again
+        stale.put(section, false);
+        switch (section) {
+            case LOCATIONS -> replaceCounts(locationCounts, readOnlyTransaction.execute(status -> jobRepository.countJobsByLocation()));
+            case COMPANIES -> replaceCounts(companyCounts, readOnlyTransaction.execute(status -> jobRepository.countJobsByCompanyName()));
+            case CATEGORIES -> { /* rebuilt from the repository in buildView */ }
+        }
+        views.remove(section);
+        log.debug("Reloaded reference data section {}", section);
+    }
+
+    private static void replaceCounts(Map<String, Long> counts, List<Object[]> rows) {
+        Map<String, Long> fresh = new HashMap<>();
+        for (Object[] row : rows) {
+            fresh.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        counts.keySet().retainAll(fresh.keySet());
+        counts.putAll(fresh);
+    }
+
+    private VersionedData<?> buildView(Section section) {
+        return switch (section) {
+            case LOCATIONS -> VersionedData.of(sortedKeys(locationCounts));
+            case COMPANIES -> VersionedData.of(sortedKeys(companyCounts));
+            case CATEGORIES -> {
+                List<JobCategory> categories = readOnlyTransaction.execute(status -> jobCategoryRepository.findAllActive());
+                List<Map<String, Object>> result = new ArrayList<>();
+                for (JobCategory category : Objects.requireNonNull(categories)) {
+                    Map<String, Object> categoryMap = new LinkedHashMap<>();
+                    categoryMap.put("code", category.getId());
+                    categoryMap.put("name", category.getName());
+                    categoryMap.put("description", category.getDescription());
+                    result.add(categoryMap);
+                }
+                yield VersionedData.of(List.copyOf(result));
+            }
+        };
+    }
+
+    private static List<String> sortedKeys(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobSnapshot before = event.before();
+        JobSnapshot after = event.after();
+        boolean locationChanged = adjust(locationCounts, before != null ? before.location() : null,
+                after != null ? after.location() : null);
+        boolean companyChanged = adjust(companyCounts, before != null ? before.companyName() : null,
+                after != null ? after.companyName() : null);
+        if (locationChanged) {
+            changed(Section.LOCATIONS);
+        }
+        if (companyChanged) {
+            changed(Section.COMPANIES);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (!event.isRenamed()) {
+            return;
+        }
+        Long moved = companyCounts.remove(event.previousName());
+        if (moved != null && moved > 0) {
+            companyCounts.merge(event.name(), moved, Long::sum);
+            changed(Section.COMPANIES);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onJobCategoryChanged(JobCategoryChangedEvent event) {
+        changed(Section.CATEGORIES);
+    }
+
+    /**
+     * Applies a move from {@code previous} to {@code current}; returns whether the
+     * set of distinct values may have changed.
+     */
+    private boolean adjust(Map<String, Long> counts, String previous, String current) {
+        if (Objects.equals(previous, current)) {
+            return false;
+        }
+        if (previous != null && !previous.isEmpty()) {
+            counts.computeIfPresent(previous, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (current != null && !current.isEmpty()) {
+            counts.merge(current, 1L, Long::sum);
+        }
+        return true;
+    }
+
+    private void changed(Section section) {
+        views.remove(section);
+        if (section == Section.CATEGORIES) {
+            stale.put(section, true);
+        }
+        redisTemplate.ifAvailable(template -> {
+            try {
+                template.convertAndSend(CHANNEL, nodeIdentity.getId() + "|" + section.name());
+            } catch (Exception e) {
+                log.warn("Failed to publish reference data invalidation for {}: {}", section, e.getMessage());
+            }
+        });
+    }
+
+    private void onRemoteChange(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2 || parts[0].equals(nodeIdentity.getId())) {
+            return;
+        }
+        try {
+            Section section = Section.valueOf(parts[1]);
+            stale.put(section, true);
+            views.remove(section);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unknown reference data section: {}", parts[1]);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reference-data.reconcile-interval:15m}",
+            initialDelayString = "${reference-data.reconcile-interval:15m}")
+    public void reconcile() {
+        for (Section section : Section.values()) {
+            stale.put(section, true);
+        }
+    }
+}
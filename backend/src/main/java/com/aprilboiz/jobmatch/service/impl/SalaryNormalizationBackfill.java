@@ -0,0 +1,40 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.SalaryNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Brings the normalized salary columns in line with the configured FX table at
+ * startup: one set-based UPDATE per currency and period, touching only rows
+ * whose stored value differs (seed data, rows written before this column
+ * existed, or a changed rate).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SalaryNormalizationBackfill {
+    private final JobRepository jobRepository;
+    private final SalaryNormalizer salaryNormalizer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(rollbackFor = Exception.class)
+    public void normalizeAll() {
+        int updated = 0;
+        for (CurrencyType currency : CurrencyType.values()) {
+            for (PeriodType period : PeriodType.values()) {
+                updated += jobRepository.normalizeSalaries(currency, period, salaryNormalizer.annualUsdFactor(currency, period));
+            }
+        }
+        if (updated > 0) {
+            log.info("Normalized salaries of {} jobs to annual USD", updated);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.repository.ApplicationRepository;
+import com.aprilboiz.jobmatch.repository.CvRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * Moves rows that have been soft-deleted for longer than the retention period into
+ * the *_archive tables, so the live tables and their indexes only grow with live data.
+ * Applications go first, together with their analyses, since they reference jobs and
+ * CVs; a job or CV still referenced by a newer application is left for a later run.
+ * Each batch is its own transaction and skips rows locked by a concurrent restore.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "archive.soft-deleted", name = "enabled", matchIfMissing = true)
+public class SoftDeleteArchiver {
+    private final ApplicationRepository applicationRepository;
+    private final CvRepository cvRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public SoftDeleteArchiver(ApplicationRepository applicationRepository,
+                              CvRepository cvRepository,
+                              JobRepository jobRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${archive.soft-deleted.retention:90d}") Duration retention,
+                              @Value("${archive.soft-deleted.batch-size:500}") int batchSize) {
+        this.applicationRepository = applicationRepository;
+        this.cvRepository = cvRepository;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${archive.soft-deleted.interval:6h}",
+               initialDelayString = "${archive.soft-deleted.initial-delay:5m}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int applications = archive(cutoff, applicationRepository::archiveDeletedBefore);
+        int cvs = archive(cutoff, cvRepository::archiveDeletedBefore);
+        int jobs = archive(cutoff, jobRepository::archiveDeletedBefore);
+        if (applications > 0 || cvs > 0 || jobs > 0) {
+            log.info("Archived {} applications, {} CVs and {} jobs deleted before {}", applications, cvs, jobs, cutoff);
+        }
+    }
+
+    private int archive(LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, Integer> batch) {
+        int archived = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> batch.apply(cutoff, batchSize));
+            if (moved == null || moved == 0) {
+                return archived;
+            }
+            archived += moved;
+            if (moved < batchSize) {
+                return archived;
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.response.SuggestionResponse;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.SuggestionType;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangeBroadcaster;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.SuggestionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Type-ahead suggestions for job titles, skills, locations and company names.
+ * <p>
+ * Each field has its own {@link SuggestionTrie}, weighted by the number of open
+ * jobs using a value. Titles are also reachable from each of their first few
+ * words, so "dev" finds "Java Developer". The tries are built once the
+ * application is ready and patched per job from the values last indexed for it,
+ * which works the same for local events and for jobs reloaded after a change on
+ * another node.
+ */
+@Service
+@Slf4j
+public class SuggestionServiceImpl implements SuggestionService {
+    static final int MAX_SUGGESTIONS = 10;
+    private static final int TITLE_WORD_KEYS = 3;
+
+    private record Term(SuggestionType type, String text) {
+    }
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer lookupTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Index index;
+    // Patches made while a rebuild reads the database, replayed onto the new index before
+    // it replaces the old one; guarded by the write lock
+    private List<Consumer<Index>> pendingPatches;
+
+    public SuggestionServiceImpl(JobRepository jobRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 JobChangeBroadcaster jobChangeBroadcaster,
+                                 MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.readOnlyTransaction = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lookupTimer = Timer.builder("jobmatch.suggestions.lookup")
+                .description("Server-side time to answer an autocomplete request")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        jobChangeBroadcaster.onRemoteChange(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.suggestions.rebuild-interval:30m}",
+            initialDelayString = "${search.suggestions.rebuild-interval:30m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            setPendingPatches(new ArrayList<>());
+            try {
+                // Built without the lock, so lookups keep using the old index meanwhile
+                Map<Long, List<Term>> terms = readOnlyTransaction.execute(status -> loadOpenJobTerms());
+                Index fresh = new Index();
+                Objects.requireNonNull(terms).forEach(fresh::put);
+                lock.writeLock().lock();
+                try {
+                    pendingPatches.forEach(patch -> patch.accept(fresh));
+                    index = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Built suggestion index: {} open jobs in {} ms",
+                        terms.size(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                setPendingPatches(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setPendingPatches(List<Consumer<Index>> patches) {
+        lock.writeLock().lock();
+        try {
+            pendingPatches = patches;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, List<Term>> loadOpenJobTerms() {
+        Map<Long, List<Term>> terms = new HashMap<>();
+        for (Object[] row : jobRepository.findOpenJobSuggestionRows()) {
+            List<Term> jobTerms = terms.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+            addTerm(jobTerms, SuggestionType.TITLE, (String) row[1]);
+            addTerm(jobTerms, SuggestionType.LOCATION, (String) row[2]);
+            addTerm(jobTerms, SuggestionType.COMPANY, (String) row[3]);
+        }
+        for (Object[] row : jobRepository.findOpenJobSkillRows()) {
+            List<Term> jobTerms = terms.get((Long) row[0]);
+            if (jobTerms != null) {
+                addTerm(jobTerms, SuggestionType.SKILL, (String) row[1]);
+            }
+        }
+        return terms;
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, SuggestionType type, int limit) {
+        String key = SearchText.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (index == null) {
+            rebuildLock.lock();
+            try {
+                if (index == null) {
+                    rebuild();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        int size = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<SuggestionResponse> suggestions = new ArrayList<>();
+            for (SuggestionType candidateType : type != null ? List.of(type) : List.of(SuggestionType.values())) {
+                for (SuggestionTrie.Entry entry : index.tries.get(candidateType).top(key)) {
+                    suggestions.add(new SuggestionResponse(entry.text(), candidateType, entry.weight()));
+                }
+            }
+            if (type == null) {
+                suggestions.sort(Comparator.comparingLong(SuggestionResponse::getJobCount).reversed());
+            }
+            return suggestions.size() > size ? List.copyOf(suggestions.subList(0, size)) : suggestions;
+        } finally {
+            lock.readLock().unlock();
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        patch(event.jobId(), terms(event.after()));
+    }
+
+    @TransactionalEventListener
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.isRenamed()) {
+            apply(target -> target.renameCompany(event.previousName(), event.name()));
+        }
+        // Other nodes see the rename on their next rebuild; company renames are rare
+    }
+
+    private void reload(Long jobId) {
+        List<Term> terms = readOnlyTransaction.execute(status -> jobRepository.findByIdAndNotDeleted(jobId)
+                .map(job -> terms(JobSnapshot.of(job)))
+                .orElse(List.of()));
+        patch(jobId, terms);
+    }
+
+    private void patch(Long jobId, List<Term> terms) {
+        apply(target -> target.put(jobId, terms));
+    }
+
+    private void apply(Consumer<Index> patch) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                patch.accept(index);
+            }
+            if (pendingPatches != null) {
+                pendingPatches.add(patch);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<Term> terms(JobSnapshot job) {
+        if (job == null || job.status() != JobStatus.OPEN) {
+            return List.of();
+        }
+        List<Term> terms = new ArrayList<>();
+        addTerm(terms, SuggestionType.TITLE, job.title());
+        addTerm(terms, SuggestionType.LOCATION, job.location());
+        addTerm(terms, SuggestionType.COMPANY, job.companyName());
+        job.skills().forEach(skill -> addTerm(terms, SuggestionType.SKILL, skill));
+        return terms;
+    }
+
+    private static void addTerm(List<Term> terms, SuggestionType type, String text) {
+        if (text != null && !text.isBlank()) {
+            terms.add(new Term(type, text.trim()));
+        }
+    }
+
+    private static final class Index {
+        private final Map<SuggestionType, SuggestionTrie> tries = new EnumMap<>(SuggestionType.class);
+        private final Map<Long, Set<Term>> documents = new HashMap<>();
+
+        private Index() {
+            for (SuggestionType type : SuggestionType.values()) {
+                tries.put(type, new SuggestionTrie(MAX_SUGGESTIONS));
+            }
+        }
+
+        /** Replaces the terms indexed for a job; an empty list removes it. */
+        private void put(Long jobId, List<Term> terms) {
+            Set<Term> current = new LinkedHashSet<>(terms);
+            Set<Term> previous = current.isEmpty() ? documents.remove(jobId) : documents.put(jobId, current);
+            if (previous != null) {
+                for (Term term : previous) {
+                    if (!current.contains(term)) {
+                        adjust(term, -1);
+                    }
+                }
+            }
+            for (Term term : current) {
+                if (previous == null || !previous.contains(term)) {
+                    adjust(term, 1);
+                }
+            }
+        }
+
+        /** Re-indexes only the jobs carrying the old company name. */
+        private void renameCompany(String previousName, String name) {
+            Term previous = new Term(SuggestionType.COMPANY, previousName.trim());
+            List<Long> jobIds = documents.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(previous))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            for (Long jobId : jobIds) {
+                List<Term> terms = new ArrayList<>(documents.get(jobId));
+                terms.remove(previous);
+                addTerm(terms, SuggestionType.COMPANY, name);
+                put(jobId, terms);
+            }
+        }
+
+        private void adjust(Term term, long delta) {
+            SuggestionTrie trie = tries.get(term.type());
+            for (String key : keys(term)) {
+                trie.adjust(key, term.text(), delta);
+            }
+        }
+
+        private static Set<String> keys(Term term) {
+            String normalized = SearchText.normalize(term.text());
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(normalized);
+            if (term.type() == SuggestionType.TITLE) {
+                int from = 0;
+                for (int word = 1; word <= TITLE_WORD_KEYS; word++) {
+                    from = normalized.indexOf(' ', from) + 1;
+                    if (from == 0) {
+                        break;
+                    }
+                    // Suffix plus the full title keeps "Developer" and "Java Developer" on separate terminals
+                    keys.add(normalized.substring(from) + '\u0000' + normalized);
+                }
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie where every node caches the best {@code topK} completions below it,
+ * so a lookup is a walk down the prefix and a copy of that list. Weight changes
+ * re-rank only the nodes on the changed key's path. Not thread-safe; callers
+ * guard mutation.
+ */
+final class SuggestionTrie {
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingLong(Entry::weight).reversed().thenComparing(Entry::text);
+
+    record Entry(String text, long weight) {
+    }
+
+    private final int topK;
+    private final Node root = new Node();
+
+    SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Adds {@code delta} to the weight of {@code text} under an already normalized key.
+     */
+    void adjust(String key, String text, long delta) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        Node terminal = path[key.length()];
+        terminal.weight += delta;
+        if (terminal.weight <= 0) {
+            terminal.weight = 0;
+            terminal.text = null;
+        } else if (terminal.text == null) {
+            terminal.text = text;
+        }
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            rank(node);
+            if (i > 0 && node.weight == 0 && node.children.isEmpty()) {
+                path[i - 1].children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    List<Entry> top(String normalizedPrefix) {
+        Node node = root;
+        for (int i = 0; i < normalizedPrefix.length() && node != null; i++) {
+            node = node.children.get(normalizedPrefix.charAt(i));
+        }
+        return node == null ? List.of() : node.top;
+    }
+
+    private void rank(Node node) {
+        // Several keys can share a text (title word suffixes), so keep each text once
+        Map<String, Entry> candidates = new LinkedHashMap<>();
+        if (node.weight > 0) {
+            candidates.put(node.text, new Entry(node.text, node.weight));
+        }
+        for (Node child : node.children.values()) {
+            for (Entry entry : child.top) {
+                candidates.merge(entry.text(), entry, (a, b) -> a.weight() >= b.weight() ? a : b);
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(candidates.values());
+        ranked.sort(RANKING);
+        node.top = List.copyOf(ranked.subList(0, Math.min(topK, ranked.size())));
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private String text;
+        private long weight;
+        private List<Entry> top = List.of();
+    }
+}
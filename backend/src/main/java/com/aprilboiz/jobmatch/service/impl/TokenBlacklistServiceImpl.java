@@ -2,6 +2,8 @@ package com.aprilboiz.jobmatch.service.impl;
 
 import com.aprilboiz.jobmatch.service.MessageService;
 import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -17,10 +19,24 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
     
     private final RedisTemplate<String, Object> redisTemplate;
     private final MessageService messageService;
+    // Check timings are in jobmatch.service; these say how each check came out
+    private final Counter blacklistedChecks;
+    private final Counter allowedChecks;
+    private final Counter failedChecks;
     
-    public TokenBlacklistServiceImpl(RedisTemplate<String, Object> redisTemplate, MessageService messageService) {
+    public TokenBlacklistServiceImpl(RedisTemplate<String, Object> redisTemplate, MessageService messageService,
+                                     MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
         this.messageService = messageService;
+        this.blacklistedChecks = checkCounter(meterRegistry, "blacklisted");
+        this.allowedChecks = checkCounter(meterRegistry, "allowed");
+        this.failedChecks = checkCounter(meterRegistry, "error");
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jobmatch.token.blacklist.checks")
+                .tag("result", result)
+                .register(meterRegistry);
     }
     
     @Override
@@ -41,12 +57,16 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
             // Check if a specific token is blacklisted
             String key = BLACKLIST_PREFIX + token;
 
-            return redisTemplate.hasKey(key);
+            boolean blacklisted = redisTemplate.hasKey(key);
+            (blacklisted ? blacklistedChecks : allowedChecks).increment();
+            return blacklisted;
             
             // TODO: Extract username from token and check user-level blacklist
 
         } catch (Exception e) {
             log.error("Failed to check token blacklist status", e);
+            // Failing closed rejects the request, so errors here show up as lockouts
+            failedChecks.increment();
             return true;
         }
     }
@@ -29,7 +29,7 @@ import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
 import com.aprilboiz.jobmatch.repository.CompanyRepository;
 import com.aprilboiz.jobmatch.repository.RoleRepository;
 import com.aprilboiz.jobmatch.repository.UserRepository;
-import com.aprilboiz.jobmatch.service.CloudinaryService;
+import com.aprilboiz.jobmatch.service.ImageStorageService;
 import com.aprilboiz.jobmatch.service.MessageService;
 import com.aprilboiz.jobmatch.service.UserService;
 
@@ -46,7 +46,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final ApplicationMapper userMapper;
     private final MessageService messageService;
-    private final CloudinaryService cloudinaryService;
+    private final ImageStorageService imageStorageService;
 
     
 
@@ -194,20 +194,22 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(messageService.getMessage("error.user.not.found", userId)));
 
-        // Delete old avatar if exists
-        if (user.getAvatarUrl() != null && !user.getAvatarUrl().isEmpty()) {
-            try {
-                String oldPublicId = cloudinaryService.extractPublicIdFromUrl(user.getAvatarUrl());
-                if (oldPublicId != null) {
-                    cloudinaryService.delete(oldPublicId);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to delete old avatar for user {}: {}", userId, e.getMessage());
-            }
-        }
-
+        // Old variants are queued in this transaction and removed after commit by the cleanup job
+        String previousAvatarUrl = user.getAvatarUrl();
         user.setAvatarUrl(avatarUrl);
         userRepository.save(user);
+        if (previousAvatarUrl != null && !previousAvatarUrl.equals(avatarUrl)) {
+            imageStorageService.scheduleDelete(previousAvatarUrl);
+        }
         log.info("Successfully updated avatar for user {}", userId);
     }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void updatePasswordHash(String email, String currentHash, String newHash) {
+        int updated = userRepository.updatePasswordHash(email, currentHash, newHash);
+        if (updated == 0) {
+            log.debug("Skipped password re-hash for {}: hash changed in the meantime", email);
+        }
+    }
 }
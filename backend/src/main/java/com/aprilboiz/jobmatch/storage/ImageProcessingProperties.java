@@ -0,0 +1,57 @@
+package com.aprilboiz.jobmatch.storage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@ConfigurationProperties("storage.image")
+@Getter
+@Setter
+@Component
+public class ImageProcessingProperties {
+    /** Where uploads are spooled before the async handoff; defaults to a folder under java.io.tmpdir. */
+    private String tempLocation;
+
+    /** Longest side of the image we actually upload. */
+    private int maxDimension = 1024;
+
+    /** Images whose header declares more pixels than this are refused without decoding. */
+    private long maxPixels = 40_000_000L;
+
+    /**
+     * Decoded bitmaps, with the rotated and scaled copies made from them, across all
+     * concurrent uploads must fit in this budget. Large sources are decoded with
+     * subsampling, so a 5MB JPEG costs a few MB here rather than the 100MB+ its full
+     * resolution would need.
+     */
+    private DataSize decodeMemoryBudget = DataSize.ofMegabytes(64);
+    private Duration decodeBudgetWait = Duration.ofSeconds(10);
+
+    private float jpegQuality = 0.85f;
+
+    /**
+     * {@code cloudinary} uploads a single image as before. {@code local} renders
+     * thumb/card/full variants into the storage root and serves them from /api/images;
+     * every node must then share that root, so it is meant for development or a shared
+     * volume.
+     */
+    private String provider = "cloudinary";
+
+    /** Variant URLs embed a random id, so their content never changes. */
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    private final Cleanup cleanup = new Cleanup();
+
+    @Getter
+    @Setter
+    public static class Cleanup {
+        private Duration interval = Duration.ofSeconds(30);
+        private int batchSize = 100;
+        private int maxAttempts = 3;
+    }
+}
@@ -0,0 +1,27 @@
+package com.aprilboiz.jobmatch.storage;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImageProcessor {
+    /**
+     * Copies the upload to a temp file we own, so it outlives the request. The caller
+     * is responsible for {@link #discard(Path...)} once done.
+     */
+    Path spool(MultipartFile file);
+
+    /**
+     * Decodes within the memory budget, applies EXIF orientation, scales to fit
+     * {@code maxDimension} and re-encodes without metadata into a new temp file.
+     */
+    Path prepareForUpload(Path source, int maxDimension);
+
+    /**
+     * Decodes once and renders every {@link ImageVariant} into its own temp file.
+     */
+    Map<ImageVariant, Path> renderVariants(Path source);
+
+    void discard(Path... files);
+}
@@ -0,0 +1,27 @@
+package com.aprilboiz.jobmatch.storage;
+
+import java.util.Locale;
+
+/**
+ * Fixed renditions generated once at upload time. Ordered largest first so each
+ * one can be scaled from the previous instead of from the original.
+ */
+public enum ImageVariant {
+    FULL(1024),
+    CARD(320),
+    THUMB(96);
+
+    private final int maxDimension;
+
+    ImageVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
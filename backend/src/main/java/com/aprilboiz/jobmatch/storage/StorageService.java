@@ -13,4 +13,14 @@ public interface StorageService {
     List<Path> loadAll();
     String replace(String oldFileName, MultipartFile newFile);
     Resource loadAsResource(String fileName);
+
+    /**
+     * Moves a local file under {@code relativePath}, creating parent directories.
+     */
+    String store(Path source, String relativePath);
+
+    /**
+     * Deletes a directory under the storage root and everything in it; missing paths are ignored.
+     */
+    void deleteDirectory(String relativePath);
 }
@@ -0,0 +1,10 @@
+package com.aprilboiz.jobmatch.storage;
+
+import java.util.Map;
+
+/**
+ * Result of storing an uploaded image: {@code url} is what we persist on the
+ * entity, {@code variants} maps variant key to URL for the response.
+ */
+public record StoredImage(String url, Map<String, String> variants) {
+}
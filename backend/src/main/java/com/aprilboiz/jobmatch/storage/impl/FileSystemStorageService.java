@@ -7,8 +7,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 import org.springframework.core.io.Resource;
@@ -116,4 +118,41 @@ public class FileSystemStorageService implements StorageService {
             throw new StorageException(messageService.getMessage("storage.file.not.readable", fileName), e);
         }
     }
+
+    @Override
+    public String store(Path source, String relativePath) {
+        Path destinationFile = resolveInsideRoot(relativePath);
+        try {
+            Files.createDirectories(destinationFile.getParent());
+            Files.move(source, destinationFile, StandardCopyOption.REPLACE_EXISTING);
+            return rootLocation.toAbsolutePath().relativize(destinationFile).toString();
+        } catch (IOException e) {
+            throw new StorageException(messageService.getMessage("storage.failed", "store file"), e);
+        }
+    }
+
+    @Override
+    public void deleteDirectory(String relativePath) {
+        Path directory = resolveInsideRoot(relativePath);
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new StorageException(messageService.getMessage("storage.failed", "delete directory " + relativePath), e);
+        }
+    }
+
+    private Path resolveInsideRoot(String relativePath) {
+        Path root = rootLocation.toAbsolutePath().normalize();
+        Path resolved = root.resolve(relativePath).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root)) {
+            // This is a security check
+            throw new StorageException(messageService.getMessage("storage.failed", "store file outside current directory"));
+        }
+        return resolved;
+    }
 }
@@ -0,0 +1,257 @@
+package com.aprilboiz.jobmatch.storage.impl;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.aprilboiz.jobmatch.exception.StorageException;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageProcessor;
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class ImageIoImageProcessor implements ImageProcessor {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final ImageProcessingProperties properties;
+    private final MessageService messageService;
+    private final Path tempLocation;
+    // One permit per KiB of bitmap memory, shared by every upload in flight
+    private final Semaphore decodeBudget;
+    private final int decodeBudgetKib;
+
+    public ImageIoImageProcessor(ImageProcessingProperties properties, MessageService messageService) {
+        this.properties = properties;
+        this.messageService = messageService;
+        this.decodeBudgetKib = (int) Math.min(Integer.MAX_VALUE, properties.getDecodeMemoryBudget().toKilobytes());
+        this.decodeBudget = new Semaphore(decodeBudgetKib, true);
+        this.tempLocation = properties.getTempLocation() != null && !properties.getTempLocation().isBlank()
+                ? Paths.get(properties.getTempLocation())
+                : Paths.get(System.getProperty("java.io.tmpdir"), "jobmatch-images");
+        // Keep ImageIO from creating its own cache files next to ours
+        ImageIO.setUseCache(false);
+        try {
+            Files.createDirectories(this.tempLocation);
+        } catch (IOException e) {
+            throw new StorageException(messageService.getMessage("storage.failed", "create directory"), e);
+        }
+    }
+
+    @Override
+    public Path spool(MultipartFile file) {
+        Path target = null;
+        try {
+            target = Files.createTempFile(tempLocation, "upload-", ".tmp");
+            try (InputStream inputStream = file.getInputStream()) {
+                Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return target;
+        } catch (IOException e) {
+            discard(target);
+            throw new StorageException(messageService.getMessage("storage.failed", "spool upload"), e);
+        }
+    }
+
+    @Override
+    public Path prepareForUpload(Path source, int maxDimension) {
+        return decode(source, maxDimension, 1, image -> {
+            BufferedImage scaled = scaleToFit(image, maxDimension);
+            return write(scaled);
+        });
+    }
+
+    @Override
+    public Map<ImageVariant, Path> renderVariants(Path source) {
+        // Each variant is scaled from the one before, so two scaled copies are alive at once
+        return decode(source, ImageVariant.FULL.getMaxDimension(), 2, image -> {
+            Map<ImageVariant, Path> variants = new EnumMap<>(ImageVariant.class);
+            BufferedImage current = image;
+            try {
+                for (ImageVariant variant : ImageVariant.values()) {
+                    current = scaleToFit(current, variant.getMaxDimension());
+                    variants.put(variant, write(current));
+                }
+                return variants;
+            } catch (RuntimeException e) {
+                discard(variants.values().toArray(Path[]::new));
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public void discard(Path... files) {
+        for (Path file : files) {
+            if (file == null) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete temp image file: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Decodes only as many pixels as {@code maxDimension} needs, applies the EXIF
+     * orientation and hands the bitmap to {@code consumer}. Everything alive at the
+     * peak is reserved from the shared decode budget first: the decoded bitmap, its
+     * rotated copy if the orientation needs one, and {@code scaledCopies} copies at
+     * most {@code maxDimension} on the long side.
+     */
+    <T> T decode(Path source, int maxDimension, int scaledCopies, Function<BufferedImage, T> consumer) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new StorageException(messageService.getMessage("storage.image.unsupported"));
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                // Header only, nothing is decoded yet
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxPixels()) {
+                    throw new StorageException(messageService.getMessage("storage.image.too.large", width, height));
+                }
+
+                int subsampling = Math.max(1, Math.max(width, height) / Math.max(1, maxDimension));
+                int decodedWidth = ceilDiv(width, subsampling);
+                int decodedHeight = ceilDiv(height, subsampling);
+                int orientation = ExifOrientation.read(reader.getImageMetadata(0));
+                long peakBytes = peakBytes(decodedWidth, decodedHeight, ExifOrientation.transforms(orientation),
+                        maxDimension, scaledCopies);
+                int permits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (peakBytes + 1023) / 1024));
+                if (permits > decodeBudgetKib) {
+                    throw new StorageException(messageService.getMessage("storage.image.too.large", width, height));
+                }
+                acquire(permits);
+                try {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    BufferedImage image = reader.read(0, param);
+                    return consumer.apply(ExifOrientation.apply(image, orientation));
+                } finally {
+                    decodeBudget.release(permits);
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new StorageException(messageService.getMessage("storage.image.unsupported"), e);
+        }
+    }
+
+    /**
+     * Bytes held at once while one upload is processed, counting every copy as four bytes
+     * a pixel whatever its actual type.
+     */
+    static long peakBytes(int decodedWidth, int decodedHeight, boolean rotated, int maxDimension, int scaledCopies) {
+        long decodedPixels = (long) decodedWidth * decodedHeight;
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(decodedWidth, decodedHeight));
+        long scaledPixels = Math.max(1, Math.round(decodedWidth * scale)) * Math.max(1, Math.round(decodedHeight * scale));
+        return (decodedPixels * (rotated ? 2 : 1) + scaledPixels * scaledCopies) * BYTES_PER_PIXEL;
+    }
+
+    private void acquire(int permits) {
+        try {
+            if (!decodeBudget.tryAcquire(permits, properties.getDecodeBudgetWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new StorageException(messageService.getMessage("storage.image.busy"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException(messageService.getMessage("storage.image.busy"), e);
+        }
+    }
+
+    BufferedImage scaleToFit(BufferedImage image, int maxDimension) {
+        boolean alpha = image.getColorModel().hasAlpha();
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        if (scale == 1.0 && image.getType() == type) {
+            return image;
+        }
+
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Re-encodes without any metadata, which is what strips EXIF (GPS, camera serials).
+     * Transparent images stay PNG, everything else becomes JPEG.
+     */
+    Path write(BufferedImage image) {
+        boolean alpha = image.getColorModel().hasAlpha();
+        Path target = null;
+        try {
+            target = Files.createTempFile(tempLocation, "processed-", alpha ? ".png" : ".jpg");
+            if (alpha) {
+                ImageIO.write(image, "png", target.toFile());
+            } else {
+                writeJpeg(image, target);
+            }
+            return target;
+        } catch (IOException e) {
+            discard(target);
+            throw new StorageException(messageService.getMessage("storage.failed", "encode image"), e);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(properties.getJpegQuality());
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
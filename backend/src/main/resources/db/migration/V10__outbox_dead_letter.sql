@@ -0,0 +1,8 @@
+-- Deliveries a listener failed on. The relay retries an event until attempts reaches
+-- outbox.max-attempts, then sets failed_at; the aggregate's later events wait behind it
+-- until an operator clears failed_at to replay them in order.
+ALTER TABLE outbox_event ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_event ADD COLUMN failed_at TIMESTAMP(6);
+
+-- The relay checks each unpublished event's aggregate for a dead letter
+CREATE INDEX idx_outbox_event_failed ON outbox_event (aggregate_type, aggregate_id) WHERE failed_at IS NOT NULL;
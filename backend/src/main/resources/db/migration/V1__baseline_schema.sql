@@ -0,0 +1,170 @@
+-- Baseline schema, equivalent to what Hibernate generated under ddl-auto: create-drop.
+-- Column types are kept exactly as Hibernate maps them so ddl-auto: validate passes.
+
+CREATE SEQUENCE analysis_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE application_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE company_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE cv_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE jobs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE roles_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE roles (
+    id   BIGINT NOT NULL,
+    name VARCHAR(255),
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT ck_roles_name CHECK (name IN ('ADMIN', 'CANDIDATE', 'RECRUITER'))
+);
+
+CREATE TABLE users (
+    id           BIGINT       NOT NULL,
+    user_type    VARCHAR(31)  NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    full_name    VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    avatar_url   VARCHAR(255),
+    is_active    BOOLEAN,
+    role_id      BIGINT,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE company (
+    id           BIGINT       NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    website      VARCHAR(255),
+    phone_number VARCHAR(255),
+    email        VARCHAR(255),
+    address      VARCHAR(255) NOT NULL,
+    company_size VARCHAR(255) NOT NULL,
+    industry     VARCHAR(255) NOT NULL,
+    description  VARCHAR(255),
+    logo_url     VARCHAR(255),
+    latitude     FLOAT(53),
+    longitude    FLOAT(53),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255),
+    CONSTRAINT pk_company PRIMARY KEY (id)
+);
+
+CREATE TABLE candidate (
+    id BIGINT NOT NULL,
+    CONSTRAINT pk_candidate PRIMARY KEY (id),
+    CONSTRAINT fk_candidate_user FOREIGN KEY (id) REFERENCES users (id)
+);
+
+CREATE TABLE recruiter (
+    id         BIGINT NOT NULL,
+    company_id BIGINT,
+    CONSTRAINT pk_recruiter PRIMARY KEY (id),
+    CONSTRAINT fk_recruiter_user FOREIGN KEY (id) REFERENCES users (id),
+    CONSTRAINT fk_recruiter_company FOREIGN KEY (company_id) REFERENCES company (id)
+);
+
+CREATE TABLE job_categories (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    is_active   BOOLEAN,
+    CONSTRAINT pk_job_categories PRIMARY KEY (id),
+    CONSTRAINT uk_job_categories_name UNIQUE (name)
+);
+
+CREATE TABLE jobs (
+    id                    BIGINT       NOT NULL,
+    title                 VARCHAR(255) NOT NULL,
+    job_type              VARCHAR(255) NOT NULL,
+    job_category_id       INTEGER      NOT NULL,
+    salary_type           VARCHAR(255) NOT NULL,
+    min_salary            NUMERIC(38, 2),
+    max_salary            NUMERIC(38, 2),
+    currency              VARCHAR(255),
+    salary_period         VARCHAR(255),
+    annual_salary_min_usd NUMERIC(19, 2),
+    annual_salary_max_usd NUMERIC(19, 2),
+    number_of_openings    INTEGER      NOT NULL,
+    application_deadline  DATE         NOT NULL,
+    status                VARCHAR(255),
+    description           TEXT,
+    location              VARCHAR(255),
+    latitude              FLOAT(53),
+    longitude             FLOAT(53),
+    company_id            BIGINT,
+    recruiter_id          BIGINT,
+    created_at            TIMESTAMP(6),
+    updated_at            TIMESTAMP(6),
+    deleted_at            TIMESTAMP(6),
+    created_by            VARCHAR(255),
+    updated_by            VARCHAR(255),
+    CONSTRAINT pk_jobs PRIMARY KEY (id),
+    CONSTRAINT fk_jobs_job_category FOREIGN KEY (job_category_id) REFERENCES job_categories (id),
+    CONSTRAINT fk_jobs_company FOREIGN KEY (company_id) REFERENCES company (id),
+    CONSTRAINT fk_jobs_recruiter FOREIGN KEY (recruiter_id) REFERENCES recruiter (id),
+    CONSTRAINT ck_jobs_job_type CHECK (job_type IN ('FULL_TIME', 'PART_TIME', 'INTERNSHIP', 'CONTRACT', 'REMOTE')),
+    CONSTRAINT ck_jobs_salary_type CHECK (salary_type IN ('FIXED', 'RANGE', 'NEGOTIABLE', 'COMPETITIVE')),
+    CONSTRAINT ck_jobs_currency CHECK (currency IN ('USD', 'VND', 'EUR', 'GBP', 'JPY', 'AUD', 'CAD')),
+    CONSTRAINT ck_jobs_salary_period CHECK (salary_period IN ('ANNUAL', 'MONTHLY', 'WEEKLY', 'HOURLY')),
+    CONSTRAINT ck_jobs_status CHECK (status IN ('OPEN', 'CLOSED', 'EXPIRED'))
+);
+
+CREATE TABLE job_skills (
+    job_id BIGINT NOT NULL,
+    skill  VARCHAR(255),
+    CONSTRAINT fk_job_skills_job FOREIGN KEY (job_id) REFERENCES jobs (id)
+);
+
+CREATE TABLE cv (
+    id           BIGINT NOT NULL,
+    candidate_id BIGINT,
+    file_name    VARCHAR(255),
+    file_path    VARCHAR(255),
+    file_size    VARCHAR(255),
+    file_type    VARCHAR(255),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255),
+    CONSTRAINT pk_cv PRIMARY KEY (id),
+    CONSTRAINT fk_cv_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id)
+);
+
+CREATE TABLE analysis (
+    id             BIGINT    NOT NULL,
+    score          FLOAT(53) NOT NULL,
+    match_skills   VARCHAR(255),
+    missing_skills VARCHAR(255),
+    created_at     TIMESTAMP(6),
+    CONSTRAINT pk_analysis PRIMARY KEY (id)
+);
+
+CREATE TABLE application (
+    id           BIGINT NOT NULL,
+    job_id       BIGINT,
+    cv_id        BIGINT,
+    candidate_id BIGINT,
+    analysis_id  BIGINT,
+    status       VARCHAR(255),
+    cover_letter TEXT,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    created_by   VARCHAR(255),
+    updated_by   VARCHAR(255),
+    CONSTRAINT pk_application PRIMARY KEY (id),
+    CONSTRAINT uk_application_analysis UNIQUE (analysis_id),
+    CONSTRAINT fk_application_job FOREIGN KEY (job_id) REFERENCES jobs (id),
+    CONSTRAINT fk_application_cv FOREIGN KEY (cv_id) REFERENCES cv (id),
+    CONSTRAINT fk_application_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id),
+    CONSTRAINT fk_application_analysis FOREIGN KEY (analysis_id) REFERENCES analysis (id),
+    CONSTRAINT ck_application_status CHECK (status IN ('APPLIED', 'IN_REVIEW', 'INTERVIEW', 'OFFERED', 'REJECTED', 'WITHDRAWN'))
+);
@@ -0,0 +1,52 @@
+-- Indexes for the repository queries. Every entity except the reference tables is
+-- soft-deleted and mapped with @SQLRestriction("deleted_at IS NULL"), so those
+-- indexes are partial on the same predicate: deleted rows never bloat them and the
+-- planner matches them against the restriction Hibernate appends to each query.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- users: login and registration look up live users by email. The table-wide unique
+-- constraint would stop a deleted account's address from ever registering again.
+CREATE UNIQUE INDEX uk_users_email_live ON users (email) WHERE deleted_at IS NULL;
+CREATE INDEX idx_users_role ON users (role_id);
+
+CREATE UNIQUE INDEX uk_roles_name ON roles (name);
+
+CREATE INDEX idx_recruiter_company ON recruiter (company_id);
+
+-- jobs: the open-job scans (facets, suggestions, search by status and deadline).
+-- deleted_at is the index predicate rather than a leading key column.
+CREATE INDEX idx_jobs_status_deadline_live ON jobs (status, application_deadline) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_created_at_live ON jobs (created_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_company_live ON jobs (company_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_recruiter_live ON jobs (recruiter_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_job_category_live ON jobs (job_category_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_job_type_live ON jobs (job_type) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_location_live ON jobs (location) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_upper_title_live ON jobs (upper(title)) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_currency_period_live ON jobs (currency, salary_period) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_annual_salary_min_usd_live ON jobs (annual_salary_min_usd) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_annual_salary_max_usd_live ON jobs (annual_salary_max_usd) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_latitude_longitude_live ON jobs (latitude, longitude) WHERE deleted_at IS NULL;
+-- Backfill cursor over rows that still need geocoding; empty once the backfill is done.
+CREATE INDEX idx_jobs_ungeocoded ON jobs (id) WHERE latitude IS NULL AND location IS NOT NULL AND deleted_at IS NULL;
+-- Substring search on LOWER(col) LIKE '%keyword%'.
+CREATE INDEX idx_jobs_title_trgm_live ON jobs USING gin (lower(title) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_jobs_location_trgm_live ON jobs USING gin (lower(location) gin_trgm_ops) WHERE deleted_at IS NULL;
+
+CREATE INDEX idx_job_skills_job ON job_skills (job_id);
+
+CREATE INDEX idx_company_name_trgm_live ON company USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_company_latitude_longitude_live ON company (latitude, longitude) WHERE deleted_at IS NULL;
+CREATE INDEX idx_company_ungeocoded ON company (id) WHERE latitude IS NULL AND address IS NOT NULL AND deleted_at IS NULL;
+
+-- application: one live application per candidate and job; the same index serves
+-- the candidate's application list. Recruiters page a job's applications by status.
+CREATE UNIQUE INDEX uk_application_candidate_job_live ON application (candidate_id, job_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_application_job_status_live ON application (job_id, status) WHERE deleted_at IS NULL;
+CREATE INDEX idx_application_cv ON application (cv_id);
+
+-- cv: the include-deleted lookups go through the full candidate index; the live
+-- list and the duplicate file-name check use the partial one.
+CREATE INDEX idx_cv_candidate ON cv (candidate_id);
+CREATE INDEX idx_cv_candidate_file_name_live ON cv (candidate_id, file_name) WHERE deleted_at IS NULL;
@@ -0,0 +1,31 @@
+-- Deleted subsets get their own partial indexes: the candidate's "deleted CVs" list and
+-- the archiver's oldest-first batches only ever touch rows with deleted_at set.
+CREATE INDEX idx_cv_candidate_deleted ON cv (candidate_id, deleted_at DESC) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_cv_deleted_at ON cv (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_jobs_deleted_at ON jobs (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_application_deleted_at ON application (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Archiving a job or CV checks for applications that still point at it, live or not;
+-- the same index backs the foreign key when the job row is removed.
+CREATE INDEX idx_application_job ON application (job_id);
+
+-- Long-deleted rows are moved here in batches by SoftDeleteArchiver. Each archive
+-- table has the live table's columns in the same order followed by archived_at, so a
+-- column added to a live table must be added to its archive table as well.
+CREATE TABLE application_archive (LIKE application INCLUDING DEFAULTS);
+ALTER TABLE application_archive
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    ADD CONSTRAINT pk_application_archive PRIMARY KEY (id);
+
+CREATE TABLE cv_archive (LIKE cv INCLUDING DEFAULTS);
+ALTER TABLE cv_archive
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    ADD CONSTRAINT pk_cv_archive PRIMARY KEY (id);
+
+CREATE TABLE jobs_archive (LIKE jobs INCLUDING DEFAULTS);
+ALTER TABLE jobs_archive
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    ADD CONSTRAINT pk_jobs_archive PRIMARY KEY (id);
+
+CREATE TABLE job_skills_archive (LIKE job_skills INCLUDING DEFAULTS);
+CREATE INDEX idx_job_skills_archive_job ON job_skills_archive (job_id);
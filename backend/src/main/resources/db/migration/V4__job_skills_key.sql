@@ -0,0 +1,12 @@
+-- Job.skills is a set now: Hibernate deletes a removed skill by (job_id, skill), so that
+-- pair becomes the key. Duplicates and empty rows left by the old list mapping go first.
+DELETE FROM job_skills WHERE skill IS NULL;
+DELETE FROM job_skills a USING job_skills b
+WHERE a.job_id = b.job_id AND a.skill = b.skill AND a.ctid > b.ctid;
+
+ALTER TABLE job_skills
+    ALTER COLUMN skill SET NOT NULL,
+    ADD CONSTRAINT pk_job_skills PRIMARY KEY (job_id, skill);
+
+-- The primary key leads with job_id
+DROP INDEX idx_job_skills_job;
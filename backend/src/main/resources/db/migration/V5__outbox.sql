@@ -0,0 +1,33 @@
+-- Domain events are written here in the transaction that made the change and relayed
+-- by OutboxRelay. The id is an identity column taken at insert, after the aggregate's
+-- counter row is locked, so an aggregate's events are in id order as well as sequence order.
+CREATE TABLE outbox_event (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type  VARCHAR(32)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    sequence_number BIGINT       NOT NULL,
+    event_type      VARCHAR(32)  NOT NULL,
+    payload         TEXT         NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    published_at    TIMESTAMP(6),
+    CONSTRAINT uk_outbox_event_aggregate_sequence UNIQUE (aggregate_type, aggregate_id, sequence_number)
+);
+
+-- The relay only reads the unpublished tail, oldest first
+CREATE INDEX idx_outbox_event_unpublished ON outbox_event (id) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_event_published_at ON outbox_event (published_at) WHERE published_at IS NOT NULL;
+
+-- Last sequence handed out per aggregate. Writers lock the row to take the next number.
+CREATE TABLE outbox_aggregate (
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    last_sequence  BIGINT      NOT NULL,
+    CONSTRAINT pk_outbox_aggregate PRIMARY KEY (aggregate_type, aggregate_id)
+);
+
+-- Existing aggregates get their row up front, so only a brand-new aggregate inserts one,
+-- and that happens in the transaction creating it.
+INSERT INTO outbox_aggregate (aggregate_type, aggregate_id, last_sequence)
+SELECT 'JOB', id, 0 FROM jobs;
+INSERT INTO outbox_aggregate (aggregate_type, aggregate_id, last_sequence)
+SELECT 'APPLICATION', id, 0 FROM application;
@@ -0,0 +1,37 @@
+-- Per-job application counts and score totals for the recruiter dashboard, kept current
+-- by JobStatsServiceImpl from relayed application events. last_event_id is the outbox id
+-- of the last event applied to the row; the relay hands events out in id order, so
+-- anything at or below it is already counted.
+CREATE TABLE job_stats (
+    job_id          BIGINT           NOT NULL,
+    applied_count   BIGINT           NOT NULL DEFAULT 0,
+    in_review_count BIGINT           NOT NULL DEFAULT 0,
+    interview_count BIGINT           NOT NULL DEFAULT 0,
+    offered_count   BIGINT           NOT NULL DEFAULT 0,
+    rejected_count  BIGINT           NOT NULL DEFAULT 0,
+    withdrawn_count BIGINT           NOT NULL DEFAULT 0,
+    -- Over applications with a score that are not withdrawn
+    score_sum       DOUBLE PRECISION NOT NULL DEFAULT 0,
+    scored_count    BIGINT           NOT NULL DEFAULT 0,
+    last_event_id   BIGINT           NOT NULL DEFAULT 0,
+    CONSTRAINT pk_job_stats PRIMARY KEY (job_id)
+);
+
+-- Counts what exists now. Events already in the outbox describe changes these rows
+-- include, so they are marked applied.
+INSERT INTO job_stats (job_id, applied_count, in_review_count, interview_count, offered_count,
+                       rejected_count, withdrawn_count, score_sum, scored_count, last_event_id)
+SELECT a.job_id,
+       COUNT(*) FILTER (WHERE a.status = 'APPLIED'),
+       COUNT(*) FILTER (WHERE a.status = 'IN_REVIEW'),
+       COUNT(*) FILTER (WHERE a.status = 'INTERVIEW'),
+       COUNT(*) FILTER (WHERE a.status = 'OFFERED'),
+       COUNT(*) FILTER (WHERE a.status = 'REJECTED'),
+       COUNT(*) FILTER (WHERE a.status = 'WITHDRAWN'),
+       COALESCE(SUM(an.score) FILTER (WHERE a.status <> 'WITHDRAWN'), 0),
+       COUNT(an.score) FILTER (WHERE a.status <> 'WITHDRAWN'),
+       (SELECT COALESCE(MAX(id), 0) FROM outbox_event)
+FROM application a
+LEFT JOIN analysis an ON an.id = a.analysis_id
+WHERE a.deleted_at IS NULL AND a.job_id IS NOT NULL
+GROUP BY a.job_id;
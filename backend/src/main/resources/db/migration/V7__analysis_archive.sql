@@ -0,0 +1,6 @@
+-- An application's analysis is archived along with it, so the archived application
+-- keeps its score and the live analysis table does not keep orphans.
+CREATE TABLE analysis_archive (LIKE analysis INCLUDING DEFAULTS);
+ALTER TABLE analysis_archive
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    ADD CONSTRAINT pk_analysis_archive PRIMARY KEY (id);
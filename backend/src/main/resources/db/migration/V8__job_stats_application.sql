@@ -0,0 +1,21 @@
+-- The last event job_stats applied for each application. Outbox ids only order one
+-- application's events, so a job-wide last_event_id skipped an application's event that
+-- committed after a higher id of another application on the same job. An application's
+-- sequence numbers are gapless and relayed in order, so JobStatsServiceImpl skips an
+-- event at or below the application's mark instead.
+CREATE TABLE job_stats_application (
+    application_id  BIGINT NOT NULL,
+    sequence_number BIGINT NOT NULL,
+    CONSTRAINT pk_job_stats_application PRIMARY KEY (application_id)
+);
+
+-- Events already relayed, or covered by the V6 backfill, count as applied
+INSERT INTO job_stats_application (application_id, sequence_number)
+SELECT e.aggregate_id, MAX(e.sequence_number)
+FROM outbox_event e
+LEFT JOIN job_stats s ON s.job_id = (e.payload::jsonb ->> 'jobId')::BIGINT
+WHERE e.aggregate_type = 'APPLICATION'
+  AND (e.published_at IS NOT NULL OR e.id <= s.last_event_id)
+GROUP BY e.aggregate_id;
+
+ALTER TABLE job_stats DROP COLUMN last_event_id;
@@ -0,0 +1,9 @@
+-- Images no longer referenced, waiting for ImageStorageServiceImpl to delete them. A row is
+-- written in the transaction that replaced the image, so it survives a restart and is
+-- only kept if that transaction commits.
+CREATE TABLE pending_image_delete (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    url        TEXT         NOT NULL,
+    attempts   INT          NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,158 @@
+package com.aprilboiz.jobmatch.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a burst of blocking "uploads" at the image upload executor in both modes and
+ * compares how many actually run at once.
+ */
+class ImageUploadExecutorLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(ImageUploadExecutorLoadTest.class);
+    private static final int BURST = 40;
+    private static final int OVERLOAD = 60;
+    private static final long UPLOAD_MILLIS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearContexts() {
+        LocaleContextHolder.resetLocaleContext();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void platformPoolCapsConcurrencyAndRejectsBurst() throws Exception {
+        LoadResult result = runBurst(executor(false), OVERLOAD);
+        report("platform", result);
+
+        ImageUploadProperties defaults = new ImageUploadProperties();
+        int capacity = defaults.getMaxPoolSize() + defaults.getQueueCapacity();
+        assertThat(result.peakConcurrency()).isLessThanOrEqualTo(defaults.getMaxPoolSize());
+        assertThat(result.rejected()).isEqualTo(OVERLOAD - capacity);
+        assertThat(meterRegistry.get("jobmatch.executor.rejected").tag("name", "imageUpload").counter().count())
+                .isEqualTo(OVERLOAD - capacity);
+        assertThat(meterRegistry.get("jobmatch.executor.task.wait").timer().count()).isEqualTo(capacity);
+    }
+
+    @Test
+    void sixteenUploadBurstFitsDefaultPlatformPool() throws Exception {
+        LoadResult result = runBurst(executor(false), 16);
+        report("platform-16", result);
+
+        assertThat(result.rejected()).isZero();
+    }
+
+    @Test
+    void virtualThreadsRunWholeBurstConcurrently() throws Exception {
+        LoadResult result = runBurst(executor(true));
+        report("virtual", result);
+
+        assertThat(result.rejected()).isZero();
+        assertThat(result.peakConcurrency()).isEqualTo(BURST);
+        assertThat(result.elapsedMillis()).isLessThan(UPLOAD_MILLIS * 5);
+    }
+
+    @Test
+    void virtualThreadsRejectBeyondConcurrencyLimit() throws Exception {
+        LoadResult result = runBurst(executor(true), OVERLOAD);
+        report("virtual-overload", result);
+
+        int limit = new ImageUploadProperties().getVirtualConcurrencyLimit();
+        assertThat(result.rejected()).isEqualTo(OVERLOAD - limit);
+        assertThat(result.peakConcurrency()).isLessThanOrEqualTo(limit);
+    }
+
+    @Test
+    void platformPoolPropagatesLocaleAndSecurityContext() throws Exception {
+        assertContextsPropagated(executor(false));
+    }
+
+    @Test
+    void virtualThreadsPropagateLocaleAndSecurityContext() throws Exception {
+        assertContextsPropagated(executor(true));
+    }
+
+    private Executor executor(boolean virtualThreads) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        return new AsyncConfig().imageUploadExecutor(environment, new ImageUploadProperties(), meterRegistry);
+    }
+
+    private static void assertContextsPropagated(Executor executor) throws Exception {
+        Authentication authentication = new TestingAuthenticationToken("candidate@example.com", null, "ROLE_CANDIDATE");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("vi"));
+
+        AtomicReference<Locale> seenLocale = new AtomicReference<>();
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        CompletableFuture.runAsync(() -> {
+            seenLocale.set(LocaleContextHolder.getLocale());
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        }, executor).get(5, TimeUnit.SECONDS);
+
+        assertThat(seenLocale.get()).isEqualTo(Locale.forLanguageTag("vi"));
+        assertThat(seenAuthentication.get()).isSameAs(authentication);
+    }
+
+    private static LoadResult runBurst(Executor executor) throws Exception {
+        return runBurst(executor, BURST);
+    }
+
+    private static LoadResult runBurst(Executor executor, int burst) throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        int rejected = 0;
+        List<CompletableFuture<Void>> accepted = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < burst; i++) {
+            try {
+                accepted.add(CompletableFuture.runAsync(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(UPLOAD_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }, executor));
+            } catch (TaskRejectedException e) {
+                rejected++;
+            }
+        }
+        CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        return new LoadResult(burst, accepted.size(), rejected, peak.get(), elapsedMillis);
+    }
+
+    private static void report(String mode, LoadResult result) {
+        log.info("[{}] burst={} accepted={} rejected={} peakConcurrency={} elapsed={}ms",
+                mode, result.burst(), result.accepted(), result.rejected(), result.peakConcurrency(), result.elapsedMillis());
+    }
+
+    private record LoadResult(int burst, int accepted, int rejected, int peakConcurrency, long elapsedMillis) {
+    }
+}
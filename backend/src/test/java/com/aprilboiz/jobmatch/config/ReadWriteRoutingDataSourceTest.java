@@ -0,0 +1,203 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Routes transactions between two pools on the same Postgres, told apart by their
+ * application_name: the "replica" is a primary that reports no lag. Point
+ * TEST_POSTGRES_URL (plus TEST_POSTGRES_USER / TEST_POSTGRES_PASSWORD) at any database.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class ReadWriteRoutingDataSourceTest {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void close() {
+        SecurityContextHolder.clearContext();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndWritesToThePrimary() {
+        Routed routed = route(pool("primary", url()), Duration.ofSeconds(5), pool("replica-1", url()));
+
+        assertThat(routed.read()).isEqualTo("replica-1");
+        assertThat(routed.readOnly(ReadWriteRoutingDataSourceTest::transactionReadOnly)).isEqualTo("on");
+        assertThat(routed.write()).isEqualTo("primary");
+        assertThat(routed.noTransaction()).isEqualTo("primary");
+        assertThat(reads("replica")).isEqualTo(2);
+    }
+
+    @Test
+    void aUsersReadsStayOnThePrimaryRightAfterTheirWrite() throws Exception {
+        Routed routed = route(pool("primary", url()), Duration.ofMillis(500), pool("replica-1", url()));
+
+        signIn("alice");
+        assertThat(routed.write()).isEqualTo("primary");
+        assertThat(routed.read()).isEqualTo("primary");
+        assertThat(routed.readOnly(ReadWriteRoutingDataSourceTest::transactionReadOnly))
+                .as("pinned reads still cannot write").isEqualTo("on");
+        signIn("bob");
+        assertThat(routed.read()).isEqualTo("replica-1");
+
+        Thread.sleep(600);
+        signIn("alice");
+        assertThat(routed.read()).isEqualTo("replica-1");
+        assertThat(reads("primary-read-your-writes")).isEqualTo(2);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        Routed routed = route(pool("primary", url()), Duration.ofSeconds(5),
+                pool("replica-1", "jdbc:postgresql://localhost:1/nowhere"));
+
+        assertThat(routed.read()).isEqualTo("primary");
+        assertThat(reads("primary-no-replica")).isEqualTo(1);
+    }
+
+    @Test
+    void explicitCredentialsAreRoutedToo() throws Exception {
+        DriverManagerDataSource primary = new DriverManagerDataSource(url(), user(), password());
+        primary.setConnectionProperties(applicationName("primary"));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, List.of(pool("replica-1", url())),
+                tracker(Duration.ofSeconds(5)), 2000, meterRegistry);
+
+        try (Connection connection = routing.getConnection(user(), password())) {
+            assertThat(applicationNameOf(connection)).isEqualTo("primary");
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        readOnly.setReadOnly(true);
+        // Hikari only hands out connections with its configured credentials
+        readOnly.executeWithoutResult(status -> assertThatThrownBy(() -> routing.getConnection(user(), password()))
+                .isInstanceOf(SQLFeatureNotSupportedException.class));
+        try (Connection connection = routing.getConnection()) {
+            assertThat(connection.isReadOnly()).isFalse();
+        }
+    }
+
+    private Routed route(HikariDataSource primary, Duration window, HikariDataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, List.of(replica),
+                tracker(window), 2000, meterRegistry);
+        return new Routed(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static ReadYourWritesTracker tracker(Duration window) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        return new ReadYourWritesTracker(window, beans.getBeanProvider(RedisMessageListenerContainer.class),
+                beans.getBeanProvider(StringRedisTemplate.class), new NodeIdentity());
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(user());
+        pool.setPassword(password());
+        pool.setDataSourceProperties(applicationName(name));
+        pool.setConnectionTimeout(1000);
+        pool.setInitializationFailTimeout(-1);
+        pools.add(pool);
+        return pool;
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("jobmatch.datasource.reads").tag("target", target).counter().count();
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+    }
+
+    private static Properties applicationName(String name) {
+        Properties properties = new Properties();
+        properties.setProperty("ApplicationName", name);
+        return properties;
+    }
+
+    private static String applicationNameOf(Connection connection) throws SQLException {
+        return setting(connection, "application_name");
+    }
+
+    private static String transactionReadOnly(Connection connection) throws SQLException {
+        return setting(connection, "transaction_read_only");
+    }
+
+    private static String setting(Connection connection, String name) throws SQLException {
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT current_setting('" + name + "')")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static String url() {
+        return System.getenv("TEST_POSTGRES_URL");
+    }
+
+    private static String user() {
+        return env("TEST_POSTGRES_USER", "postgres");
+    }
+
+    private static String password() {
+        return env("TEST_POSTGRES_PASSWORD", "postgres");
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    /**
+     * Runs statements through the routed data source the way the application does,
+     * inside transactions taken from a manager over the lazy proxy.
+     */
+    private record Routed(DataSource dataSource) {
+        String read() {
+            return readOnly(ReadWriteRoutingDataSourceTest::applicationNameOf);
+        }
+
+        <T> T readOnly(ConnectionCallback<T> callback) {
+            TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            template.setReadOnly(true);
+            return template.execute(status -> new JdbcTemplate(dataSource).execute(callback));
+        }
+
+        String write() {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource)).execute(status ->
+                    new JdbcTemplate(dataSource).execute(ReadWriteRoutingDataSourceTest::applicationNameOf));
+        }
+
+        String noTransaction() {
+            return new JdbcTemplate(dataSource).execute(ReadWriteRoutingDataSourceTest::applicationNameOf);
+        }
+    }
+}
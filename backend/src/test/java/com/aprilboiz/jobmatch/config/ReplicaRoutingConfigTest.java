@@ -0,0 +1,70 @@
+package com.aprilboiz.jobmatch.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the replica configuration on its own, switched off and switched on without
+ * replica urls, where every read has to fall back to the primary.
+ */
+class ReplicaRoutingConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(Infrastructure.class, ReplicaRoutingConfig.class)
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:replica-routing-config;DB_CLOSE_DELAY=-1");
+
+    @Test
+    void offByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(ReadWriteRoutingDataSource.class);
+            assertThat(context).doesNotHaveBean(HibernatePropertiesCustomizer.class);
+            assertThat(context).doesNotHaveBean(DataSource.class);
+        });
+    }
+
+    @Test
+    void enabledWithoutReplicasReadsFromThePrimary() {
+        contextRunner.withPropertyValues("datasource.replicas.enabled=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            DataSource dataSource = context.getBean(DataSource.class);
+            assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+            assertThat(context).hasSingleBean(HibernatePropertiesCustomizer.class);
+
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class));
+
+            assertThat(context.getBean(MeterRegistry.class).get("jobmatch.datasource.reads")
+                    .tag("target", "primary-no-replica").counter().count()).isEqualTo(1);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class})
+    static class Infrastructure {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        NodeIdentity nodeIdentity() {
+            return new NodeIdentity();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import com.aprilboiz.jobmatch.service.impl.TokenBlacklistServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Calls a service through the aspect, as the Spring proxy would, with Redis mocked, and
+ * reads back the timer, the statement count and the blacklist check counters.
+ */
+class ServiceMetricsAspectTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private TokenBlacklistService service;
+
+    @BeforeEach
+    void proxy() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new TokenBlacklistServiceImpl(redisTemplate, mock(MessageService.class), meterRegistry));
+        // Class proxies, as in the application, so the signature is the implementation's
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(observationRegistry, meterRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void eachCallIsTimedByClassAndMethod() {
+        when(redisTemplate.hasKey("blacklisted_token:revoked")).thenReturn(true);
+        when(redisTemplate.hasKey("blacklisted_token:valid")).thenReturn(false);
+
+        assertThat(service.isTokenBlacklisted("revoked")).isTrue();
+        assertThat(service.isTokenBlacklisted("valid")).isFalse();
+        assertThat(service.isTokenBlacklisted("valid")).isFalse();
+
+        assertThat(serviceTimer("isTokenBlacklisted", "none").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("jobmatch.service.statements")
+                .tag("class", "TokenBlacklistServiceImpl").tag("method", "isTokenBlacklisted")
+                .summary().count()).isEqualTo(3);
+        assertThat(checks("blacklisted")).isEqualTo(1);
+        assertThat(checks("allowed")).isEqualTo(2);
+        assertThat(checks("error")).isZero();
+    }
+
+    @Test
+    void aFailedCallIsTaggedWithItsError() {
+        when(redisTemplate.hasKey("blacklisted_token:any")).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Fails closed, so the call itself succeeds
+        assertThat(service.isTokenBlacklisted("any")).isTrue();
+        assertThatThrownBy(() -> service.blacklistToken("any", Duration.ofMinutes(1)))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(serviceTimer("isTokenBlacklisted", "none").count()).isEqualTo(1);
+        assertThat(checks("error")).isEqualTo(1);
+        assertThat(serviceTimer("blacklistToken", "RuntimeException").count()).isEqualTo(1);
+    }
+
+    private Timer serviceTimer(String method, String error) {
+        return meterRegistry.get("jobmatch.service")
+                .tag("class", "TokenBlacklistServiceImpl")
+                .tag("method", method)
+                .tag("error", error)
+                .timer();
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("jobmatch.token.blacklist.checks").tag("result", result).counter().count();
+    }
+}
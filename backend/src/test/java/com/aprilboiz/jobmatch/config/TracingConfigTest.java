@@ -0,0 +1,143 @@
+package com.aprilboiz.jobmatch.config;
+
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import com.aprilboiz.jobmatch.service.impl.TokenBlacklistServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Follows a request's trace onto the upload executor and into a service call, with the
+ * OpenTelemetry bridge writing spans through {@link FileSpanExporter}, then takes the
+ * trace apart from the file the way the class comment suggests.
+ */
+class TracingConfigTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private ObservationRegistry previousRegistry;
+    private SdkTracerProvider tracerProvider;
+    private ThreadPoolTaskExecutor uploadExecutor;
+    private TokenBlacklistService service;
+    private Path spans;
+
+    @BeforeEach
+    void startTracing(@TempDir Path directory) throws Exception {
+        spans = directory.resolve("traces/spans.jsonl");
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(spans)))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+        previousRegistry = ObservationThreadLocalAccessor.getInstance().getObservationRegistry();
+        ObservationThreadLocalAccessor.getInstance().setObservationRegistry(observationRegistry);
+
+        uploadExecutor = AsyncConfig.platformUploadExecutor(new ImageUploadProperties());
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new TokenBlacklistServiceImpl(redisTemplate, mock(MessageService.class), new SimpleMeterRegistry()));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(observationRegistry, new SimpleMeterRegistry()));
+        service = factory.getProxy();
+    }
+
+    @AfterEach
+    void stopTracing() {
+        uploadExecutor.shutdown();
+        tracerProvider.close();
+        ObservationThreadLocalAccessor.getInstance().setObservationRegistry(previousRegistry);
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void aServiceCallOnTheUploadExecutorStaysInTheRequestsTrace() throws Exception {
+        when(redisTemplate.hasKey("blacklisted_token:valid")).thenReturn(false);
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("vi"));
+
+        Locale taskLocale = inRequest(() -> {
+            Future<Locale> task = uploadExecutor.submit(() -> {
+                service.isTokenBlacklisted("valid");
+                return LocaleContextHolder.getLocale();
+            });
+            return task.get();
+        });
+
+        // The tracer lower-hyphenates span names
+        Map<String, JsonNode> byName = exportedSpans();
+        JsonNode request = byName.get("http post /images");
+        JsonNode serviceCall = byName.get("token-blacklist-service-impl.is-token-blacklisted");
+        assertThat(serviceCall.get("traceId")).isEqualTo(request.get("traceId"));
+        assertThat(serviceCall.get("parentSpanId")).isEqualTo(request.get("spanId"));
+        assertThat(request.get("parentSpanId").isNull()).isTrue();
+        assertThat(serviceCall.get("status").asText()).isEqualTo("OK");
+        assertThat(serviceCall.at("/attributes/class").asText()).isEqualTo("TokenBlacklistServiceImpl");
+        assertThat(taskLocale).isEqualTo(Locale.forLanguageTag("vi"));
+    }
+
+    @Test
+    void aFailedServiceCallIsAnErrorSpanInTheTrace() throws Exception {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        inRequest(() -> {
+            assertThatThrownBy(() -> service.blacklistToken("any", Duration.ofMinutes(1)))
+                    .isInstanceOf(RuntimeException.class);
+            return null;
+        });
+
+        Map<String, JsonNode> byName = exportedSpans();
+        JsonNode serviceCall = byName.get("token-blacklist-service-impl.blacklist-token");
+        assertThat(serviceCall.get("status").asText()).isEqualTo("ERROR");
+        assertThat(serviceCall.get("parentSpanId")).isEqualTo(byName.get("http post /images").get("spanId"));
+    }
+
+    private <T> T inRequest(Observation.CheckedCallable<T, Exception> work) throws Exception {
+        return Observation.createNotStarted("http.server.requests", observationRegistry)
+                .contextualName("http post /images")
+                .observeChecked(work);
+    }
+
+    private Map<String, JsonNode> exportedSpans() throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(spans)) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines.stream().collect(Collectors.toMap(span -> span.get("name").asText(), Function.identity()));
+    }
+}
@@ -0,0 +1,212 @@
+package com.aprilboiz.jobmatch.controller;
+
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.service.JwtService;
+import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Downloads a job's applications over HTTP in both formats, with more rows than one
+ * fetch and one flush, and checks every row arrives once, in order, with CSV quoting
+ * and formula escaping applied.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "redis.pubsub.enabled=false",
+        "outbox.redis-stream.enabled=false",
+        "logging.level.com.aprilboiz.jobmatch=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class ApplicationExportTest {
+    private static final int APPLICATIONS = 1_200;
+
+    // No Redis here; the blacklist would otherwise reject every token
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void exportsEveryApplicationAsCsvAndNdjson() throws Exception {
+        String run = UUID.randomUUID().toString();
+        Job job = transactionTemplate.execute(status -> jobWithApplications(run));
+
+        HttpResponse<String> csv = export(job, job.getRecruiter(), "CSV");
+        assertThat(csv.statusCode()).as(csv.body()).isEqualTo(200);
+        assertThat(csv.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/csv"));
+        assertThat(csv.headers().firstValue("Content-Disposition"))
+                .hasValue("attachment; filename=\"job-" + job.getId() + "-applications.csv\"");
+        assertThat(csv.body()).startsWith("\uFEFFapplication_id,status,applied_at,candidate_name,");
+        // Every row ends in CRLF; the cover letter's line break is a bare LF inside quotes
+        assertThat(csv.body().split("\r\n")).hasSize(1 + APPLICATIONS);
+        assertThat(csv.body()).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",")
+                .contains(",\"Nguyễn, Văn \"\"An\"\"\",")
+                .contains(",\"Dear team,\nI am interested.\"\r\n");
+
+        HttpResponse<String> ndjson = export(job, job.getRecruiter(), "NDJSON");
+        assertThat(ndjson.statusCode()).isEqualTo(200);
+        List<Long> ids = new ArrayList<>();
+        for (String line : ndjson.body().split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            ids.add(row.get("applicationId").asLong());
+            assertThat(row.get("status").asText()).isEqualTo("APPLIED");
+        }
+        assertThat(ids).hasSize(APPLICATIONS).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void anotherCompanysRecruiterCannotExport() throws Exception {
+        String run = UUID.randomUUID().toString();
+        Job job = transactionTemplate.execute(status -> {
+            Recruiter owner = recruiter("owner-" + run);
+            return job(owner, run);
+        });
+        Recruiter stranger = transactionTemplate.execute(status -> recruiter("stranger-" + run));
+
+        HttpResponse<String> response = export(job, stranger, "CSV");
+
+        assertThat(response.statusCode()).isEqualTo(403);
+        assertThat(response.body()).contains("\"success\":false");
+    }
+
+    private HttpResponse<String> export(Job job, Recruiter recruiter, String format) throws Exception {
+        return http.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/jobs/" + job.getId() + "/applications/export?format=" + format))
+                .header("Authorization", "Bearer " + jwtService.generateAccessToken(new UserPrincipalAdapter(recruiter)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Job jobWithApplications(String run) {
+        Job job = job(recruiter("recruiter-" + run), run);
+        Role candidateRole = role(RoleName.CANDIDATE);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            String fullName = switch (i) {
+                case 0 -> "=HYPERLINK(\"http://evil\")";
+                case 1 -> "Nguyễn, Văn \"An\"";
+                default -> "Candidate " + i;
+            };
+            Candidate candidate = Candidate.builder()
+                    .email("export-candidate-" + i + "-" + run + "@example.com")
+                    .password("x")
+                    .fullName(fullName)
+                    .role(candidateRole)
+                    .isActive(true)
+                    .build();
+            entityManager.persist(candidate);
+            CV cv = new CV();
+            cv.setFileName("cv-" + i + ".pdf");
+            cv.setCandidate(candidate);
+            entityManager.persist(cv);
+            Analysis analysis = Analysis.builder().score(50.0 + i % 50).matchSkills("Java").missingSkills("SQL").build();
+            entityManager.persist(analysis);
+            entityManager.persist(Application.builder()
+                    .job(job)
+                    .cv(cv)
+                    .candidate(candidate)
+                    .analysis(analysis)
+                    .coverLetter(i == 2 ? "Dear team,\nI am interested." : null)
+                    .build());
+            if (i % 200 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                job = entityManager.find(Job.class, job.getId());
+                candidateRole = entityManager.find(Role.class, candidateRole.getId());
+            }
+        }
+        return job;
+    }
+
+    private Recruiter recruiter(String name) {
+        Company company = Company.builder().name("Export Co " + name).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email(name + "@example.com")
+                .password("x")
+                .fullName("Recruiter " + name)
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .isActive(true)
+                .build();
+        entityManager.persist(recruiter);
+        return recruiter;
+    }
+
+    private Job job(Recruiter recruiter, String run) {
+        JobCategory category = JobCategory.builder().name("Export category " + run).description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title("Exported Engineer")
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(5)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(recruiter.getCompany())
+                .skills(new LinkedHashSet<>(List.of("Java")))
+                .build();
+        entityManager.persist(job);
+        return job;
+    }
+
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+}
@@ -0,0 +1,102 @@
+package com.aprilboiz.jobmatch.controller;
+
+import com.aprilboiz.jobmatch.dto.VersionedData;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.service.ApplicationExportService;
+import com.aprilboiz.jobmatch.service.JobCategoryService;
+import com.aprilboiz.jobmatch.service.JobFacetService;
+import com.aprilboiz.jobmatch.service.JobService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.ReferenceDataService;
+import com.aprilboiz.jobmatch.service.SuggestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Revalidates the reference-data endpoints the way a browser does: a matching
+ * If-None-Match gets an empty 304, while changed data or another language gets a
+ * new ETag, and the same data gets the same ETag whichever node answers.
+ */
+class JobControllerReferenceDataTest {
+    private final ReferenceDataService referenceDataService = mock(ReferenceDataService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MessageService messageService = mock(MessageService.class);
+        when(messageService.getMessage("operation.completed")).thenReturn("Done");
+        JobController controller = new JobController(mock(JobService.class), mock(JobCategoryService.class),
+                referenceDataService, mock(JobFacetService.class), mock(SuggestionService.class),
+                mock(ApplicationExportService.class), messageService, Duration.ofMinutes(5));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void matchingETagAnswersNotModified() throws Exception {
+        when(referenceDataService.getLocations()).thenReturn(new VersionedData<>(List.of("Hanoi"), "v1"));
+
+        String eTag = mockMvc.perform(get("/api/jobs/filter-options/locations").header(HttpHeaders.ACCEPT_LANGUAGE, "en"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1-en\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, must-revalidate, public"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_LANGUAGE)))
+                .andExpect(jsonPath("$.data[0]").value("Hanoi"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/jobs/filter-options/locations")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "en")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void changedDataOrLanguageGetsAFreshResponse() throws Exception {
+        when(referenceDataService.getCompanyNames()).thenReturn(new VersionedData<>(List.of("Acme"), "v2"));
+
+        mockMvc.perform(get("/api/jobs/filter-options/companies")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "en")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1-en\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v2-en\""));
+
+        String vietnamese = mockMvc.perform(get("/api/jobs/filter-options/companies")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "vi")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v2-en\""))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(vietnamese).isEqualTo("\"v2-vi\"");
+    }
+
+    @Test
+    void enumListsAreVersionedByTheirNames() throws Exception {
+        // What another node, or this one after a restart, derives from the same constants
+        List<String> names = Arrays.stream(JobType.values()).map(Enum::name).toList();
+        String expected = "\"" + VersionedData.of(names).version() + "-en\"";
+
+        mockMvc.perform(get("/api/jobs/job-types").header(HttpHeaders.ACCEPT_LANGUAGE, "en"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expected));
+        // Content that only prints the same still gets its own version
+        assertThat(VersionedData.of(List.of("Acme, Inc")).version())
+                .isNotEqualTo(VersionedData.of(List.of("Acme", "Inc")).version());
+    }
+}
@@ -0,0 +1,221 @@
+package com.aprilboiz.jobmatch.controller;
+
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.model.User;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.service.JwtService;
+import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Opens the candidate's and the recruiter's notification streams over HTTP, moves the
+ * application to IN_REVIEW through the status endpoint, and expects both streams to
+ * receive the change once the outbox relay has picked it up.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "redis.pubsub.enabled=false",
+        "outbox.redis-stream.enabled=false",
+        "outbox.relay.interval=100ms",
+        "logging.level.com.aprilboiz.jobmatch=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class NotificationStreamTest {
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    // No Redis here; the blacklist would otherwise reject every token
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void statusChangeIsPushedToTheCandidateAndTheRecruiter() throws Exception {
+        Application application = transactionTemplate.execute(status -> application());
+        Candidate candidate = application.getCandidate();
+        Recruiter recruiter = application.getJob().getRecruiter();
+
+        BlockingQueue<String> candidateStream = open(candidate);
+        BlockingQueue<String> recruiterStream = open(recruiter);
+        assertThat(nextEvent(candidateStream)).startsWith("event:ready");
+        assertThat(nextEvent(recruiterStream)).startsWith("event:ready");
+
+        HttpResponse<String> update = http.send(HttpRequest.newBuilder(
+                        uri("/api/applications/" + application.getId() + "/status?status=IN_REVIEW"))
+                .header("Authorization", "Bearer " + token(recruiter))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(update.statusCode()).as(update.body()).isEqualTo(200);
+
+        for (BlockingQueue<String> stream : List.of(candidateStream, recruiterStream)) {
+            String event = nextEvent(stream);
+            assertThat(event).startsWith("id:").contains("event:application")
+                    .contains("\"applicationId\":" + application.getId())
+                    .contains("\"type\":\"STATUS_CHANGED\"")
+                    .contains("\"previousStatus\":\"APPLIED\"")
+                    .contains("\"status\":\"IN_REVIEW\"");
+        }
+    }
+
+    @Test
+    void streamRequiresAToken() throws Exception {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri("/api/notifications/stream")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    /**
+     * Collects the stream's events, each as its lines joined by newlines, skipping comments.
+     */
+    private BlockingQueue<String> open(User user) {
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/notifications/stream"))
+                .header("Authorization", "Bearer " + token(user))
+                .header("Accept", "text/event-stream")
+                .build();
+        CompletableFuture.runAsync(() -> {
+            try {
+                StringBuilder event = new StringBuilder();
+                http.send(request, HttpResponse.BodyHandlers.ofLines()).body().forEach(line -> {
+                    if (line.isEmpty()) {
+                        if (!event.isEmpty()) {
+                            events.add(event.toString());
+                            event.setLength(0);
+                        }
+                    } else if (!line.startsWith(":")) {
+                        event.append(line).append('\n');
+                    }
+                });
+            } catch (Exception e) {
+                events.add("failed: " + e);
+            }
+        });
+        return events;
+    }
+
+    private static String nextEvent(BlockingQueue<String> stream) throws InterruptedException {
+        String event = stream.poll(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(event).as("event within " + WAIT).isNotNull();
+        return event;
+    }
+
+    private String token(User user) {
+        return jwtService.generateAccessToken(new UserPrincipalAdapter(user));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Application application() {
+        // Runs against the configured database, which may keep rows from an earlier run
+        String run = UUID.randomUUID().toString();
+        Company company = Company.builder().name("Stream Co " + run).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email("stream-recruiter-" + run + "@example.com")
+                .password("x")
+                .fullName("Stream Recruiter")
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .isActive(true)
+                .build();
+        entityManager.persist(recruiter);
+        Candidate candidate = Candidate.builder()
+                .email("stream-candidate-" + run + "@example.com")
+                .password("x")
+                .fullName("Stream Candidate")
+                .role(role(RoleName.CANDIDATE))
+                .isActive(true)
+                .build();
+        entityManager.persist(candidate);
+        JobCategory category = JobCategory.builder().name("Stream category " + run).description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title("Streaming Engineer")
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(5)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(company)
+                .skills(new LinkedHashSet<>(List.of("Java")))
+                .build();
+        entityManager.persist(job);
+        CV cv = new CV();
+        cv.setFileName("cv-stream.pdf");
+        cv.setCandidate(candidate);
+        entityManager.persist(cv);
+        Analysis analysis = Analysis.builder().score(0.5).matchSkills("Java").missingSkills("").build();
+        entityManager.persist(analysis);
+        Application application = Application.builder()
+                .job(job)
+                .cv(cv)
+                .candidate(candidate)
+                .analysis(analysis)
+                .build();
+        entityManager.persist(application);
+        return application;
+    }
+
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+}
@@ -0,0 +1,225 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.OutboxProperties;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+import com.aprilboiz.jobmatch.repository.OutboxAggregateRepository;
+import com.aprilboiz.jobmatch.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Writes job events from several threads at once, each change in its own transaction,
+ * and checks that the relay hands them on with gapless per-job sequence numbers in
+ * order, and that a listener failing on one event holds back only that job's events until
+ * it is retried or set aside as a dead letter. Runs without a transaction around the
+ * test, as the relay commits its own.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "outbox.redis-stream.enabled=false",
+        "outbox.batch-size=25",
+        "outbox.max-attempts=2",
+        "outbox.retention=0s"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OutboxWriter.class, OutboxRelay.class, OutboxProperties.class, SimpleMeterRegistry.class,
+        OutboxRelayTest.PoisonedListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class OutboxRelayTest {
+    private static final int WRITERS = 4;
+    private static final int CHANGES_PER_WRITER = 30;
+    private static final long POISON_JOB = 13L;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxAggregateRepository outboxAggregateRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private PoisonedListener poisonedListener;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void clearOutbox() {
+        outboxEventRepository.deleteAll();
+        outboxAggregateRepository.deleteAll();
+        poisonedListener.delivered.clear();
+        poisonedListener.poisoned = true;
+    }
+
+    @Test
+    void concurrentChangesToAJobAreRelayedInSequence() throws Exception {
+        change(JobChangedEvent.created(job(1L, "v0")));
+        change(JobChangedEvent.created(job(2L, "v0")));
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                done.add(writers.submit(() -> IntStream.range(0, CHANGES_PER_WRITER).forEach(i -> {
+                    long jobId = i % 2 == 0 ? 1L : 2L;
+                    change(JobChangedEvent.updated(job(jobId, "v0"), job(jobId, writer + "-" + i)));
+                })));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            writers.shutdown();
+        }
+
+        outboxRelay.relay();
+
+        List<OutboxMessage> relayed = applicationEvents.stream(OutboxMessage.class).toList();
+        int total = 2 + WRITERS * CHANGES_PER_WRITER;
+        assertThat(relayed).hasSize(total);
+        for (long jobId : List.of(1L, 2L)) {
+            List<Long> sequence = relayed.stream()
+                    .filter(message -> message.aggregateType() == OutboxAggregateType.JOB)
+                    .filter(message -> message.aggregateId() == jobId)
+                    .map(OutboxMessage::sequenceNumber)
+                    .toList();
+            assertThat(sequence).as("sequence of job %d", jobId)
+                    .containsExactlyElementsOf(LongStream.rangeClosed(1, total / 2).boxed().toList());
+        }
+        assertThat(relayed.getFirst().eventType()).isEqualTo("CREATED");
+        assertThat(relayed.getFirst().payload()).contains("\"jobId\":1");
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+
+        outboxRelay.relay();
+        assertThat(applicationEvents.stream(OutboxMessage.class)).hasSize(total);
+
+        outboxRelay.deletePublished();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void aRolledBackChangeLeavesNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(JobChangedEvent.created(job(3L, "v0")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    void aFailingListenerHoldsBackItsJobUntilTheDeadLetterIsCleared() {
+        change(JobChangedEvent.created(job(POISON_JOB, "v0")));
+        change(JobChangedEvent.created(job(4L, "v0")));
+        change(JobChangedEvent.updated(job(POISON_JOB, "v0"), job(POISON_JOB, "v1")));
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(poisonedListener.delivered).containsExactly(4L);
+        assertThat(unpublished()).extracting(OutboxEvent::getSequenceNumber, OutboxEvent::getAttempts)
+                .containsExactly(tuple(1L, 1), tuple(2L, 0));
+
+        // The second failure reaches max-attempts and sets the event aside
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(unpublished().getFirst().getFailedAt()).isNotNull();
+        assertThat(meterRegistry.get("jobmatch.outbox.listener.failures").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("jobmatch.outbox.dead.letters").counter().count()).isEqualTo(1);
+
+        // Its job's later event waits behind it rather than being published past it
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(poisonedListener.delivered).containsExactly(4L);
+
+        poisonedListener.poisoned = false;
+        transactionTemplate.executeWithoutResult(status -> {
+            OutboxEvent deadLetter = outboxEventRepository.findById(unpublished().getFirst().getId()).orElseThrow();
+            deadLetter.setFailedAt(null);
+            deadLetter.setAttempts(0);
+        });
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+        assertThat(poisonedListener.delivered).containsExactly(4L, POISON_JOB, POISON_JOB);
+        assertThat(unpublished()).isEmpty();
+    }
+
+    private List<OutboxEvent> unpublished() {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getPublishedAt() == null)
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    private void change(JobChangedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    private static JobSnapshot job(long id, String title) {
+        return new JobSnapshot(id, title, "Hanoi", 1L, "Company", JobType.FULL_TIME, 1, JobStatus.OPEN,
+                List.of("Java"));
+    }
+
+    /**
+     * Fails on {@link #POISON_JOB} while {@code poisoned}, with a broken statement that leaves
+     * the transaction it ran in rollback-only, and records every job it was given.
+     */
+    @Component
+    static class PoisonedListener {
+        final List<Long> delivered = new CopyOnWriteArrayList<>();
+        volatile boolean poisoned = true;
+
+        @PersistenceContext
+        private EntityManager entityManager;
+
+        @EventListener
+        public void onOutboxMessage(OutboxMessage message) {
+            if (poisoned && message.aggregateId() == POISON_JOB) {
+                entityManager.createNativeQuery("SELECT no_such_column FROM outbox_event").getResultList();
+            }
+            delivered.add(message.aggregateId());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.aprilboiz.jobmatch.event;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import com.aprilboiz.jobmatch.config.ReplicaDataSourceProperties;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Evicts cached jobs the way a change on another node or this one does, then loads the
+ * job again as a read-only transaction on a lagging replica would, to check the stale
+ * copy it caches is evicted once the replicas have caught up. The scheduler is a mock,
+ * so the delayed eviction runs when the test says so.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=jdbc:postgresql://replica-1/jobmatch",
+        "datasource.replicas.max-lag=2s",
+        "datasource.replicas.health-check-interval=5s"
+})
+@Import({SecondLevelCacheBroadcaster.class, NodeIdentity.class, ReplicaDataSourceProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheBroadcasterTest {
+
+    @MockitoBean
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private SecondLevelCacheBroadcaster broadcaster;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long jobId;
+
+    @BeforeEach
+    void createJob() {
+        String run = UUID.randomUUID().toString();
+        jobId = transactionTemplate.execute(status -> {
+            Company company = Company.builder().name("Company " + run).address("Hanoi").industry("Software")
+                    .companySize("50-200").build();
+            entityManager.persist(company);
+            Recruiter recruiter = Recruiter.builder()
+                    .email("recruiter-cache-" + run + "@example.com")
+                    .password("x")
+                    .fullName("Recruiter " + run)
+                    .role(recruiterRole())
+                    .company(company)
+                    .build();
+            entityManager.persist(recruiter);
+            JobCategory category = JobCategory.builder().name("Category " + run).description("Jobs").build();
+            entityManager.persist(category);
+            Job job = Job.builder()
+                    .title("Cached Engineer " + run)
+                    .jobType(JobType.FULL_TIME)
+                    .jobCategory(category)
+                    .numberOfOpenings(1)
+                    .applicationDeadline(LocalDate.now().plusDays(30))
+                    .recruiter(recruiter)
+                    .company(company)
+                    .build();
+            entityManager.persist(job);
+            return job.getId();
+        });
+        clearInvocations(taskScheduler);
+    }
+
+    /**
+     * Other test classes sharing this context may have committed the role already.
+     */
+    private Role recruiterRole() {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", RoleName.RECRUITER)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(RoleName.RECRUITER);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+
+    @Test
+    void aChangeOnAnotherNodeIsEvictedAgainAfterTheReplicaLag() {
+        load();
+        assertThat(cached()).isTrue();
+
+        Instant received = Instant.now();
+        broadcaster.onMessage(message("other-node|E|" + Job.class.getName() + "|" + jobId), null);
+        assertThat(cached()).isFalse();
+
+        // Read back from a replica that has not replayed the change yet
+        load();
+        assertThat(cached()).isTrue();
+
+        Runnable eviction = scheduledEviction(received);
+        eviction.run();
+        assertThat(cached()).isFalse();
+    }
+
+    @Test
+    void aChangeCommittedHereIsEvictedAgainAfterTheReplicaLag() {
+        Instant committed = Instant.now();
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Job.class, jobId).setTitle("Renamed Engineer " + jobId));
+        load();
+        assertThat(cached()).isTrue();
+
+        scheduledEviction(committed).run();
+        assertThat(cached()).isFalse();
+    }
+
+    @Test
+    void withoutReplicasNothingIsEvictedLater() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("taskScheduler", taskScheduler);
+        SecondLevelCacheBroadcaster withoutReplicas = new SecondLevelCacheBroadcaster(entityManagerFactory,
+                beans.getBeanProvider(RedisMessageListenerContainer.class),
+                beans.getBeanProvider(StringRedisTemplate.class), new NodeIdentity(),
+                new ReplicaDataSourceProperties(), beans.getBeanProvider(TaskScheduler.class));
+        load();
+
+        withoutReplicas.onMessage(message("other-node|E|" + Job.class.getName() + "|" + jobId), null);
+
+        assertThat(cached()).isFalse();
+        verifyNoInteractions(taskScheduler);
+    }
+
+    /**
+     * The one eviction scheduled since {@code since}, due after max-lag plus a health check interval.
+     */
+    private Runnable scheduledEviction(Instant since) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(task.capture(), at.capture());
+        assertThat(at.getValue()).isBetween(since.plusSeconds(7), Instant.now().plusSeconds(7));
+        return task.getValue();
+    }
+
+    private void load() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Job.class, jobId));
+    }
+
+    private boolean cached() {
+        return entityManagerFactory.getCache().contains(Job.class, jobId);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
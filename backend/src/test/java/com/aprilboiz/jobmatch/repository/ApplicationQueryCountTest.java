@@ -0,0 +1,173 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.config.SqlInspectionProperties;
+import com.aprilboiz.jobmatch.config.SqlStatementInspector;
+import com.aprilboiz.jobmatch.dto.response.ApplicationDetailResponse;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapper;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapperImpl;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds the statement count of the application listings, including the mapping to
+ * responses, to a fixed number whatever the page holds. A new lazy association touched
+ * per row shows up here as a count that grows with the page.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({SqlStatementInspector.class, SqlInspectionProperties.class, ApplicationMapperImpl.class})
+class ApplicationQueryCountTest {
+
+    private static final int MAX_STATEMENTS = 4;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationMapper applicationMapper;
+
+    @Test
+    void listingApplicationsOfAJobDoesNotGrowWithThePage() {
+        Job few = jobWithApplications("few", 2);
+        Job many = jobWithApplications("many", 12);
+
+        long forFew = statements(() -> listForJob(few));
+        long forMany = statements(() -> listForJob(many));
+
+        assertThat(forMany).as("statements for 12 applications vs 2").isEqualTo(forFew);
+        assertThat(forMany).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void listingApplicationsOfACandidateDoesNotGrowWithThePage() {
+        Job job = jobWithApplications("candidate", 1);
+        Candidate candidate = applicationRepository.findAllByJob(job, PageRequest.of(0, 1))
+                .getContent().getFirst().getCandidate();
+        for (int i = 0; i < 8; i++) {
+            apply(jobWithApplications("other-" + i, 0), candidate, "candidate-" + i);
+        }
+        entityManager.flush();
+
+        long forMany = statements(() -> applicationRepository.findAllByCandidate(candidate, PageRequest.of(0, 20))
+                .map(applicationMapper::applicationToApplicationDetailResponse).getContent());
+
+        assertThat(forMany).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private List<ApplicationDetailResponse> listForJob(Job job) {
+        Page<Application> page = applicationRepository.findAllByJob(job, PageRequest.of(0, 20));
+        return page.map(applicationMapper::applicationToApplicationDetailResponse).getContent();
+    }
+
+    /**
+     * Runs the listing against an empty persistence context and second-level cache, so
+     * every row is read from the database as on a cold node.
+     */
+    private long statements(Supplier<List<ApplicationDetailResponse>> listing) {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        long before = SqlStatementInspector.statementCount();
+        List<ApplicationDetailResponse> responses = listing.get();
+        long statements = SqlStatementInspector.statementCount() - before;
+        assertThat(responses).isNotEmpty();
+        return statements;
+    }
+
+    private Job jobWithApplications(String name, int applications) {
+        Role candidateRole = role(RoleName.CANDIDATE);
+        Company company = Company.builder().name("Company " + name).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email("recruiter-" + name + "@example.com")
+                .password("x")
+                .fullName("Recruiter " + name)
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .build();
+        entityManager.persist(recruiter);
+        JobCategory category = JobCategory.builder().name("Category " + name).description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title("Engineer " + name)
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(50)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(company)
+                .skills(new LinkedHashSet<>(List.of("Java", "SQL")))
+                .build();
+        entityManager.persist(job);
+        for (int i = 0; i < applications; i++) {
+            Candidate candidate = Candidate.builder()
+                    .email("candidate-" + name + "-" + i + "@example.com")
+                    .password("x")
+                    .fullName("Candidate " + i)
+                    .role(candidateRole)
+                    .build();
+            entityManager.persist(candidate);
+            apply(job, candidate, name + "-" + i);
+        }
+        entityManager.flush();
+        return job;
+    }
+
+    private void apply(Job job, Candidate candidate, String name) {
+        CV cv = new CV();
+        cv.setFileName("cv-" + name + ".pdf");
+        cv.setCandidate(candidate);
+        entityManager.persist(cv);
+        Analysis analysis = Analysis.builder().score(0.5).matchSkills("Java").missingSkills("SQL").build();
+        entityManager.persist(analysis);
+        entityManager.persist(Application.builder()
+                .job(job)
+                .cv(cv)
+                .candidate(candidate)
+                .analysis(analysis)
+                .build());
+    }
+
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+}
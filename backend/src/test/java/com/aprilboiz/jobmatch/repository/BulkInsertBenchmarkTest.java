@@ -0,0 +1,154 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts a few thousand jobs with their skills, once with JDBC batching switched off
+ * for the session and once with the configured batch size, and compares how many
+ * statements each run prepares. Runs on the embedded database; the Postgres driver's
+ * reWriteBatchedInserts folds each batch further into multi-row INSERTs.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.aprilboiz.jobmatch.repository.BulkInsertBenchmarkTest$CountingInspector"
+})
+class BulkInsertBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int JOBS = 2000;
+    private static final int SKILLS_PER_JOB = 5;
+    private static final int BATCH_SIZE = 50;
+
+    private static final List<String> PREPARED = new CopyOnWriteArrayList<>();
+
+    public static class CountingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            PREPARED.add(sql);
+            return sql;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private JobCategory category;
+
+    @BeforeEach
+    void createCategory() {
+        category = JobCategory.builder().name("Technology").description("Software").build();
+        entityManager.persist(category);
+        entityManager.flush();
+    }
+
+    @Test
+    void batchedInsertsPrepareFarFewerStatements() {
+        InsertResult unbatched = insertJobs("unbatched", 1);
+        InsertResult batched = insertJobs("batched", BATCH_SIZE);
+        report(unbatched);
+        report(batched);
+
+        int rows = JOBS * (1 + SKILLS_PER_JOB);
+        assertThat(unbatched.inserts()).isEqualTo(rows);
+        assertThat(batched.inserts()).isLessThanOrEqualTo(rows / BATCH_SIZE + 2);
+        // pooled-lo hands out 50 ids per sequence call, whatever the batch size
+        assertThat(batched.sequenceCalls()).isLessThanOrEqualTo(JOBS / 50 + 1);
+        assertThat(unbatched.sequenceCalls()).isEqualTo(batched.sequenceCalls());
+    }
+
+    @Test
+    void updatingSkillsWritesOnlyTheDifference() {
+        Job job = newJob(0);
+        job.setSkills(new LinkedHashSet<>(List.of("Java", "SQL", "Docker")));
+        entityManager.persist(job);
+        entityManager.flush();
+        entityManager.clear();
+
+        Job loaded = entityManager.find(Job.class, job.getId());
+        Set<String> wanted = Set.of("Java", "SQL", "Kubernetes");
+        PREPARED.clear();
+        loaded.getSkills().retainAll(wanted);
+        loaded.getSkills().addAll(wanted);
+        entityManager.flush();
+
+        List<String> skillWrites = PREPARED.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains("job_skills") && !sql.startsWith("select"))
+                .toList();
+        assertThat(skillWrites).hasSize(2);
+        assertThat(skillWrites).anyMatch(sql -> sql.startsWith("delete") && sql.contains("skill="));
+        assertThat(skillWrites).anyMatch(sql -> sql.startsWith("insert"));
+    }
+
+    private InsertResult insertJobs(String mode, int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        entityManager.clear();
+        PREPARED.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < JOBS; i++) {
+            Job job = newJob(i);
+            job.setSkills(IntStream.range(0, SKILLS_PER_JOB)
+                    .mapToObj(s -> "Skill " + s)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            entityManager.persist(job);
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<String> prepared = List.copyOf(PREPARED);
+        session.setJdbcBatchSize(null);
+        return new InsertResult(mode,
+                prepared.stream().filter(sql -> sql.toLowerCase().startsWith("insert")).count(),
+                prepared.stream().filter(sql -> sql.toLowerCase().contains("next value for")
+                        || sql.toLowerCase().contains("nextval")).count(),
+                elapsedMillis);
+    }
+
+    private Job newJob(int i) {
+        return Job.builder()
+                .title("Backend Engineer " + i)
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(entityManager.getReference(JobCategory.class, category.getId()))
+                .numberOfOpenings(1)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .build();
+    }
+
+    private static void report(InsertResult result) {
+        log.info("[{}] jobs={} skills={} preparedInserts={} sequenceCalls={} elapsed={}ms",
+                result.mode(), JOBS, JOBS * SKILLS_PER_JOB, result.inserts(), result.sequenceCalls(),
+                result.elapsedMillis());
+    }
+
+    private record InsertResult(String mode, long inserts, long sequenceCalls, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.service.impl.SoftDeleteArchiver;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on an embedded Postgres and starts JPA with
+ * {@code ddl-auto=validate}, as production does, so an entity that drifts from the
+ * migrated schema fails the default build. The H2 tests build their schema from the
+ * entities and cannot catch that. Also runs the Postgres-only statements once and checks
+ * the V8 backfill on data left by V7.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MigrationSchemaTest {
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CvRepository cvRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PendingImageDeleteRepository pendingImageDeleteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void everyMigrationAppliesAndTheEntitiesValidate() {
+        // The context only starts once validate has found every entity's table and columns
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+
+    @Test
+    void thePostgresOnlyStatementsRun() {
+        new SoftDeleteArchiver(applicationRepository, cvRepository, jobRepository, transactionTemplate,
+                Duration.ZERO, 10).archive();
+        transactionTemplate.executeWithoutResult(status -> pendingImageDeleteRepository.lockOldest(Limit.of(10)));
+    }
+
+    @Test
+    void v8MarksWhatWasAlreadyCounted() throws Exception {
+        try (var connection = postgres.getPostgresDatabase().getConnection()) {
+            connection.createStatement().execute("CREATE DATABASE backfill");
+        }
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                postgres.getJdbcUrl("postgres", "backfill"), "postgres", "", true);
+        try {
+            migrate(dataSource, "7");
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            // Application 10 was relayed once and has a later event pending; application 11's
+            // only event was counted by V6 but not relayed yet; application 12's was neither
+            event(jdbc, 1, 10, 1, true);
+            event(jdbc, 2, 11, 1, false);
+            event(jdbc, 3, 10, 2, false);
+            event(jdbc, 4, 12, 1, false);
+            jdbc.update("INSERT INTO job_stats (job_id, applied_count, last_event_id) VALUES (1, 2, 2)");
+
+            migrate(dataSource, "8");
+
+            Map<Long, Long> marks = jdbc.query("SELECT application_id, sequence_number FROM job_stats_application",
+                    (row, i) -> Map.entry(row.getLong(1), row.getLong(2))).stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            assertThat(marks).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 1L, 11L, 1L));
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+                    "WHERE table_name = 'job_stats' AND column_name = 'last_event_id'", Long.class)).isZero();
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static void migrate(SingleConnectionDataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private static void event(JdbcTemplate jdbc, long id, long applicationId, long sequence, boolean published) {
+        jdbc.update("INSERT INTO outbox_event (id, aggregate_type, aggregate_id, sequence_number, event_type, " +
+                        "payload, created_at, published_at) VALUES (?, 'APPLICATION', ?, ?, 'CREATED', " +
+                        "'{\"jobId\": 1}', now(), " + (published ? "now()" : "NULL") + ")",
+                id, applicationId, sequence);
+    }
+}
@@ -0,0 +1,299 @@
+package com.aprilboiz.jobmatch.repository;
+
+import com.aprilboiz.jobmatch.enumerate.OutboxAggregateType;
+import com.aprilboiz.jobmatch.model.OutboxAggregate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query method of every repository against a migrated Postgres, captures
+ * the SQL Hibernate sends and checks its generic plan with sequential scans disabled.
+ * A Seq Scan that survives {@code enable_seqscan = off}, or a filtered walk over a whole
+ * index, means no index can serve the predicate. Needs PostgreSQL 16+ for {@code EXPLAIN (GENERIC_PLAN)}; point
+ * TEST_POSTGRES_URL (plus TEST_POSTGRES_USER / TEST_POSTGRES_PASSWORD) at a scratch database.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.aprilboiz.jobmatch.repository.RepositoryQueryPlanTest$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class RepositoryQueryPlanTest {
+
+    // A dozen rows each; a sequential scan is the right plan for them
+    private static final Set<String> REFERENCE_TABLES = Set.of("roles", "job_categories");
+
+    // Tables a query legitimately reads in full: bulk loads behind the in-memory indexes
+    // and reference-data counts, and the company side of the catch-all search, whose
+    // generic plan cannot pick an index for "(:keyword IS NULL OR ...)"; Postgres re-plans
+    // it with the bound values. The inherited findAllDeleted is unused for users and
+    // companies and can never match under their @SQLRestriction.
+    private static final Map<String, Set<String>> FULL_SCANS_ALLOWED = Map.of(
+            "findAllDeleted", Set.of("users", "company"),
+            "findAllNotDeleted", Set.of("users"),
+            "findOpenJobFacetRows", Set.of("company"),
+            "findOpenJobSuggestionRows", Set.of("company"),
+            "countJobsByLocation", Set.of("jobs"),
+            "countJobsByCompanyName", Set.of("company"),
+            "searchAndFilterJobs", Set.of("company"),
+            "searchAndFilterJobsByDistance", Set.of("company"));
+
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    private static final Pattern COLUMN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    public static class CapturingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+        registry.add("spring.datasource.username", () -> env("TEST_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("TEST_POSTGRES_PASSWORD", "postgres"));
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Index name to its first key column or expression
+    private final Map<String, String> leadingKeys = new HashMap<>();
+
+    @Test
+    void everyRepositoryQueryIsServedByAnIndex() throws Exception {
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> violations = new ArrayList<>();
+        int checked = 0;
+        Connection explain = explainConnection();
+        try {
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+                List<Method> methods = information.getQueryMethods().stream()
+                        .sorted(Comparator.comparing(Method::getName))
+                        .toList();
+                for (Method method : methods) {
+                    Set<String> allowed = FULL_SCANS_ALLOWED.getOrDefault(method.getName(), Set.of());
+                    String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                    for (String sql : capture(repository, information.getRepositoryInterface(), method)) {
+                        checked++;
+                        for (String scan : fullScans(explain, sql, allowed)) {
+                            violations.add(name + ": " + scan + "\n    " + sql);
+                        }
+                    }
+                }
+            }
+        } finally {
+            explain.rollback();
+            explain.close();
+        }
+
+        assertThat(checked).isPositive();
+        assertThat(violations).as("queries without a usable index").isEmpty();
+    }
+
+    private List<String> capture(Object repository, Class<?> repositoryInterface, Method method)
+            throws IllegalAccessException {
+        Object[] arguments = new Object[method.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            // Resolves the ID type variable of the inherited SoftDeleteRepository methods
+            arguments[i] = sampleValue(ResolvableType.forMethodParameter(method, i, repositoryInterface).toClass());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CAPTURED.clear();
+        try {
+            method.invoke(repository, arguments);
+            entityManager.flush();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to run " + method, e.getCause());
+        }
+        return List.copyOf(CAPTURED);
+    }
+
+    private Object sampleValue(Class<?> type) {
+        if (type == String.class) {
+            return "x";
+        } else if (type == Long.class || type == long.class) {
+            return 1L;
+        } else if (type == Integer.class || type == int.class) {
+            return 1;
+        } else if (type == Double.class || type == double.class) {
+            return 1.0;
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        } else if (type == LocalDate.class) {
+            return LocalDate.now();
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        } else if (type == Pageable.class) {
+            return PageRequest.of(0, 20);
+        } else if (type == Limit.class) {
+            return Limit.of(20);
+        } else if (type == OutboxAggregate.Key.class) {
+            return new OutboxAggregate.Key(OutboxAggregateType.JOB, 1L);
+        }
+        // Entity parameters only contribute their id to the query
+        return entityManager.getReference(type, 1L);
+    }
+
+    /*
+    * EXPLAIN runs on its own connection in simple query mode, otherwise the driver
+    * would try to bind the $n placeholders. That connection loads the synthetic
+    * fixture and analyzes it in a transaction which is never committed.
+    */
+    private Connection explainConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", env("TEST_POSTGRES_USER", "postgres"));
+        properties.setProperty("password", env("TEST_POSTGRES_PASSWORD", "postgres"));
+        properties.setProperty("preferQueryMode", "simple");
+        Connection connection = DriverManager.getConnection(System.getenv("TEST_POSTGRES_URL"), properties);
+        connection.setAutoCommit(false);
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("query-plan-fixture.sql"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL enable_seqscan = off");
+            try (ResultSet keys = statement.executeQuery(
+                    "SELECT c.relname, pg_get_indexdef(i.indexrelid, 1, true) FROM pg_index i " +
+                    "JOIN pg_class c ON c.oid = i.indexrelid")) {
+                while (keys.next()) {
+                    leadingKeys.put(keys.getString(1), keys.getString(2));
+                }
+            }
+        }
+        return connection;
+    }
+
+    private List<String> fullScans(Connection connection, String sql, Set<String> allowed) throws Exception {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++index);
+        }
+        matcher.appendTail(numbered);
+
+        List<String> scans = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numbered)) {
+            plan.next();
+            collectFullScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), allowed, false, scans);
+        }
+        return scans;
+    }
+
+    /*
+    * With sequential scans disabled the planner falls back to walking a whole index,
+    * which is just as bad. A scan that filters rows counts only if an index condition
+    * on the leading key of its index bounds the walk; a condition on a later key column
+    * still reads the whole index. A partial index whose predicate is all the query asks
+    * for (nothing left to filter) is fine. Under a Limit the walk stops early; the count
+    * query of the same page is checked on its own.
+    */
+    private void collectFullScans(JsonNode node, Set<String> allowed, boolean limited, List<String> scans) {
+        String type = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText();
+        if (!relation.isEmpty() && !REFERENCE_TABLES.contains(relation) && !allowed.contains(relation)) {
+            if ("Seq Scan".equals(type)) {
+                scans.add("Seq Scan on " + relation);
+            } else if ((type.startsWith("Index") || "Bitmap Heap Scan".equals(type)) && !limited
+                    && (node.has("Filter") || hasIndexCondition(node)) && !boundedByLeadingKey(node)) {
+                scans.add("full index walk on " + relation + ": " + node.path("Index Cond").asText(
+                        node.path("Filter").asText(node.path("Recheck Cond").asText())));
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFullScans(child, allowed, limited || "Limit".equals(type), scans);
+        }
+    }
+
+    private boolean hasIndexCondition(JsonNode node) {
+        if (node.has("Index Cond")) {
+            return true;
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (hasIndexCondition(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Bitmap heap scans delegate to their Bitmap Index Scan (or BitmapAnd/BitmapOr) children
+    private boolean boundedByLeadingKey(JsonNode node) {
+        if (node.has("Index Cond")) {
+            String leadingKey = leadingKeys.get(node.path("Index Name").asText());
+            if (leadingKey == null || !COLUMN.matcher(leadingKey).matches()) {
+                // Expression keys such as upper(title) are only usable through their own expression
+                return true;
+            }
+            return Pattern.compile("\\b" + leadingKey + "\\b").matcher(node.path("Index Cond").asText()).find();
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (boundedByLeadingKey(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.aprilboiz.jobmatch.security;
+
+import com.aprilboiz.jobmatch.config.AsyncConfig;
+import com.aprilboiz.jobmatch.exception.ApiResponse;
+import com.aprilboiz.jobmatch.exception.GlobalExceptionHandler;
+import com.aprilboiz.jobmatch.exception.TooManyRequestsException;
+import com.aprilboiz.jobmatch.service.MessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fills the hashing pool and its queue with verifications that cannot finish, then
+ * checks the next login is refused at once and answered with 429 and Retry-After.
+ */
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fullHashingQueueRejectsWithRetryAfter() throws Exception {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(3);
+        AsyncTaskExecutor executor = new AsyncConfig().passwordHashExecutor(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(release), executor,
+                properties.getRetryAfterSeconds());
+
+        // One verification running, one queued behind it
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("secret", "hash"));
+        awaitGauge("jobmatch.executor.active", 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("secret", "hash"));
+        awaitGauge("jobmatch.executor.queued", 1);
+
+        TooManyRequestsException rejected = catchThrowableOfType(TooManyRequestsException.class,
+                () -> encoder.matches("secret", "hash"));
+
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(3);
+        assertThat(meterRegistry.get("jobmatch.executor.rejected").tag("name", "passwordHash").counter().count())
+                .isEqualTo(1);
+
+        MessageService messageService = mock(MessageService.class);
+        when(messageService.getMessage("api.error.too.many.requests")).thenReturn("Server is busy");
+        ResponseEntity<ApiResponse<Void>> response = new GlobalExceptionHandler(messageService)
+                .handleTooManyRequestsException(rejected);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        // The callers already admitted still get their answer
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).tag("name", "passwordHash").gauge().value() < expected) {
+            assertThat(System.nanoTime()).as(name).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
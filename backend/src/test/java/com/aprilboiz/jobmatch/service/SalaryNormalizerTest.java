@@ -0,0 +1,58 @@
+package com.aprilboiz.jobmatch.service;
+
+import com.aprilboiz.jobmatch.config.SalaryNormalizationProperties;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Converts salaries with the default FX table and checks a table missing an entry
+ * is refused at startup rather than on the first search.
+ */
+class SalaryNormalizerTest {
+    private final SalaryNormalizer salaryNormalizer = new SalaryNormalizer(new SalaryNormalizationProperties());
+
+    @Test
+    void convertsToAnnualUsdAtTheColumnScale() {
+        assertThat(salaryNormalizer.toAnnualUsd(new BigDecimal("25000000"), CurrencyType.VND, PeriodType.MONTHLY))
+                .isEqualByComparingTo("11700.00");
+        assertThat(salaryNormalizer.toAnnualUsd(new BigDecimal("20.005"), CurrencyType.EUR, PeriodType.HOURLY))
+                .isEqualByComparingTo("44939.23")
+                .hasScaleOf(SalaryNormalizer.SCALE);
+        // Unspecified currency and period mean USD per year
+        assertThat(salaryNormalizer.toAnnualUsd(new BigDecimal("50000"), null, null)).isEqualByComparingTo("50000");
+        assertThat(salaryNormalizer.toAnnualUsd(null, CurrencyType.USD, PeriodType.ANNUAL)).isNull();
+    }
+
+    @Test
+    void applyNormalizesBothEndsOfTheRange() {
+        Job job = Job.builder()
+                .minSalary(new BigDecimal("1000"))
+                .currency(CurrencyType.GBP)
+                .salaryPeriod(PeriodType.WEEKLY)
+                .annualSalaryMaxUsd(new BigDecimal("1"))
+                .build();
+
+        salaryNormalizer.apply(job);
+
+        assertThat(job.getAnnualSalaryMinUsd()).isEqualByComparingTo("66040.00");
+        assertThat(job.getAnnualSalaryMaxUsd()).isNull();
+    }
+
+    @Test
+    void missingRateOrPeriodIsRejected() {
+        SalaryNormalizationProperties withoutYen = new SalaryNormalizationProperties();
+        withoutYen.getUsdRates().remove(CurrencyType.JPY);
+        SalaryNormalizationProperties withoutHours = new SalaryNormalizationProperties();
+        withoutHours.getPeriodsPerYear().remove(PeriodType.HOURLY);
+
+        assertThatThrownBy(() -> new SalaryNormalizer(withoutYen)).hasMessageContaining("usd-rates.JPY");
+        assertThatThrownBy(() -> new SalaryNormalizer(withoutHours)).hasMessageContaining("periods-per-year.HOURLY");
+    }
+}
@@ -0,0 +1,93 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.AnalysisDTO;
+import com.aprilboiz.jobmatch.exception.AIServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Answers the AI service's match endpoint from a mock server and checks each call lands
+ * in {@code jobmatch.ai.analyze} under the right input and outcome.
+ */
+class AIServiceImplTest {
+    private static final String URL = "http://ai.test/match-files";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RestTemplate restTemplate = new RestTemplate();
+    private MockRestServiceServer server;
+    private AIServiceImpl aiService;
+
+    @BeforeEach
+    void createService() {
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        aiService = new AIServiceImpl(restTemplate, meterRegistry);
+        ReflectionTestUtils.setField(aiService, "aiServiceBaseUrl", "http://ai.test");
+    }
+
+    @Test
+    void successfulAnalysesAreTimedByInput() {
+        expect().andRespond(withSuccess("{\"match_score\": 0.8}", MediaType.APPLICATION_JSON));
+        expect().andRespond(withSuccess("{\"match_score\": 0.4}", MediaType.APPLICATION_JSON));
+
+        AnalysisDTO text = aiService.analyze("Java developer", "Five years of Java");
+        AnalysisDTO file = aiService.analyze("Java developer", new ByteArrayResource("cv".getBytes()) {
+            @Override
+            public String getFilename() {
+                return "cv.pdf";
+            }
+        });
+
+        server.verify();
+        assertThat(text.getMatchScore()).isEqualTo(0.8);
+        assertThat(file.getMatchScore()).isEqualTo(0.4);
+        assertThat(analyses("text", "success")).isEqualTo(1);
+        assertThat(analyses("file", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreTaggedByWhatWentWrong() {
+        expect().andRespond(withStatus(HttpStatus.BAD_REQUEST));
+        expect().andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        expect().andRespond(withException(new IOException("Read timed out")));
+        expect().andRespond(withSuccess());
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> aiService.analyze("Java developer", "Five years of Java"))
+                    .isInstanceOf(AIServiceException.class);
+        }
+
+        server.verify();
+        assertThat(analyses("text", "4xx")).isEqualTo(1);
+        assertThat(analyses("text", "5xx")).isEqualTo(1);
+        assertThat(analyses("text", "timeout")).isEqualTo(1);
+        // An empty 200 is not a transport failure
+        assertThat(analyses("text", "error")).isEqualTo(1);
+    }
+
+    private ResponseActions expect() {
+        return server.expect(requestTo(URL)).andExpect(method(HttpMethod.POST));
+    }
+
+    private long analyses(String input, String outcome) {
+        return meterRegistry.get("jobmatch.ai.analyze").tag("input", input).tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,92 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.config.AsyncConfig;
+import com.aprilboiz.jobmatch.dto.request.AuthRequest;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.security.BoundedPasswordEncoder;
+import com.aprilboiz.jobmatch.security.PasswordHashingProperties;
+import com.aprilboiz.jobmatch.service.JwtService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.TokenBlacklistService;
+import com.aprilboiz.jobmatch.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Logs in with a legacy hash and checks the re-hash runs on the hashing pool while the
+ * new hash is saved on the application executor.
+ */
+class AuthServiceImplTest {
+    private final ThreadPoolTaskExecutor applicationExecutor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void shutdown() {
+        applicationExecutor.shutdown();
+    }
+
+    @Test
+    void theRehashedPasswordIsSavedOffTheHashingPool() throws Exception {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        AsyncTaskExecutor hashExecutor = new AsyncConfig().passwordHashExecutor(properties, new SimpleMeterRegistry());
+        applicationExecutor.setThreadNamePrefix("Application-");
+        applicationExecutor.initialize();
+
+        UserService userService = mock(UserService.class);
+        CompletableFuture<String> savedOn = new CompletableFuture<>();
+        doAnswer(invocation -> savedOn.complete(Thread.currentThread().getName()))
+                .when(userService).updatePasswordHash("candidate@example.com", "legacy", "rehashed");
+        AuthenticationManager authManager = mock(AuthenticationManager.class);
+        UserPrincipalAdapter principal = new UserPrincipalAdapter(Candidate.builder()
+                .email("candidate@example.com").password("legacy").build());
+        when(authManager.authenticate(any())).thenReturn(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of()));
+        AuthServiceImpl authService = new AuthServiceImpl(mock(JwtService.class), authManager, userService,
+                mock(TokenBlacklistService.class), mock(MessageService.class),
+                new BoundedPasswordEncoder(legacyEncoder(), hashExecutor, 1), applicationExecutor);
+
+        AuthRequest request = new AuthRequest();
+        request.setEmail("candidate@example.com");
+        request.setPassword("secret");
+        authService.login(request);
+
+        assertThat(savedOn.get(5, TimeUnit.SECONDS)).startsWith("Application-");
+    }
+
+    private static PasswordEncoder legacyEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                assertThat(Thread.currentThread().getName()).startsWith("PasswordHash-");
+                return "rehashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return "legacy".equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapperImpl;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.model.User;
+import com.aprilboiz.jobmatch.model.UserPrincipalAdapter;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.StorageService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Downloads a CV as the users who may or may not see it: the candidate who owns it, the
+ * recruiter whose job it was sent to, a colleague at the same company, and recruiters
+ * it was never sent to.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({CvServiceImpl.class, ApplicationMapperImpl.class})
+class CvServiceImplTest {
+    private final Resource file = new ByteArrayResource(new byte[]{1});
+
+    @MockitoBean
+    private StorageService storageService;
+
+    @MockitoBean
+    private MessageService messageService;
+
+    @Autowired
+    private CvServiceImpl cvService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Recruiter recruiter;
+    private Application application;
+
+    @BeforeEach
+    void apply() {
+        when(storageService.loadAsResource(any())).thenReturn(file);
+        recruiter = recruiter("owner");
+        JobCategory category = JobCategory.builder().name("CV Engineering").description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title("CV Engineer")
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(1)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(recruiter.getCompany())
+                .build();
+        entityManager.persist(job);
+        Candidate candidate = candidate("applicant");
+        CV cv = new CV();
+        cv.setFileName("cv-applicant.pdf");
+        cv.setCandidate(candidate);
+        entityManager.persist(cv);
+        application = Application.builder().job(job).cv(cv).candidate(candidate).build();
+        entityManager.persist(application);
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void theCandidateDownloadsTheirOwnCv() {
+        assertThat(downloadAs(application.getCandidate())).isSameAs(file);
+        assertThatThrownBy(() -> downloadAs(candidate("someone-else")))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void theRecruiterAndTheirCompanyDownloadCvsSentToTheirJobs() {
+        Recruiter colleague = Recruiter.builder()
+                .email("recruiter-colleague@example.com")
+                .password("x")
+                .fullName("Recruiter colleague")
+                .role(role(RoleName.RECRUITER))
+                .company(recruiter.getCompany())
+                .build();
+        entityManager.persist(colleague);
+
+        assertThat(downloadAs(recruiter)).isSameAs(file);
+        assertThat(downloadAs(colleague)).isSameAs(file);
+    }
+
+    @Test
+    void otherRecruitersAreRefused() {
+        Recruiter withoutCompany = Recruiter.builder()
+                .email("recruiter-freelance@example.com")
+                .password("x")
+                .fullName("Recruiter freelance")
+                .role(role(RoleName.RECRUITER))
+                .build();
+        entityManager.persist(withoutCompany);
+
+        assertThatThrownBy(() -> downloadAs(recruiter("elsewhere")))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> downloadAs(withoutCompany))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void aDeletedApplicationNoLongerGrantsAccess() {
+        application.setDeletedAt(LocalDateTime.now());
+        entityManager.flush();
+
+        assertThatThrownBy(() -> downloadAs(recruiter)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    private Recruiter recruiter(String name) {
+        Company company = Company.builder().name("Company " + name).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email("recruiter-" + name + "@example.com")
+                .password("x")
+                .fullName("Recruiter " + name)
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .build();
+        entityManager.persist(recruiter);
+        return recruiter;
+    }
+
+    private Candidate candidate(String name) {
+        Candidate candidate = Candidate.builder()
+                .email("candidate-" + name + "@example.com")
+                .password("x")
+                .fullName("Candidate " + name)
+                .role(role(RoleName.CANDIDATE))
+                .build();
+        entityManager.persist(candidate);
+        return candidate;
+    }
+
+    /**
+     * Other test classes sharing this context may have committed the role already.
+     */
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+
+    private Resource downloadAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(new UserPrincipalAdapter(user), null, List.of()));
+        return cvService.downloadCv(application.getCv().getId());
+    }
+}
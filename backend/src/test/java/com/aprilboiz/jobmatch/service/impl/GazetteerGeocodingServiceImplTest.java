@@ -0,0 +1,41 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.GeoPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resolves locations as recruiters type them against the bundled gazetteer.
+ */
+class GazetteerGeocodingServiceImplTest {
+    private static final GeoPoint HA_NOI = new GeoPoint(21.0285, 105.8542);
+    private static final GeoPoint HO_CHI_MINH_CITY = new GeoPoint(10.7769, 106.7009);
+
+    private final GazetteerGeocodingServiceImpl geocodingService =
+            new GazetteerGeocodingServiceImpl(new ClassPathResource("geo/gazetteer.csv"));
+
+    @Test
+    void matchesNamesAndAliasesWithoutAccentsOrCase() {
+        assertThat(geocodingService.geocode("Hà Nội")).contains(HA_NOI);
+        assertThat(geocodingService.geocode("HANOI")).contains(HA_NOI);
+        assertThat(geocodingService.geocode("TP.HCM")).contains(HO_CHI_MINH_CITY);
+        assertThat(geocodingService.geocode("Sài Gòn")).contains(HO_CHI_MINH_CITY);
+    }
+
+    @Test
+    void longestWholeWordNameWins() {
+        assertThat(geocodingService.geocode("Tầng 5, 12 Lê Lợi, Quận 1, Thành phố Hồ Chí Minh"))
+                .contains(HO_CHI_MINH_CITY);
+        // "Vinh" is a city of its own, but not inside another word
+        assertThat(geocodingService.geocode("Vinhomes Riverside")).isEmpty();
+    }
+
+    @Test
+    void unknownOrBlankLocationsResolveToNothing() {
+        assertThat(geocodingService.geocode("Remote")).isEmpty();
+        assertThat(geocodingService.geocode("  ")).isEmpty();
+        assertThat(geocodingService.geocode(null)).isEmpty();
+    }
+}
@@ -0,0 +1,177 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.exception.NotFoundException;
+import com.aprilboiz.jobmatch.repository.PendingImageDeleteRepository;
+import com.aprilboiz.jobmatch.service.CloudinaryService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+import com.aprilboiz.jobmatch.storage.StorageProperties;
+import com.aprilboiz.jobmatch.storage.StoredImage;
+import com.aprilboiz.jobmatch.storage.impl.FileSystemStorageService;
+import com.aprilboiz.jobmatch.storage.impl.ImageIoImageProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stores real uploads with the local provider and drains the cleanup queue against the
+ * file system and a mocked Cloudinary, calling the service directly rather than
+ * through the async proxy. The queue is the pending_image_delete table, committed for
+ * real so the drain sees it the way another node or a restarted one would.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImageStorageServiceImplTest {
+    @TempDir
+    Path root;
+
+    @Autowired
+    private PendingImageDeleteRepository pendingImageDeleteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final CloudinaryService cloudinaryService = mock(CloudinaryService.class);
+    private final ImageProcessingProperties properties = new ImageProcessingProperties();
+    private ImageStorageServiceImpl imageStorageService;
+
+    @BeforeEach
+    void createService() {
+        pendingImageDeleteRepository.deleteAllInBatch();
+        properties.setProvider("local");
+        properties.setTempLocation(root.resolve("tmp").toString());
+        properties.getCleanup().setMaxAttempts(2);
+        imageStorageService = newService();
+    }
+
+    @Test
+    void storesEveryVariantAndDeletesTheSpooledUpload() throws Exception {
+        Path spooled = spool(2048, 1024);
+
+        StoredImage image = imageStorageService.storeAsync(spooled, "avatars").get(10, TimeUnit.SECONDS);
+
+        assertThat(image.variants()).containsOnlyKeys("full", "card", "thumb");
+        assertThat(image.url()).isEqualTo(image.variants().get("full"))
+                .matches("/api/images/avatars/[0-9a-f\\-]{36}/full\\.jpg");
+        String imageId = imageIdOf(image);
+        for (ImageVariant variant : ImageVariant.values()) {
+            Resource resource = imageStorageService.loadVariant("avatars", imageId, variant);
+            BufferedImage stored = ImageIO.read(resource.getFile());
+            assertThat(stored.getWidth()).as(variant.key()).isEqualTo(variant.getMaxDimension());
+        }
+        assertThat(spooled).doesNotExist();
+        try (var temp = Files.list(root.resolve("tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    void loadVariantRefusesUnknownFoldersAndIds() {
+        assertThatThrownBy(() -> imageStorageService.loadVariant("../etc", "x", ImageVariant.FULL))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> imageStorageService.loadVariant("avatars", "not-a-uuid", ImageVariant.FULL))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void drainDeletesLocalImagesAndBatchesCloudinaryIds() throws Exception {
+        StoredImage local = imageStorageService.storeAsync(spool(200, 100), "logos").get(10, TimeUnit.SECONDS);
+        when(cloudinaryService.extractPublicIdFromUrl("https://res.cloudinary.com/a.jpg")).thenReturn("logos/a");
+        when(cloudinaryService.extractPublicIdFromUrl("https://res.cloudinary.com/b.jpg")).thenReturn("logos/b");
+
+        imageStorageService.scheduleDelete(local.url());
+        imageStorageService.scheduleDelete("https://res.cloudinary.com/a.jpg");
+        imageStorageService.scheduleDelete("https://res.cloudinary.com/b.jpg");
+        imageStorageService.drainDeleteQueue();
+
+        assertThat(root.resolve("storage/images/logos/" + imageIdOf(local))).doesNotExist();
+        verify(cloudinaryService).deleteBatch(List.of("logos/a", "logos/b"));
+    }
+
+    @Test
+    void failedCloudinaryDeletesAreRetriedUpToMaxAttempts() {
+        when(cloudinaryService.extractPublicIdFromUrl("https://res.cloudinary.com/a.jpg")).thenReturn("logos/a");
+        doThrow(new IllegalStateException("Cloudinary down")).when(cloudinaryService).deleteBatch(anyList());
+
+        imageStorageService.scheduleDelete("https://res.cloudinary.com/a.jpg");
+        for (int i = 0; i < 4; i++) {
+            imageStorageService.drainDeleteQueue();
+        }
+
+        verify(cloudinaryService, times(2)).deleteBatch(List.of("logos/a"));
+        assertThat(pendingImageDeleteRepository.count()).isZero();
+    }
+
+    @Test
+    void pendingDeletionsOutliveTheServiceThatQueuedThem() {
+        when(cloudinaryService.extractPublicIdFromUrl("https://res.cloudinary.com/a.jpg")).thenReturn("logos/a");
+        imageStorageService.scheduleDelete("https://res.cloudinary.com/a.jpg");
+
+        // As after a restart, or on another node
+        newService().drainDeleteQueue();
+
+        verify(cloudinaryService).deleteBatch(List.of("logos/a"));
+        assertThat(pendingImageDeleteRepository.count()).isZero();
+    }
+
+    @Test
+    void aRolledBackChangeKeepsItsImage() {
+        transactionTemplate.executeWithoutResult(status -> {
+            imageStorageService.scheduleDelete("https://res.cloudinary.com/a.jpg");
+            status.setRollbackOnly();
+        });
+
+        imageStorageService.drainDeleteQueue();
+
+        assertThat(pendingImageDeleteRepository.count()).isZero();
+        verify(cloudinaryService, never()).deleteBatch(anyList());
+    }
+
+    private ImageStorageServiceImpl newService() {
+        MessageService messageService = mock(MessageService.class);
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setLocation(root.resolve("storage").toString());
+        ImageIoImageProcessor imageProcessor = new ImageIoImageProcessor(properties, messageService);
+        return new ImageStorageServiceImpl(imageProcessor,
+                new FileSystemStorageService(storageProperties, messageService), cloudinaryService, properties,
+                messageService, pendingImageDeleteRepository, transactionTemplate);
+    }
+
+    private Path spool(int width, int height) throws Exception {
+        Path file = Files.createTempFile(root, "upload-", ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        return file;
+    }
+
+    private static String imageIdOf(StoredImage image) {
+        String[] segments = image.url().split("/");
+        return segments[segments.length - 2];
+    }
+}
@@ -0,0 +1,132 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.response.JobFacetResponse;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangeBroadcaster;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts facets over a small set of open jobs, patches them with job and company
+ * events, and checks a rebuild neither blocks searches nor loses a patch made
+ * while it reads the database.
+ */
+class JobFacetServiceImplTest {
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private JobFacetServiceImpl jobFacetService;
+    private Consumer<Long> remoteChange;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void createService() {
+        when(jobRepository.findOpenJobFacetRows()).thenReturn(rows(
+                row(1L, JobType.FULL_TIME, 1, "Hanoi", "Acme"),
+                row(2L, JobType.FULL_TIME, 2, "Hanoi", "Globex"),
+                row(3L, JobType.PART_TIME, 1, "Da Nang", "Acme")));
+        JobChangeBroadcaster broadcaster = mock(JobChangeBroadcaster.class);
+        jobFacetService = new JobFacetServiceImpl(jobRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), broadcaster);
+        ArgumentCaptor<Consumer<Long>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(broadcaster).onRemoteChange(listener.capture());
+        remoteChange = listener.getValue();
+    }
+
+    @Test
+    void eachFacetIgnoresItsOwnSelection() {
+        JobFacetResponse facets = jobFacetService.getFacetCounts(JobType.FULL_TIME, null, "Hanoi", null);
+
+        assertThat(facets.getTotal()).isEqualTo(2);
+        // Job types within Hanoi, locations within full-time
+        assertThat(facets.getJobTypes()).containsExactly(Map.entry("FULL_TIME", 2L));
+        assertThat(facets.getLocations()).containsOnlyKeys("Hanoi");
+        assertThat(facets.getCompanies()).containsEntry("Acme", 1L).containsEntry("Globex", 1L);
+        assertThat(facets.getJobCategories()).containsEntry("1", 1L).containsEntry("2", 1L);
+    }
+
+    @Test
+    void jobAndCompanyChangesPatchTheIndex() {
+        jobFacetService.rebuild();
+
+        jobFacetService.onJobChanged(JobChangedEvent.created(job(4L, "Hue", JobStatus.OPEN)));
+        jobFacetService.onJobChanged(JobChangedEvent.updated(job(1L, "Hanoi", JobStatus.OPEN),
+                job(1L, "Hanoi", JobStatus.CLOSED)));
+        jobFacetService.onCompanyChanged(new CompanyChangedEvent(7L, "Globex", "Globex Vietnam"));
+
+        JobFacetResponse facets = jobFacetService.getFacetCounts(null, null, null, null);
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getLocations()).containsOnlyKeys("Hanoi", "Da Nang", "Hue");
+        assertThat(facets.getCompanies()).containsEntry("Acme", 2L).containsEntry("Globex Vietnam", 1L)
+                .doesNotContainKey("Globex");
+    }
+
+    @Test
+    void remoteChangeReloadsOneJob() {
+        jobFacetService.rebuild();
+        when(jobRepository.findOpenJobFacetRow(3L)).thenReturn(List.of());
+
+        remoteChange.accept(3L);
+
+        assertThat(jobFacetService.getFacetCounts(null, null, null, null).getLocations()).containsOnlyKeys("Hanoi");
+    }
+
+    @Test
+    void rebuildKeepsServingAndReplaysPatchesMadeDuringTheRead() throws Exception {
+        jobFacetService.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // The rows read before job 5 was created
+        when(jobRepository.findOpenJobFacetRows()).thenAnswer(invocation -> {
+            reading.countDown();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return rows(row(1L, JobType.FULL_TIME, 1, "Hanoi", "Acme"));
+        });
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(jobFacetService::rebuild);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Neither a search nor a patch waits for the database read
+        CompletableFuture.runAsync(() -> {
+            assertThat(jobFacetService.getFacetCounts(null, null, null, null).getTotal()).isEqualTo(3);
+            jobFacetService.onJobChanged(JobChangedEvent.created(job(5L, "Hue", JobStatus.OPEN)));
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(rebuild).isNotDone();
+
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        JobFacetResponse facets = jobFacetService.getFacetCounts(null, null, null, null);
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(facets.getLocations()).containsOnlyKeys("Hanoi", "Hue");
+    }
+
+    private static JobSnapshot job(Long id, String location, JobStatus status) {
+        return new JobSnapshot(id, "Engineer", location, 1L, "Acme", JobType.FULL_TIME, 1, status, List.of());
+    }
+
+    private static Object[] row(Long id, JobType jobType, Integer categoryId, String location, String companyName) {
+        return new Object[]{id, jobType, categoryId, location, companyName};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,204 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.config.SalaryNormalizationProperties;
+import com.aprilboiz.jobmatch.dto.GeoFilter;
+import com.aprilboiz.jobmatch.dto.response.JobResponse;
+import com.aprilboiz.jobmatch.enumerate.CurrencyType;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.PeriodType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.mapper.ApplicationMapperImpl;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import com.aprilboiz.jobmatch.service.ApplicationService;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.service.SalaryNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Searches jobs through the service, so the bounding box, distance and salary bounds
+ * it derives are checked against the query that uses them.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({JobServiceImpl.class, ApplicationMapperImpl.class, GazetteerGeocodingServiceImpl.class,
+        SalaryNormalizer.class, SalaryNormalizationProperties.class, SalaryNormalizationBackfill.class})
+class JobServiceImplSearchTest {
+
+    @MockitoBean
+    private ApplicationService applicationService;
+
+    @MockitoBean
+    private MessageService messageService;
+
+    @Autowired
+    private JobServiceImpl jobService;
+
+    @Autowired
+    private SalaryNormalizer salaryNormalizer;
+
+    @Autowired
+    private SalaryNormalizationBackfill salaryNormalizationBackfill;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Recruiter recruiter;
+    private JobCategory category;
+
+    @BeforeEach
+    void createRecruiter() {
+        // Other test classes sharing this context may have committed the role already
+        Role role = entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", RoleName.RECRUITER)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role created = new Role();
+                    created.setName(RoleName.RECRUITER);
+                    entityManager.persist(created);
+                    return created;
+                });
+        Company company = Company.builder().name("Company search").address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        recruiter = Recruiter.builder()
+                .email("recruiter-search@example.com")
+                .password("x")
+                .fullName("Recruiter search")
+                .role(role)
+                .company(company)
+                .build();
+        entityManager.persist(recruiter);
+        category = JobCategory.builder().name("Engineering").description("Jobs").build();
+        entityManager.persist(category);
+    }
+
+    @Test
+    void radiusKeepsJobsWithinTheCircleNotJustTheBox() {
+        located("Hanoi office", 21.0285, 105.8542);
+        located("Hai Phong office", 20.8449, 106.6881);
+        // About 117 km north-east of Hanoi: inside the 100 km bounding box, outside the circle
+        located("Corner office", 21.7785, 106.6542);
+        located("Da Nang office", 16.0544, 108.2022);
+        located("Remote", null, null);
+
+        List<JobResponse> jobs = search(new GeoFilter("Hà Nội", null, null, 100.0, false));
+
+        assertThat(jobs).extracting(JobResponse::getTitle).containsExactlyInAnyOrder("Hanoi office", "Hai Phong office");
+        JobResponse haiPhong = jobs.stream().filter(job -> job.getTitle().equals("Hai Phong office")).findFirst().orElseThrow();
+        assertThat(haiPhong.getDistanceKm()).isCloseTo(90.0, within(10.0));
+    }
+
+    @Test
+    void sortByDistancePutsJobsWithoutCoordinatesLast() {
+        located("Remote", null, null);
+        located("Da Nang office", 16.0544, 108.2022);
+        located("Hanoi office", 21.0285, 105.8542);
+        located("Hai Phong office", 20.8449, 106.6881);
+
+        List<JobResponse> jobs = search(new GeoFilter(null, 21.03, 105.85, null, true));
+
+        assertThat(jobs).extracting(JobResponse::getTitle)
+                .containsExactly("Hanoi office", "Hai Phong office", "Da Nang office", "Remote");
+        assertThat(jobs.getLast().getDistanceKm()).isNull();
+    }
+
+    @Test
+    void radiusAndSortingNeedAKnownCentreAndABoundedRadius() {
+        assertThatThrownBy(() -> search(new GeoFilter(null, null, null, 10.0, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(new GeoFilter("Atlantis", null, null, null, true)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(new GeoFilter("Hanoi", null, null, 501.0, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(new GeoFilter("Hanoi", null, null, 0.0, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void salaryBoundsCompareAcrossCurrenciesAndPeriods() {
+        // 30k-50k, 28,080-37,440 and 44,928-67,392 USD a year
+        paid("USD yearly", "30000", "50000", CurrencyType.USD, PeriodType.ANNUAL);
+        paid("VND monthly", "60000000", "80000000", CurrencyType.VND, PeriodType.MONTHLY);
+        paid("EUR hourly", "20", "30", CurrencyType.EUR, PeriodType.HOURLY);
+        // Rows written before the normalized columns existed
+        salaryNormalizationBackfill.normalizeAll();
+        assertThat(jobRepository.normalizeSalaries(CurrencyType.VND, PeriodType.MONTHLY,
+                salaryNormalizer.annualUsdFactor(CurrencyType.VND, PeriodType.MONTHLY))).as("rows left to normalize").isZero();
+
+        assertThat(searchBySalary("30000", null, null, null)).containsExactlyInAnyOrder("USD yearly", "EUR hourly");
+        assertThat(searchBySalary(null, "40000", null, null)).containsExactly("VND monthly");
+        assertThat(searchBySalary("25000000", null, CurrencyType.VND, PeriodType.MONTHLY))
+                .containsExactlyInAnyOrder("USD yearly", "VND monthly", "EUR hourly");
+        assertThat(searchBySalary("21", null, CurrencyType.EUR, PeriodType.HOURLY)).isEmpty();
+    }
+
+    private void paid(String title, String minSalary, String maxSalary, CurrencyType currency, PeriodType period) {
+        Job job = job(title);
+        job.setMinSalary(new BigDecimal(minSalary));
+        job.setMaxSalary(new BigDecimal(maxSalary));
+        job.setCurrency(currency);
+        job.setSalaryPeriod(period);
+        entityManager.flush();
+    }
+
+    private List<String> searchBySalary(String minSalary, String maxSalary, CurrencyType currency, PeriodType period) {
+        return jobService.searchAndFilterJobs(null, null, null, null,
+                        minSalary != null ? new BigDecimal(minSalary) : null,
+                        maxSalary != null ? new BigDecimal(maxSalary) : null,
+                        currency, period, null, null, null, GeoFilter.NONE, PageRequest.of(0, 20))
+                .map(JobResponse::getTitle).getContent();
+    }
+
+    private void located(String title, Double latitude, Double longitude) {
+        Job job = job(title);
+        job.setLatitude(latitude);
+        job.setLongitude(longitude);
+        entityManager.flush();
+    }
+
+    private Job job(String title) {
+        Job job = Job.builder()
+                .title(title)
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(1)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(recruiter.getCompany())
+                .build();
+        entityManager.persist(job);
+        return job;
+    }
+
+    private List<JobResponse> search(GeoFilter geoFilter) {
+        return jobService.searchAndFilterJobs(null, null, null, null, null, null, null, null, null, null, null,
+                geoFilter, PageRequest.of(0, 20)).getContent();
+    }
+}
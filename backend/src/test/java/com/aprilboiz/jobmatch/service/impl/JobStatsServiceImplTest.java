@@ -0,0 +1,266 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.config.OutboxProperties;
+import com.aprilboiz.jobmatch.config.SqlInspectionProperties;
+import com.aprilboiz.jobmatch.config.SqlStatementInspector;
+import com.aprilboiz.jobmatch.dto.response.JobStatsResponse;
+import com.aprilboiz.jobmatch.enumerate.ApplicationStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.event.ApplicationChangedEvent;
+import com.aprilboiz.jobmatch.event.OutboxMessage;
+import com.aprilboiz.jobmatch.event.OutboxRelay;
+import com.aprilboiz.jobmatch.event.OutboxWriter;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.OutboxEvent;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives application changes through the outbox and the relay as the services do, then
+ * checks the recruiter's stats against what happened: counts per status, the average
+ * over scored applications that are not withdrawn, and one select for all jobs.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "outbox.redis-stream.enabled=false"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OutboxWriter.class, OutboxRelay.class, OutboxProperties.class, SimpleMeterRegistry.class,
+        JobStatsServiceImpl.class, SqlStatementInspector.class, SqlInspectionProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class JobStatsServiceImplTest {
+
+    @Autowired
+    private JobStatsServiceImpl jobStatsService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void statsFollowCreateStatusChangeAndWithdraw() {
+        Recruiter recruiter = transactionTemplate.execute(status -> recruiter("follow"));
+        Job job = transactionTemplate.execute(status -> job(recruiter, "Backend"));
+        Job untouched = transactionTemplate.execute(status -> job(recruiter, "Frontend"));
+        apply(job, 80.0);
+        Long promoted = apply(job, 60.0);
+        Long withdrawn = apply(job, 40.0);
+        apply(job, 50.0);
+
+        change(promoted, application -> setStatus(application, ApplicationStatus.IN_REVIEW));
+        change(promoted, application -> setStatus(application, ApplicationStatus.INTERVIEW));
+        change(withdrawn, application -> {
+            ApplicationStatus previous = application.getStatus();
+            application.setStatus(ApplicationStatus.WITHDRAWN);
+            return ApplicationChangedEvent.withdrawn(application, previous);
+        });
+        outboxRelay.relay();
+
+        long before = SqlStatementInspector.statementCount();
+        List<JobStatsResponse> stats = jobStatsService.getJobStatsByRecruiter(recruiter);
+        assertThat(SqlStatementInspector.statementCount() - before).as("statements").isEqualTo(1);
+
+        assertThat(stats).extracting(JobStatsResponse::getJobId).containsExactlyInAnyOrder(job.getId(), untouched.getId());
+        JobStatsResponse backend = stats.stream().filter(s -> s.getJobId().equals(job.getId())).findFirst().orElseThrow();
+        assertThat(backend.getTotalApplications()).isEqualTo(4);
+        assertThat(backend.getApplicationsByStatus())
+                .containsEntry(ApplicationStatus.APPLIED, 2L)
+                .containsEntry(ApplicationStatus.IN_REVIEW, 0L)
+                .containsEntry(ApplicationStatus.INTERVIEW, 1L)
+                .containsEntry(ApplicationStatus.WITHDRAWN, 1L);
+        assertThat(backend.getAverageScore()).isEqualTo((80.0 + 60.0 + 50.0) / 3);
+
+        JobStatsResponse frontend = stats.stream().filter(s -> s.getJobId().equals(untouched.getId())).findFirst().orElseThrow();
+        assertThat(frontend.getTotalApplications()).isZero();
+        assertThat(frontend.getApplicationsByStatus()).hasSize(ApplicationStatus.values().length).containsValue(0L);
+        assertThat(frontend.getAverageScore()).isNull();
+    }
+
+    @Test
+    void anEventAlreadyAppliedIsSkipped() {
+        Recruiter recruiter = transactionTemplate.execute(status -> recruiter("replay"));
+        Job job = transactionTemplate.execute(status -> job(recruiter, "Data"));
+        apply(job, 90.0);
+        outboxRelay.relay();
+
+        OutboxMessage created = applicationEvents.stream(OutboxMessage.class)
+                .filter(message -> message.payload().contains("\"jobId\":" + job.getId()))
+                .findFirst().orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(created));
+
+        JobStatsResponse stats = jobStatsService.getJobStatsByRecruiter(recruiter).getFirst();
+        assertThat(stats.getApplicationsByStatus()).containsEntry(ApplicationStatus.APPLIED, 1L);
+        assertThat(stats.getAverageScore()).isEqualTo(90.0);
+    }
+
+    @Test
+    void eventsOfDifferentApplicationsCountInAnyIdOrder() {
+        Recruiter recruiter = transactionTemplate.execute(status -> recruiter("interleaved"));
+        Job job = transactionTemplate.execute(status -> job(recruiter, "Platform"));
+        Long first = apply(job, 30.0);
+        Long second = apply(job, 60.0);
+        change(first, application -> setStatus(application, ApplicationStatus.REJECTED));
+
+        // The second application's event committed, and was relayed, ahead of lower ids of the first
+        List<OutboxMessage> pending = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getPublishedAt() == null)
+                .filter(event -> event.getPayload().contains("\"jobId\":" + job.getId() + ","))
+                .sorted(Comparator.comparing(OutboxEvent::getId).reversed())
+                .map(JobStatsServiceImplTest::message)
+                .toList();
+        assertThat(pending).extracting(OutboxMessage::aggregateId).containsExactly(first, second, first);
+        List<OutboxMessage> outOfOrder = List.of(pending.get(1), pending.get(2), pending.get(0));
+        outOfOrder.forEach(message ->
+                transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(message)));
+        // The relay then delivers all three again, in id order
+        outboxRelay.relay();
+
+        JobStatsResponse stats = jobStatsService.getJobStatsByRecruiter(recruiter).getFirst();
+        assertThat(stats.getTotalApplications()).isEqualTo(2);
+        assertThat(stats.getApplicationsByStatus())
+                .containsEntry(ApplicationStatus.APPLIED, 1L)
+                .containsEntry(ApplicationStatus.REJECTED, 1L);
+        assertThat(stats.getAverageScore()).isEqualTo((30.0 + 60.0) / 2);
+    }
+
+    private static OutboxMessage message(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getSequenceNumber(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+
+    private static ApplicationChangedEvent setStatus(Application application, ApplicationStatus status) {
+        ApplicationStatus previous = application.getStatus();
+        application.setStatus(status);
+        return ApplicationChangedEvent.statusChanged(application, previous);
+    }
+
+    /**
+     * Applies the change and publishes its event in one transaction, as ApplicationService does.
+     */
+    private void change(Long applicationId, Function<Application, ApplicationChangedEvent> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(change.apply(entityManager.find(Application.class, applicationId))));
+    }
+
+    private Long apply(Job job, double score) {
+        return transactionTemplate.execute(status -> {
+            Job managed = entityManager.find(Job.class, job.getId());
+            String name = managed.getTitle() + "-" + score;
+            Candidate candidate = Candidate.builder()
+                    .email("candidate-" + name + "@example.com")
+                    .password("x")
+                    .fullName("Candidate " + name)
+                    .role(role(RoleName.CANDIDATE))
+                    .build();
+            entityManager.persist(candidate);
+            CV cv = new CV();
+            cv.setFileName("cv-" + name + ".pdf");
+            cv.setCandidate(candidate);
+            entityManager.persist(cv);
+            Analysis analysis = Analysis.builder().score(score).matchSkills("Java").missingSkills("").build();
+            entityManager.persist(analysis);
+            Application application = Application.builder()
+                    .job(managed)
+                    .cv(cv)
+                    .candidate(candidate)
+                    .analysis(analysis)
+                    .build();
+            entityManager.persist(application);
+            eventPublisher.publishEvent(ApplicationChangedEvent.created(application));
+            return application.getId();
+        });
+    }
+
+    private Recruiter recruiter(String name) {
+        Company company = Company.builder().name("Company " + name).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email("recruiter-" + name + "@example.com")
+                .password("x")
+                .fullName("Recruiter " + name)
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .build();
+        entityManager.persist(recruiter);
+        return recruiter;
+    }
+
+    private Job job(Recruiter detached, String title) {
+        Recruiter recruiter = entityManager.merge(detached);
+        JobCategory category = JobCategory.builder().name("Category " + title).description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title(title)
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(5)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(recruiter.getCompany())
+                .skills(new LinkedHashSet<>(List.of("Java")))
+                .build();
+        entityManager.persist(job);
+        return job;
+    }
+
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                    return role;
+                });
+    }
+}
@@ -0,0 +1,150 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.config.NodeIdentity;
+import com.aprilboiz.jobmatch.dto.VersionedData;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.repository.JobCategoryRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the reference-data cache with job and company events and with pub/sub
+ * messages, counting the queries behind each read.
+ */
+class ReferenceDataServiceImplTest {
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    private final NodeIdentity nodeIdentity = new NodeIdentity();
+    private ReferenceDataServiceImpl referenceDataService;
+    private MessageListener remoteListener;
+
+    @BeforeEach
+    void createService() {
+        when(jobRepository.countJobsByLocation()).thenReturn(rows("Da Nang", 1L, "Hanoi", 2L));
+        when(jobRepository.countJobsByCompanyName()).thenReturn(rows("Acme", 3L));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of(
+                "redisTemplate", redisTemplate, "redisMessageListenerContainer", listenerContainer));
+        referenceDataService = new ReferenceDataServiceImpl(jobRepository, mock(JobCategoryRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                beans.getBeanProvider(RedisMessageListenerContainer.class),
+                beans.getBeanProvider(StringRedisTemplate.class), nodeIdentity);
+        referenceDataService.subscribe();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(),
+                eq(new ChannelTopic(ReferenceDataServiceImpl.CHANNEL)));
+        remoteListener = listener.getValue();
+    }
+
+    @Test
+    void jobWritesApplyAsDeltasWithoutQuerying() {
+        VersionedData<List<String>> initial = referenceDataService.getLocations();
+        assertThat(initial.data()).containsExactly("Da Nang", "Hanoi");
+
+        // The only Da Nang job moves to Hue
+        referenceDataService.onJobChanged(JobChangedEvent.updated(job("Da Nang"), job("Hue")));
+        VersionedData<List<String>> moved = referenceDataService.getLocations();
+
+        assertThat(moved.data()).containsExactly("Hanoi", "Hue");
+        assertThat(moved.version()).isNotEqualTo(initial.version());
+        // One of two Hanoi jobs deleted: the list and its version stay
+        referenceDataService.onJobChanged(JobChangedEvent.deleted(job("Hanoi")));
+        assertThat(referenceDataService.getLocations()).isEqualTo(moved);
+
+        verify(jobRepository, times(1)).countJobsByLocation();
+        verify(redisTemplate, times(2)).convertAndSend(ReferenceDataServiceImpl.CHANNEL,
+                nodeIdentity.getId() + "|LOCATIONS");
+    }
+
+    @Test
+    void companyRenameMovesItsJobs() {
+        referenceDataService.getCompanyNames();
+
+        referenceDataService.onCompanyChanged(new CompanyChangedEvent(1L, "Acme", "Acme Vietnam"));
+
+        assertThat(referenceDataService.getCompanyNames().data()).containsExactly("Acme Vietnam");
+        verify(jobRepository, times(1)).countJobsByCompanyName();
+    }
+
+    @Test
+    void messageFromAnotherNodeReloadsOnNextRead() {
+        referenceDataService.getLocations();
+        when(jobRepository.countJobsByLocation()).thenReturn(rows("Hanoi", 2L, "Hue", 1L));
+
+        remoteListener.onMessage(message("other-node|LOCATIONS"), null);
+
+        assertThat(referenceDataService.getLocations().data()).containsExactly("Hanoi", "Hue");
+        verify(jobRepository, times(2)).countJobsByLocation();
+    }
+
+    @Test
+    void ownAndMalformedMessagesAreIgnored() {
+        referenceDataService.getLocations();
+
+        remoteListener.onMessage(message(nodeIdentity.getId() + "|LOCATIONS"), null);
+        remoteListener.onMessage(message("other-node|NOT_A_SECTION"), null);
+        remoteListener.onMessage(message("garbage"), null);
+        referenceDataService.getLocations();
+
+        verify(jobRepository, times(1)).countJobsByLocation();
+    }
+
+    @Test
+    void reconcileReloadsEverySection() {
+        referenceDataService.getLocations();
+        referenceDataService.getCompanyNames();
+
+        referenceDataService.reconcile();
+        referenceDataService.getLocations();
+        referenceDataService.getCompanyNames();
+
+        verify(jobRepository, times(2)).countJobsByLocation();
+        verify(jobRepository, times(2)).countJobsByCompanyName();
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    private static JobSnapshot job(String location) {
+        return new JobSnapshot(1L, "Engineer", location, 1L, "Acme", JobType.FULL_TIME, 1, JobStatus.OPEN, List.of());
+    }
+
+    private static List<Object[]> rows(Object... keysAndCounts) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < keysAndCounts.length; i += 2) {
+            rows.add(new Object[]{keysAndCounts[i], keysAndCounts[i + 1]});
+        }
+        return rows;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(ReferenceDataServiceImpl.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,208 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.RoleName;
+import com.aprilboiz.jobmatch.model.Analysis;
+import com.aprilboiz.jobmatch.model.Application;
+import com.aprilboiz.jobmatch.model.CV;
+import com.aprilboiz.jobmatch.model.Candidate;
+import com.aprilboiz.jobmatch.model.Company;
+import com.aprilboiz.jobmatch.model.Job;
+import com.aprilboiz.jobmatch.model.JobCategory;
+import com.aprilboiz.jobmatch.model.Recruiter;
+import com.aprilboiz.jobmatch.model.Role;
+import com.aprilboiz.jobmatch.repository.ApplicationRepository;
+import com.aprilboiz.jobmatch.repository.CvRepository;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives long-deleted applications on a migrated Postgres and puts one back the way
+ * an operator would, by column order, to check the archive keeps everything the live
+ * row pointed at. Point TEST_POSTGRES_URL (plus TEST_POSTGRES_USER /
+ * TEST_POSTGRES_PASSWORD) at a scratch database.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class SoftDeleteArchiverTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+        registry.add("spring.datasource.username", () -> env("TEST_POSTGRES_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("TEST_POSTGRES_PASSWORD", "postgres"));
+    }
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CvRepository cvRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void archivedApplicationsTakeTheirAnalysisAndCanBePutBack() {
+        // The database outlives the test, so names carry something unique per run
+        String run = UUID.randomUUID().toString();
+        Job job = job(recruiter("archive-" + run), "Archived Engineer " + run);
+        Application old = apply(job, candidate("archive-old-" + run), 0.75);
+        Application older = apply(job, candidate("archive-older-" + run), 0.5);
+        Application recent = apply(job, candidate("archive-recent-" + run), 0.25);
+        entityManager.flush();
+        deleteAt(old, LocalDateTime.now().minusDays(100));
+        deleteAt(older, LocalDateTime.now().minusDays(200));
+        deleteAt(recent, LocalDateTime.now().minusDays(1));
+
+        // A batch of one, so the run takes several batches
+        new SoftDeleteArchiver(applicationRepository, cvRepository, jobRepository, transactionTemplate,
+                Duration.ofDays(90), 1).archive();
+
+        assertThat(count("application", old.getId())).isZero();
+        assertThat(count("application", older.getId())).isZero();
+        assertThat(count("analysis", old.getAnalysis().getId())).isZero();
+        assertThat(count("analysis", older.getAnalysis().getId())).isZero();
+        assertThat(count("application_archive", old.getId())).isOne();
+        assertThat(count("analysis_archive", old.getAnalysis().getId())).isOne();
+        assertThat(count("application", recent.getId())).isOne();
+        assertThat(count("analysis", recent.getAnalysis().getId())).isOne();
+
+        // Parent row first, for the foreign key
+        putBack("analysis", old.getAnalysis().getId());
+        putBack("application", old.getId());
+        entityManager.createNativeQuery("UPDATE application SET deleted_at = NULL WHERE id = :id")
+                .setParameter("id", old.getId()).executeUpdate();
+        entityManager.clear();
+
+        Application restored = entityManager.find(Application.class, old.getId());
+        assertThat(restored.getCandidate().getEmail()).isEqualTo("candidate-archive-old-" + run + "@example.com");
+        assertThat(restored.getAnalysis().getScore()).isEqualTo(0.75);
+        assertThat(count("application_archive", old.getId())).isZero();
+    }
+
+    private Recruiter recruiter(String name) {
+        Company company = Company.builder().name("Company " + name).address("Hanoi").industry("Software")
+                .companySize("50-200").build();
+        entityManager.persist(company);
+        Recruiter recruiter = Recruiter.builder()
+                .email("recruiter-" + name + "@example.com")
+                .password("x")
+                .fullName("Recruiter " + name)
+                .role(role(RoleName.RECRUITER))
+                .company(company)
+                .build();
+        entityManager.persist(recruiter);
+        return recruiter;
+    }
+
+    private Job job(Recruiter recruiter, String title) {
+        JobCategory category = JobCategory.builder().name("Category " + title).description("Jobs").build();
+        entityManager.persist(category);
+        Job job = Job.builder()
+                .title(title)
+                .jobType(JobType.FULL_TIME)
+                .jobCategory(category)
+                .numberOfOpenings(5)
+                .applicationDeadline(LocalDate.now().plusDays(30))
+                .recruiter(recruiter)
+                .company(recruiter.getCompany())
+                .skills(new LinkedHashSet<>(List.of("Java")))
+                .build();
+        entityManager.persist(job);
+        return job;
+    }
+
+    private Candidate candidate(String name) {
+        Candidate candidate = Candidate.builder()
+                .email("candidate-" + name + "@example.com")
+                .password("x")
+                .fullName("Candidate " + name)
+                .role(role(RoleName.CANDIDATE))
+                .build();
+        entityManager.persist(candidate);
+        return candidate;
+    }
+
+    private Application apply(Job job, Candidate candidate, double score) {
+        CV cv = new CV();
+        cv.setFileName("cv-" + candidate.getId() + ".pdf");
+        cv.setCandidate(candidate);
+        entityManager.persist(cv);
+        Analysis analysis = Analysis.builder().score(score).matchSkills("Java").missingSkills("").build();
+        entityManager.persist(analysis);
+        Application application = Application.builder()
+                .job(job).cv(cv).candidate(candidate).analysis(analysis).build();
+        entityManager.persist(application);
+        return application;
+    }
+
+    /**
+     * The migrated schema seeds the roles; looked up rather than created.
+     */
+    private Role role(RoleName name) {
+        return entityManager.createQuery("SELECT r FROM Role r WHERE r.name = :name", Role.class)
+                .setParameter("name", name)
+                .getSingleResult();
+    }
+
+    private void deleteAt(Application application, LocalDateTime deletedAt) {
+        entityManager.createNativeQuery("UPDATE application SET deleted_at = :deletedAt WHERE id = :id")
+                .setParameter("deletedAt", deletedAt)
+                .setParameter("id", application.getId())
+                .executeUpdate();
+    }
+
+    private long count(String table, Long id) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE id = :id")
+                .setParameter("id", id).getSingleResult()).longValue();
+    }
+
+    /**
+     * Moves a row back from {@code table}_archive: every live column, in order, then drops the archive row.
+     */
+    private void putBack(String table, Long id) {
+        String columns = (String) entityManager.createNativeQuery(
+                        "SELECT string_agg(column_name, ', ' ORDER BY ordinal_position) FROM information_schema.columns " +
+                        "WHERE table_schema = current_schema() AND table_name = :table")
+                .setParameter("table", table).getSingleResult();
+        entityManager.createNativeQuery("INSERT INTO " + table + " (" + columns + ") " +
+                        "SELECT " + columns + " FROM " + table + "_archive WHERE id = :id")
+                .setParameter("id", id).executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM " + table + "_archive WHERE id = :id")
+                .setParameter("id", id).executeUpdate();
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -0,0 +1,105 @@
+package com.aprilboiz.jobmatch.service.impl;
+
+import com.aprilboiz.jobmatch.dto.response.SuggestionResponse;
+import com.aprilboiz.jobmatch.enumerate.JobStatus;
+import com.aprilboiz.jobmatch.enumerate.JobType;
+import com.aprilboiz.jobmatch.enumerate.SuggestionType;
+import com.aprilboiz.jobmatch.event.CompanyChangedEvent;
+import com.aprilboiz.jobmatch.event.JobChangeBroadcaster;
+import com.aprilboiz.jobmatch.event.JobChangedEvent;
+import com.aprilboiz.jobmatch.event.JobSnapshot;
+import com.aprilboiz.jobmatch.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Looks up prefixes against a few open jobs and checks weights, word and accent
+ * matching, and that job changes and company renames are patched in without
+ * going back to the database.
+ */
+class SuggestionServiceImplTest {
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private SuggestionServiceImpl suggestionService;
+
+    @BeforeEach
+    void createService() {
+        when(jobRepository.findOpenJobSuggestionRows()).thenReturn(rows(
+                new Object[]{1L, "Java Developer", "Hà Nội", "Acme"},
+                new Object[]{2L, "Java Developer", "Hà Nội", "Globex"},
+                new Object[]{3L, "Senior Java Developer", "Đà Nẵng", "Acme"}));
+        when(jobRepository.findOpenJobSkillRows()).thenReturn(rows(
+                new Object[]{1L, "Java"},
+                new Object[]{3L, "Java"},
+                new Object[]{3L, "JavaScript"}));
+        suggestionService = new SuggestionServiceImpl(jobRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(JobChangeBroadcaster.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void prefixesRankByOpenJobCount() {
+        assertThat(suggestionService.suggest("jav", SuggestionType.SKILL, 10))
+                .extracting(SuggestionResponse::getText, SuggestionResponse::getJobCount)
+                .containsExactly(tuple("Java", 2L), tuple("JavaScript", 1L));
+        // A later word of the title matches too
+        assertThat(suggestionService.suggest("dev", SuggestionType.TITLE, 10))
+                .extracting(SuggestionResponse::getText, SuggestionResponse::getJobCount)
+                .containsExactly(tuple("Java Developer", 2L), tuple("Senior Java Developer", 1L));
+        // Without accents, as typed on a keyboard without a Vietnamese layout
+        assertThat(suggestionService.suggest("ha n", SuggestionType.LOCATION, 10))
+                .extracting(SuggestionResponse::getText).containsExactly("Hà Nội");
+        assertThat(suggestionService.suggest("  ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void jobChangesArePatchedIn() {
+        suggestionService.rebuild();
+
+        suggestionService.onJobChanged(JobChangedEvent.created(
+                new JobSnapshot(4L, "Kotlin Developer", "Huế", 1L, "Acme", JobType.FULL_TIME, 1, JobStatus.OPEN,
+                        List.of("Kotlin"))));
+        suggestionService.onJobChanged(JobChangedEvent.deleted(
+                new JobSnapshot(3L, "Senior Java Developer", "Đà Nẵng", 1L, "Acme", JobType.FULL_TIME, 1,
+                        JobStatus.OPEN, List.of("Java", "JavaScript"))));
+
+        assertThat(suggestionService.suggest("k", SuggestionType.SKILL, 10))
+                .extracting(SuggestionResponse::getText).containsExactly("Kotlin");
+        assertThat(suggestionService.suggest("jav", SuggestionType.SKILL, 10))
+                .extracting(SuggestionResponse::getText, SuggestionResponse::getJobCount)
+                .containsExactly(tuple("Java", 1L));
+    }
+
+    @Test
+    void companyRenameMovesOnlyThatCompanysJobs() {
+        suggestionService.rebuild();
+
+        suggestionService.onCompanyChanged(new CompanyChangedEvent(1L, "Acme", "Acme Vietnam"));
+
+        assertThat(suggestionService.suggest("ac", SuggestionType.COMPANY, 10))
+                .extracting(SuggestionResponse::getText, SuggestionResponse::getJobCount)
+                .containsExactly(tuple("Acme Vietnam", 2L));
+        assertThat(suggestionService.suggest("gl", SuggestionType.COMPANY, 10))
+                .extracting(SuggestionResponse::getText, SuggestionResponse::getJobCount)
+                .containsExactly(tuple("Globex", 1L));
+        // The rest of those jobs' terms are untouched
+        assertThat(suggestionService.suggest("jav", SuggestionType.SKILL, 10)).hasSize(2);
+        verify(jobRepository, times(1)).findOpenJobSuggestionRows();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,171 @@
+package com.aprilboiz.jobmatch.storage.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import com.aprilboiz.jobmatch.exception.StorageException;
+import com.aprilboiz.jobmatch.service.MessageService;
+import com.aprilboiz.jobmatch.storage.ImageProcessingProperties;
+import com.aprilboiz.jobmatch.storage.ImageVariant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs real JPEGs through the processor: spooling, EXIF rotation, downscaling,
+ * metadata stripping, variant rendering, the size limits and the decode budget.
+ */
+class ImageIoImageProcessorTest {
+    private static final int EXIF_ROTATE_90_CW = 6;
+
+    @TempDir
+    Path tempLocation;
+
+    private final ImageProcessingProperties properties = new ImageProcessingProperties();
+    private ImageIoImageProcessor processor;
+
+    @BeforeEach
+    void createProcessor() {
+        properties.setTempLocation(tempLocation.toString());
+        processor = new ImageIoImageProcessor(properties, mock(MessageService.class));
+    }
+
+    @Test
+    void spoolCopiesUploadIntoTempLocation() throws IOException {
+        byte[] content = jpeg(40, 20, EXIF_ROTATE_90_CW);
+
+        Path spooled = processor.spool(new MockMultipartFile("image", "photo.jpg", "image/jpeg", content));
+
+        assertThat(spooled.getParent()).isEqualTo(tempLocation);
+        assertThat(Files.readAllBytes(spooled)).isEqualTo(content);
+        processor.discard(spooled);
+        assertThat(spooled).doesNotExist();
+    }
+
+    @Test
+    void prepareForUploadRotatesScalesAndStripsExif() throws IOException {
+        Path source = Files.write(tempLocation.resolve("source.jpg"), jpeg(2000, 1000, EXIF_ROTATE_90_CW));
+
+        Path prepared = processor.prepareForUpload(source, 1024);
+
+        BufferedImage image = ImageIO.read(prepared.toFile());
+        // Rotated to portrait, then the long side scaled down to 1024
+        assertThat(image.getWidth()).isEqualTo(512);
+        assertThat(image.getHeight()).isEqualTo(1024);
+        // The red left half ends up on top once turned clockwise
+        assertThat(new Color(image.getRGB(256, 100)).getRed()).isGreaterThan(200);
+        assertThat(new Color(image.getRGB(256, 924)).getBlue()).isGreaterThan(200);
+        assertThat(orientationOf(prepared)).isEqualTo(1);
+    }
+
+    @Test
+    void renderVariantsWritesEverySizeFromOneDecode() throws IOException {
+        Path source = Files.write(tempLocation.resolve("source.jpg"), jpeg(1600, 800, 1));
+
+        Map<ImageVariant, Path> variants = processor.renderVariants(source);
+
+        assertThat(variants).containsOnlyKeys(ImageVariant.values());
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage image = ImageIO.read(variants.get(variant).toFile());
+            assertThat(Math.max(image.getWidth(), image.getHeight())).as(variant.key())
+                    .isEqualTo(variant.getMaxDimension());
+        }
+    }
+
+    @Test
+    void refusesImagesOverThePixelLimitFromTheHeader() throws IOException {
+        properties.setMaxPixels(1_000_000);
+        processor = new ImageIoImageProcessor(properties, mock(MessageService.class));
+        Path source = Files.write(tempLocation.resolve("source.jpg"), jpeg(2000, 1000, 1));
+
+        assertThatThrownBy(() -> processor.prepareForUpload(source, 1024)).isInstanceOf(StorageException.class);
+        assertThat(tempLocation).isDirectoryNotContaining("glob:**/processed-*");
+    }
+
+    @Test
+    void theDecodeBudgetCoversTheRotatedAndScaledCopies() throws IOException {
+        // The decoded bitmap alone is about 4MB, with its rotated and scaled copies about 12MB
+        properties.setDecodeMemoryBudget(DataSize.ofMegabytes(8));
+        processor = new ImageIoImageProcessor(properties, mock(MessageService.class));
+        Path upright = Files.write(tempLocation.resolve("upright.jpg"), jpeg(1000, 1000, 1));
+        Path rotated = Files.write(tempLocation.resolve("rotated.jpg"), jpeg(1000, 1000, EXIF_ROTATE_90_CW));
+
+        assertThat(processor.prepareForUpload(upright, 1024)).exists();
+        assertThatThrownBy(() -> processor.prepareForUpload(rotated, 1024)).isInstanceOf(StorageException.class);
+        assertThat(ImageIoImageProcessor.peakBytes(1000, 1000, true, 1024, 1)).isEqualTo(12_000_000);
+        assertThat(ImageIoImageProcessor.peakBytes(1000, 1000, false, 500, 2)).isEqualTo(6_000_000);
+    }
+
+    @Test
+    void refusesContentThatIsNotAnImage() throws IOException {
+        Path source = Files.writeString(tempLocation.resolve("source.jpg"), "not an image");
+
+        assertThatThrownBy(() -> processor.prepareForUpload(source, 1024)).isInstanceOf(StorageException.class);
+    }
+
+    /**
+     * Left half red, right half blue, with an EXIF APP1 segment carrying {@code orientation}
+     * placed after the JFIF header.
+     */
+    private static byte[] jpeg(int width, int height, int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", encoded);
+        byte[] jpeg = encoded.toByteArray();
+
+        // Exif header, big-endian TIFF header, one IFD with a single SHORT orientation entry
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        exif.put("Exif\0\0".getBytes()).put("MM".getBytes()).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1).putShort((short) 0x0112).putShort((short) 3).putInt(1)
+                .putShort((short) orientation).putShort((short) 0).putInt(0);
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(jpeg, 0, app0End);
+        result.write(0xFF);
+        result.write(0xE1);
+        int length = exif.capacity() + 2;
+        result.write(length >> 8);
+        result.write(length & 0xFF);
+        result.write(exif.array());
+        result.write(jpeg, app0End, jpeg.length - app0End);
+        return result.toByteArray();
+    }
+
+    private static int orientationOf(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return ExifOrientation.read(reader.getImageMetadata(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
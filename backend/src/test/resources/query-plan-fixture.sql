@@ -0,0 +1,58 @@
+-- Synthetic volume for RepositoryQueryPlanTest. Loaded and analyzed inside a
+-- transaction that is rolled back, so the planner sees production-like statistics
+-- instead of the handful of seed rows. Ids start at 1000000 to stay clear of the seed.
+
+INSERT INTO company (id, name, address, company_size, industry, latitude, longitude, created_at, deleted_at)
+SELECT 1000000 + g, 'Company ' || g, g || ' Main Street', 'MEDIUM', 'Technology',
+       10 + (g % 500) * 0.01, 106 + (g % 700) * 0.01, now(),
+       CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 2000) g;
+
+INSERT INTO users (id, user_type, email, password, full_name, is_active, role_id, created_at, deleted_at)
+SELECT 1000000 + g, CASE WHEN g <= 15000 THEN 'CANDIDATE' ELSE 'RECRUITER' END,
+       'user' || g || '@example.com', 'x', 'User ' || g, TRUE,
+       CASE WHEN g <= 15000 THEN 2 ELSE 3 END, now(),
+       CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 20000) g;
+
+INSERT INTO candidate (id)
+SELECT 1000000 + g FROM generate_series(1, 15000) g;
+
+INSERT INTO recruiter (id, company_id)
+SELECT 1000000 + g, 1000000 + (g % 2000) + 1 FROM generate_series(15001, 20000) g;
+
+INSERT INTO jobs (id, title, job_type, job_category_id, salary_type, min_salary, max_salary, currency, salary_period,
+                  annual_salary_min_usd, annual_salary_max_usd, number_of_openings, application_deadline, status,
+                  description, location, latitude, longitude, company_id, recruiter_id, created_at, deleted_at)
+SELECT 1000000 + g,
+       (ARRAY['Backend Engineer', 'Data Analyst', 'Product Designer', 'Sales Manager', 'Nurse'])[g % 5 + 1] || ' ' || g,
+       (ARRAY['FULL_TIME', 'PART_TIME', 'INTERNSHIP', 'CONTRACT', 'REMOTE'])[g % 5 + 1],
+       g % 12 + 1, 'RANGE', 1000 + g % 5000, 2000 + g % 5000,
+       (ARRAY['USD', 'VND', 'EUR', 'GBP', 'JPY', 'AUD', 'CAD'])[g % 7 + 1],
+       (ARRAY['ANNUAL', 'MONTHLY', 'WEEKLY', 'HOURLY'])[g % 4 + 1],
+       12000 + g % 60000, 24000 + g % 60000, 1, current_date + g % 90,
+       (ARRAY['OPEN', 'CLOSED', 'EXPIRED'])[g % 3 + 1],
+       'Description ' || g, 'City ' || g % 300,
+       CASE WHEN g % 10 <> 0 THEN 10 + (g % 500) * 0.01 END,
+       CASE WHEN g % 10 <> 0 THEN 106 + (g % 700) * 0.01 END,
+       1000000 + (g % 2000) + 1, 1000000 + 15000 + (g % 5000) + 1,
+       now() - (g % 365) * interval '1 day',
+       CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 20000) g;
+
+INSERT INTO job_skills (job_id, skill)
+SELECT 1000000 + g, 'Skill ' || (g + s * 137) % 400
+FROM generate_series(1, 20000) g, generate_series(1, 3) s;
+
+INSERT INTO cv (id, candidate_id, file_name, file_path, file_size, file_type, created_at, deleted_at)
+SELECT 1000000 + g, 1000000 + (g % 15000) + 1, 'cv-' || g || '.pdf', 'cv-' || g || '.pdf', '1024',
+       'application/pdf', now(), CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 20000) g;
+
+INSERT INTO application (id, job_id, cv_id, candidate_id, status, created_at, deleted_at)
+SELECT 1000000 + g, 1000000 + (g * 7) % 20000 + 1, 1000000 + (g % 20000) + 1, 1000000 + (g % 15000) + 1,
+       (ARRAY['APPLIED', 'IN_REVIEW', 'INTERVIEW', 'OFFERED', 'REJECTED', 'WITHDRAWN'])[g % 6 + 1],
+       now(), CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 50000) g;
+
+ANALYZE;